@@ -0,0 +1,162 @@
+package com.research.journal.benchmark;
+
+import com.research.journal.dto.PaperDTO;
+import com.research.journal.dto.ReviewDTO;
+import com.research.journal.dto.UserDTO;
+import com.research.journal.entity.Paper;
+import com.research.journal.entity.PaperStatus;
+import com.research.journal.entity.ReviewStatus;
+import com.research.journal.entity.User;
+import com.research.journal.entity.UserRole;
+import com.research.journal.service.PaperService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic test data shared by the benchmarks, so results stay comparable across commits.
+ */
+public final class Fixtures {
+
+    private static final String[] WORDS = {
+            "the", "model", "results", "we", "propose", "analysis", "significant", "data", "method",
+            "performance", "observed", "experiment", "approach", "baseline", "evaluation", "of", "and",
+            "distribution", "sample", "error", "variance", "hypothesis", "network", "is", "in"
+    };
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 3, 14, 9, 26, 53);
+
+    private Fixtures() {
+    }
+
+    // convertToDTO reads nothing but the entity, so the mapping benchmarks need no collaborators
+    public static PaperService paperService() {
+        return new PaperService(null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    public static String manuscript(int chars) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(chars + 16);
+        int wordsInSentence = 0;
+        while (text.length() < chars) {
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+            if (++wordsInSentence == 18) {
+                text.append(".\n");
+                wordsInSentence = 0;
+            } else {
+                text.append(' ');
+            }
+        }
+        text.setLength(chars);
+        return text.toString();
+    }
+
+    public static User author() {
+        User author = User.builder()
+                .id(7L)
+                .username("aturing")
+                .email("a.turing@example.org")
+                .firstName("Alan")
+                .lastName("Turing")
+                .affiliation("University of Manchester")
+                .role(UserRole.AUTHOR)
+                .isActive(true)
+                .build();
+        author.setCreatedAt(BASE_TIME);
+        author.setUpdatedAt(BASE_TIME);
+        return author;
+    }
+
+    public static Paper paper(int contentChars) {
+        return Paper.builder()
+                .id(1024L)
+                .title("On Computable Numbers, with an Application to the Entscheidungsproblem")
+                .abstractText(manuscript(1500))
+                .content(manuscript(contentChars))
+                .author(author())
+                .status(PaperStatus.UNDER_REVIEW)
+                .plagiarismScore(3.5)
+                .plagiarismChecked(true)
+                .submittedAt(BASE_TIME)
+                .acceptedAt(BASE_TIME.plusDays(30))
+                .createdAt(BASE_TIME)
+                .updatedAt(BASE_TIME.plusDays(31))
+                .build();
+    }
+
+    // A listing page of distinct papers: ids, statuses and timestamps vary, as they would in the table
+    public static List<Paper> papers(int count, int contentChars) {
+        User author = author();
+        String content = manuscript(contentChars);
+        String abstractText = manuscript(1500);
+        PaperStatus[] statuses = PaperStatus.values();
+        List<Paper> papers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime submittedAt = BASE_TIME.plusMinutes(i * 37L).plusNanos(i * 1_000_000L);
+            papers.add(Paper.builder()
+                    .id((long) i + 1)
+                    .title("Paper " + i)
+                    .abstractText(abstractText)
+                    .content(content)
+                    .author(author)
+                    .status(statuses[i % statuses.length])
+                    .plagiarismScore(i % 3 == 0 ? null : (i % 100) / 10.0)
+                    .plagiarismChecked(i % 3 != 0)
+                    .submittedAt(submittedAt)
+                    .acceptedAt(i % 4 == 0 ? submittedAt.plusDays(30) : null)
+                    .createdAt(submittedAt)
+                    .updatedAt(submittedAt.plusHours(i % 48))
+                    .build());
+        }
+        return papers;
+    }
+
+    public static PaperDTO paperDTO(int contentChars) {
+        return PaperDTO.builder()
+                .id(1024L)
+                .title("On Computable Numbers, with an Application to the Entscheidungsproblem")
+                .abstractText(manuscript(1500))
+                .content(manuscript(contentChars))
+                .status(PaperStatus.UNDER_REVIEW)
+                .plagiarismScore(3.5)
+                .plagiarismChecked(true)
+                .submittedAt(BASE_TIME)
+                .acceptedAt(BASE_TIME.plusDays(30))
+                .createdAt(BASE_TIME)
+                .updatedAt(BASE_TIME.plusDays(31))
+                .build();
+    }
+
+    public static List<ReviewDTO> reviewDTOs(int count) {
+        List<ReviewDTO> reviews = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            reviews.add(ReviewDTO.builder()
+                    .id((long) i + 1)
+                    .paperId(1024L)
+                    .reviewer(UserDTO.builder()
+                            .id((long) i + 100)
+                            .email("reviewer" + i + "@example.org")
+                            .firstName("Reviewer")
+                            .lastName(String.valueOf(i))
+                            .role(UserRole.REVIEWER)
+                            .affiliation("Example Institute")
+                            .isActive(true)
+                            .createdAt(BASE_TIME)
+                            .updatedAt(BASE_TIME)
+                            .build())
+                    .status(ReviewStatus.SUBMITTED)
+                    .comments(manuscript(4000))
+                    .overallRating(7)
+                    .technicalQualityRating(8)
+                    .clarityRating(6)
+                    .originalityRating(9)
+                    .significanceRating(7)
+                    .submittedAt(BASE_TIME.plusDays(i))
+                    .createdAt(BASE_TIME)
+                    .updatedAt(BASE_TIME.plusDays(i))
+                    .build());
+        }
+        return reviews;
+    }
+}
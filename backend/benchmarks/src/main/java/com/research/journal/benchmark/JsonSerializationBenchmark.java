@@ -0,0 +1,52 @@
+package com.research.journal.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.research.journal.dto.PaperDTO;
+import com.research.journal.dto.ReviewDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20000", "200000"})
+    private int contentChars;
+
+    @Param({"3", "50"})
+    private int reviewCount;
+
+    private ObjectWriter paperWriter;
+    private ObjectWriter reviewListWriter;
+    private PaperDTO paper;
+    private List<ReviewDTO> reviews;
+
+    @Setup
+    public void setUp() {
+        // Same module discovery and date handling as the ObjectMapper Spring Boot configures
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        paperWriter = objectMapper.writerFor(PaperDTO.class);
+        reviewListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ReviewDTO.class));
+        paper = Fixtures.paperDTO(contentChars);
+        reviews = Fixtures.reviewDTOs(reviewCount);
+    }
+
+    @Benchmark
+    public byte[] serializePaper() throws JsonProcessingException {
+        return paperWriter.writeValueAsBytes(paper);
+    }
+
+    @Benchmark
+    public byte[] serializeReviewList() throws JsonProcessingException {
+        return reviewListWriter.writeValueAsBytes(reviews);
+    }
+}
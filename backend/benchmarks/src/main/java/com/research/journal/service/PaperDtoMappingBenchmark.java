@@ -0,0 +1,34 @@
+package com.research.journal.service;
+
+import com.research.journal.benchmark.Fixtures;
+import com.research.journal.dto.PaperDTO;
+import com.research.journal.entity.Paper;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaperDtoMappingBenchmark {
+
+    // Short communication, typical article, long monograph-style submission
+    @Param({"20000", "200000", "2000000"})
+    private int contentChars;
+
+    private PaperService paperService;
+    private Paper paper;
+
+    @Setup
+    public void setUp() {
+        paperService = Fixtures.paperService();
+        paper = Fixtures.paper(contentChars);
+    }
+
+    @Benchmark
+    public PaperDTO convertToDTO() {
+        return paperService.convertToDTO(paper);
+    }
+}
@@ -0,0 +1,81 @@
+package com.research.journal.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.research.journal.benchmark.Fixtures;
+import com.research.journal.config.FastLocalDateTimeSerializer;
+import com.research.journal.dto.PaperDTO;
+import com.research.journal.entity.Paper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/papers over 10k rows: the old path (map every entity into a List of DTOs, then
+ * serialize it with Boot's default ObjectMapper) against the tuned ObjectMapper, with and
+ * without streaming each row straight to the generator. Run with {@code -prof gc} to see
+ * the allocation difference as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaperListingSerializationBenchmark {
+
+    @Param({"10000"})
+    private int papers;
+
+    // Listings carry the full manuscript today; 0 shows the per-field overhead on its own
+    @Param({"0", "2000"})
+    private int contentChars;
+
+    private PaperService paperService;
+    private ObjectMapper defaultMapper;
+    private ObjectMapper tunedMapper;
+    private List<Paper> rows;
+
+    @Setup
+    public void setUp() {
+        paperService = Fixtures.paperService();
+        defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+        // Same configuration JacksonConfig and spring.jackson.default-property-inclusion produce
+        tunedMapper = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_EMPTY)
+                .modulesToInstall(new BlackbirdModule())
+                .serializerByType(LocalDateTime.class, new FastLocalDateTimeSerializer())
+                .build();
+        rows = Fixtures.papers(papers, contentChars);
+    }
+
+    @Benchmark
+    public void listDefaultMapper() throws IOException {
+        List<PaperDTO> dtos = rows.stream().map(paperService::convertToDTO).toList();
+        defaultMapper.writeValue(OutputStream.nullOutputStream(), dtos);
+    }
+
+    @Benchmark
+    public void listTunedMapper() throws IOException {
+        List<PaperDTO> dtos = rows.stream().map(paperService::convertToDTO).toList();
+        tunedMapper.writeValue(OutputStream.nullOutputStream(), dtos);
+    }
+
+    @Benchmark
+    public void streamTunedMapper() throws IOException {
+        try (JsonGenerator generator = tunedMapper.createGenerator(OutputStream.nullOutputStream(), JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            for (Paper row : rows) {
+                generator.writeObject(paperService.convertToDTO(row));
+            }
+            generator.writeEndArray();
+        }
+    }
+}
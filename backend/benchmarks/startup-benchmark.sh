@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+# Startup benchmark: time from JVM launch to the first successful GET /api/papers, and RSS
+# once the process has been idle for a few seconds. Compares the plain jar with the
+# fast-startup build (AOT + CDS + prod profile). Run from backend/ after:
+#   mvn -P fast-startup -DskipTests package
+#
+# Uses in-memory H2 unless SPRING_DATASOURCE_URL is set. Usage:
+#   benchmarks/startup-benchmark.sh [runs] [idle-seconds]
+set -euo pipefail
+
+RUNS=${1:-5}
+IDLE_SECONDS=${2:-10}
+PORT=${PORT:-18081}
+JAR=$(ls target/research-journal-management-*.jar | grep -v original | head -n 1)
+FAST_DIR=target/fast-startup
+FAST_JAR=$FAST_DIR/$(basename "$JAR")
+
+DB_ARGS=()
+if [[ -z "${SPRING_DATASOURCE_URL:-}" ]]; then
+  DB_ARGS=(-Dspring.datasource.url="jdbc:h2:mem:startup;MODE=MySQL;DATABASE_TO_LOWER=TRUE"
+           -Dspring.datasource.driverClassName=org.h2.Driver
+           -Dspring.datasource.username=sa -Dspring.datasource.password=
+           -Dspring.jpa.database-platform=org.hibernate.dialect.H2Dialect)
+fi
+
+now_ms() { date +%s%3N; }
+
+measure() {
+  local label=$1; shift
+  local total_ms=0 total_rss=0
+  for ((i = 1; i <= RUNS; i++)); do
+    local start pid ready_ms rss_kb
+    start=$(now_ms)
+    java ${DB_ARGS[@]+"${DB_ARGS[@]}"} -Dserver.port="$PORT" "$@" > "target/startup-$label.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT/api/papers"; do
+      if ! kill -0 "$pid" 2>/dev/null; then
+        echo "$label: process exited, see target/startup-$label.log" >&2
+        exit 1
+      fi
+      sleep 0.05
+    done
+    ready_ms=$(( $(now_ms) - start ))
+    sleep "$IDLE_SECONDS"
+    rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    printf '%-14s run %d: first GET /api/papers after %6d ms, idle RSS %6d MB\n' "$label" "$i" "$ready_ms" $(( rss_kb / 1024 ))
+    total_ms=$(( total_ms + ready_ms ))
+    total_rss=$(( total_rss + rss_kb ))
+  done
+  printf '%-14s mean:  first GET /api/papers after %6d ms, idle RSS %6d MB\n\n' "$label" $(( total_ms / RUNS )) $(( total_rss / RUNS / 1024 ))
+}
+
+measure plain -jar "$JAR"
+
+if [[ -f "$FAST_DIR/application.jsa" ]]; then
+  measure fast-startup -XX:SharedArchiveFile="$FAST_DIR/application.jsa" \
+    -Dspring.aot.enabled=true -Dspring.profiles.active=prod -jar "$FAST_JAR"
+else
+  echo "No $FAST_DIR/application.jsa; build with: mvn -P fast-startup -DskipTests package" >&2
+fi
@@ -0,0 +1,142 @@
+package com.research.journal.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scripted editorial workload: a seeded population of users and papers, then single requests
+ * that register, log in, submit, revise, review, change status and list.
+ */
+final class EditorialWorkload {
+
+    private static final String PASSWORD = "LoadTest#2024";
+    private static final List<String> PAPER_STATUSES = List.of("UNDER_REVIEW", "REVISION_REQUESTED", "ACCEPTED", "REJECTED");
+    private static final List<String> REVIEW_STATUSES = List.of("ACCEPTED", "DECLINED", "SUBMITTED");
+
+    private final JournalApiClient client;
+    private final LoadTestConfig config;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong userSequence = new AtomicLong();
+    private final IdPool userIds = new IdPool();
+    private final IdPool paperIds = new IdPool();
+    private final IdPool reviewIds = new IdPool();
+    private final String manuscript;
+    private volatile String[] emails = new String[0];
+
+    EditorialWorkload(JournalApiClient client, LoadTestConfig config) {
+        this.client = client;
+        this.config = config;
+        this.manuscript = manuscript(config.manuscriptChars());
+    }
+
+    void seed() throws IOException, InterruptedException {
+        String[] seededEmails = new String[config.users()];
+        for (int i = 0; i < seededEmails.length; i++) {
+            seededEmails[i] = register();
+            if (seededEmails[i] == null) {
+                throw new IllegalStateException("Seeding failed: could not register load-test users");
+            }
+        }
+        emails = seededEmails;
+        for (int i = 0; i < config.seedPapers(); i++) {
+            submitPaper();
+        }
+        for (int i = 0; i < config.seedPapers() / 2; i++) {
+            submitReview();
+        }
+    }
+
+    boolean execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case REGISTER -> register() != null;
+            case LOGIN -> login(emails[ThreadLocalRandom.current().nextInt(emails.length)]) != null;
+            case SUBMIT_PAPER -> submitPaper();
+            case SUBMIT_REVISION -> client.post("/api/revisions", Map.of(
+                    "paperId", paperIds.random(),
+                    "content", manuscript,
+                    "changesSummary", "Addressed reviewer comments"), null).isSuccess();
+            case SUBMIT_REVIEW -> submitReview();
+            case UPDATE_PAPER_STATUS -> client.put("/api/papers/" + paperIds.random() + "/status?status="
+                    + pick(PAPER_STATUSES), null).isSuccess();
+            case UPDATE_REVIEW_STATUS -> !reviewIds.isEmpty() && client.put("/api/reviews/" + reviewIds.random()
+                    + "/status?status=" + pick(REVIEW_STATUSES), null).isSuccess();
+            case LIST_PAPERS -> client.get("/api/papers", null).isSuccess();
+            case GET_PAPER -> client.get("/api/papers/" + paperIds.random(), null).isSuccess();
+            case REVIEWS_BY_PAPER -> client.get("/api/reviews/paper/" + paperIds.random(), null).isSuccess();
+            case PENDING_REVIEWS -> client.get("/api/reviews/reviewer/" + userIds.random() + "/pending", null).isSuccess();
+        };
+    }
+
+    private String register() throws IOException, InterruptedException {
+        long n = userSequence.incrementAndGet();
+        String email = "lt-" + runId + "-" + n + "@example.org";
+        JournalApiClient.Response response = client.post("/api/auth/register", Map.of(
+                "email", email,
+                "password", PASSWORD,
+                "firstName", "Load",
+                "lastName", "Tester" + n,
+                "affiliation", "Load Test Institute",
+                "role", n % 3 == 0 ? "REVIEWER" : "AUTHOR",
+                "username", "lt" + runId + n), null);
+        if (!response.isSuccess()) {
+            return null;
+        }
+        userIds.add(response.body().path("user").path("id").asLong());
+        return email;
+    }
+
+    private String login(String email) throws IOException, InterruptedException {
+        JournalApiClient.Response response = client.post("/api/auth/login",
+                Map.of("email", email, "password", PASSWORD), null);
+        return response.isSuccess() ? response.body().path("token").asText() : null;
+    }
+
+    private boolean submitPaper() throws IOException, InterruptedException {
+        JournalApiClient.Response response = client.post("/api/papers", Map.of(
+                "title", "Load test submission " + ThreadLocalRandom.current().nextInt(1_000_000),
+                "abstractText", manuscript.substring(0, Math.min(1500, manuscript.length())),
+                "content", manuscript), null);
+        return recordId(response, paperIds);
+    }
+
+    private boolean submitReview() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        JournalApiClient.Response response = client.post("/api/reviews", Map.of(
+                "paperId", paperIds.random(),
+                "comments", "The methodology is sound but the evaluation needs a stronger baseline.",
+                "overallRating", random.nextInt(1, 11),
+                "technicalQualityRating", random.nextInt(1, 11),
+                "clarityRating", random.nextInt(1, 11),
+                "originalityRating", random.nextInt(1, 11),
+                "significanceRating", random.nextInt(1, 11)), null);
+        return recordId(response, reviewIds);
+    }
+
+    private static boolean recordId(JournalApiClient.Response response, IdPool pool) {
+        if (!response.isSuccess()) {
+            return false;
+        }
+        JsonNode id = response.body() == null ? null : response.body().get("id");
+        if (id != null) {
+            pool.add(id.asLong());
+        }
+        return true;
+    }
+
+    private static String pick(List<String> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private static String manuscript(int chars) {
+        StringBuilder text = new StringBuilder(chars + 64);
+        while (text.length() < chars) {
+            text.append("We evaluate the proposed method against established baselines and report the results.\n");
+        }
+        text.setLength(chars);
+        return text.toString();
+    }
+}
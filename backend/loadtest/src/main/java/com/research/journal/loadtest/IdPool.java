@@ -0,0 +1,31 @@
+package com.research.journal.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ids created during the run, sampled uniformly by later operations.
+ */
+final class IdPool {
+
+    private long[] ids = new long[1024];
+    private int size;
+
+    synchronized void add(long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    synchronized long random() {
+        if (size == 0) {
+            throw new IllegalStateException("Id pool is empty");
+        }
+        return ids[ThreadLocalRandom.current().nextInt(size)];
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,71 @@
+package com.research.journal.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-operation throughput and latency percentiles for the measured phase of a run.
+ * Written as JSON so that a report from an earlier commit can serve as the regression baseline.
+ */
+record LoadReport(double targetRate, double durationSeconds, Map<String, EndpointResult> endpoints) {
+
+    record EndpointResult(String endpoint, long count, long errors, double throughput,
+                          double p50Ms, double p95Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static LoadReport from(LoadTestConfig config, Map<Operation, EndpointStats> stats, long measuredNanos) {
+        double seconds = measuredNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        Map<String, EndpointResult> endpoints = new LinkedHashMap<>();
+        stats.forEach((operation, endpointStats) -> {
+            Histogram histogram = endpointStats.snapshot();
+            endpoints.put(operation.id(), new EndpointResult(
+                    operation.endpoint(),
+                    histogram.getTotalCount(),
+                    endpointStats.errors(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())));
+        });
+        return new LoadReport(config.arrivalRatePerSecond(), seconds, endpoints);
+    }
+
+    static LoadReport read(Path path) throws IOException {
+        return MAPPER.readValue(path.toFile(), LoadReport.class);
+    }
+
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        MAPPER.writeValue(path.toFile(), this);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nOpen-model run: %.1f req/s target, %.0f s measured%n", targetRate, durationSeconds);
+        out.printf("%-48s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        endpoints.values().forEach(r -> out.printf("%-48s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                r.endpoint(), r.count(), r.errors(), r.throughput(), r.p50Ms(), r.p95Ms(), r.p99Ms(), r.maxMs()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
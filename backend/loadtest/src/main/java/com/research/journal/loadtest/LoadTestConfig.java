@@ -0,0 +1,105 @@
+package com.research.journal.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Load-test settings from {@code loadtest.properties}, overridable with {@code key=value}
+ * program arguments (the {@code loadtest.} prefix may be omitted).
+ */
+final class LoadTestConfig {
+
+    private static final String PREFIX = "loadtest.";
+
+    private final Properties properties;
+
+    private LoadTestConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    static LoadTestConfig load(String[] args) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value argument but got: " + arg);
+            }
+            String key = arg.substring(0, eq).trim();
+            properties.setProperty(key.startsWith(PREFIX) ? key : PREFIX + key, arg.substring(eq + 1).trim());
+        }
+        return new LoadTestConfig(properties);
+    }
+
+    /** Base URL of an already running backend; when blank the harness boots one against H2. */
+    String baseUrl() {
+        String value = properties.getProperty(PREFIX + "base-url", "").trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    double arrivalRatePerSecond() {
+        return getDouble("rate", 50);
+    }
+
+    int warmupSeconds() {
+        return getInt("warmup-seconds", 10);
+    }
+
+    int durationSeconds() {
+        return getInt("duration-seconds", 60);
+    }
+
+    int seedPapers() {
+        return getInt("seed-papers", 100);
+    }
+
+    int users() {
+        return getInt("users", 20);
+    }
+
+    int manuscriptChars() {
+        return getInt("manuscript-chars", 50000);
+    }
+
+    int weight(Operation operation) {
+        return getInt("mix." + operation.id(), operation.defaultWeight());
+    }
+
+    double sloP99Millis(Operation operation) {
+        return getDouble("slo." + operation.id() + ".p99-ms", getDouble("slo.default.p99-ms", 500));
+    }
+
+    double maxErrorRate() {
+        return getDouble("slo.max-error-rate", 0.01);
+    }
+
+    Path reportPath() {
+        return Path.of(properties.getProperty(PREFIX + "report", "target/loadtest-report.json"));
+    }
+
+    /** Earlier report to compare against; a blank value disables regression checks. */
+    Path baselinePath() {
+        String value = properties.getProperty(PREFIX + "baseline", "").trim();
+        return value.isEmpty() ? null : Path.of(value);
+    }
+
+    double regressionTolerance() {
+        return getDouble("regression-tolerance", 0.25);
+    }
+
+    private int getInt(String key, int defaultValue) {
+        String value = properties.getProperty(PREFIX + key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private double getDouble(String key, double defaultValue) {
+        String value = properties.getProperty(PREFIX + key);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+}
@@ -0,0 +1,52 @@
+package com.research.journal.loadtest;
+
+import com.research.journal.ResearchJournalManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Entry point of the load-test harness. Boots the backend against in-memory H2 (MySQL mode)
+ * unless {@code base-url} points at a running instance, seeds it, drives the editorial
+ * workload and exits non-zero when an SLO or the regression threshold is violated.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load(args);
+        ConfigurableApplicationContext application = null;
+        String baseUrl = config.baseUrl();
+        int exitCode;
+        try {
+            if (baseUrl == null) {
+                System.setProperty("spring.devtools.restart.enabled", "false");
+                application = new SpringApplicationBuilder(ResearchJournalManagementApplication.class)
+                        .profiles("loadtest")
+                        .run();
+                baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+            }
+
+            EditorialWorkload workload = new EditorialWorkload(new JournalApiClient(baseUrl), config);
+            workload.seed();
+            LoadReport report = new OpenModelDriver(config, workload).run();
+            report.print(System.out);
+            report.write(config.reportPath());
+
+            Path baselinePath = config.baselinePath();
+            LoadReport baseline = baselinePath != null && Files.exists(baselinePath) ? LoadReport.read(baselinePath) : null;
+            List<String> violations = new SloEvaluator(config).evaluate(report, baseline);
+            violations.forEach(violation -> System.out.println("SLO VIOLATION: " + violation));
+            exitCode = violations.isEmpty() ? 0 : 1;
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+}
@@ -0,0 +1,90 @@
+package com.research.journal.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests arrive as a Poisson process at a fixed rate whether or
+ * not earlier requests have finished, and each one runs on its own virtual thread.
+ *
+ * Latency is measured from the scheduled arrival time rather than the actual send time, so
+ * a stalled backend shows up as queueing delay instead of being hidden by coordinated omission.
+ */
+final class OpenModelDriver {
+
+    private final LoadTestConfig config;
+    private final EditorialWorkload workload;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] mix;
+    private final int[] cumulativeWeights;
+
+    OpenModelDriver(LoadTestConfig config, EditorialWorkload workload) {
+        this.config = config;
+        this.workload = workload;
+        this.mix = Operation.values();
+        this.cumulativeWeights = new int[mix.length];
+        int total = 0;
+        for (int i = 0; i < mix.length; i++) {
+            total += Math.max(0, config.weight(mix[i]));
+            cumulativeWeights[i] = total;
+            stats.put(mix[i], new EndpointStats());
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Workload mix has no positive weights");
+        }
+    }
+
+    LoadReport run() throws InterruptedException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            drive(executor, config.warmupSeconds());
+            stats.values().forEach(EndpointStats::reset);
+            long measuredNanos = drive(executor, config.durationSeconds());
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            return LoadReport.from(config, stats, measuredNanos);
+        }
+    }
+
+    private long drive(ExecutorService executor, int seconds) {
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / config.arrivalRatePerSecond();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        double next = start;
+        while (next < end) {
+            long intended = (long) next;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = pick();
+            executor.execute(() -> invoke(operation, intended));
+            next += -Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos;
+        }
+        return end - start;
+    }
+
+    private void invoke(Operation operation, long intendedStartNanos) {
+        boolean success;
+        try {
+            success = workload.execute(operation);
+        } catch (Exception e) {
+            success = false;
+        }
+        stats.get(operation).record(System.nanoTime() - intendedStartNanos, success);
+    }
+
+    private Operation pick() {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return mix[i];
+            }
+        }
+        return mix[mix.length - 1];
+    }
+}
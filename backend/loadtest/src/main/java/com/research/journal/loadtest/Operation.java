@@ -0,0 +1,40 @@
+package com.research.journal.loadtest;
+
+/**
+ * Requests in the editorial workload, with their default share of the arrival mix.
+ */
+enum Operation {
+    REGISTER("register", "POST /api/auth/register", 2),
+    LOGIN("login", "POST /api/auth/login", 8),
+    SUBMIT_PAPER("submit-paper", "POST /api/papers", 6),
+    SUBMIT_REVISION("submit-revision", "POST /api/revisions", 5),
+    SUBMIT_REVIEW("submit-review", "POST /api/reviews", 6),
+    UPDATE_PAPER_STATUS("update-paper-status", "PUT /api/papers/{id}/status", 3),
+    UPDATE_REVIEW_STATUS("update-review-status", "PUT /api/reviews/{id}/status", 2),
+    LIST_PAPERS("list-papers", "GET /api/papers", 30),
+    GET_PAPER("get-paper", "GET /api/papers/{id}", 20),
+    REVIEWS_BY_PAPER("reviews-by-paper", "GET /api/reviews/paper/{paperId}", 10),
+    PENDING_REVIEWS("pending-reviews", "GET /api/reviews/reviewer/{reviewerId}/pending", 8);
+
+    private final String id;
+    private final String endpoint;
+    private final int defaultWeight;
+
+    Operation(String id, String endpoint, int defaultWeight) {
+        this.id = id;
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String id() {
+        return id;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+}
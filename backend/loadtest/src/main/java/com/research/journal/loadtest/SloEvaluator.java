@@ -0,0 +1,53 @@
+package com.research.journal.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks a report against the configured SLOs and, when a baseline report is given, against
+ * the p99 latency of that baseline plus the configured tolerance.
+ */
+final class SloEvaluator {
+
+    private final LoadTestConfig config;
+
+    SloEvaluator(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    List<String> evaluate(LoadReport report, LoadReport baseline) {
+        List<String> violations = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            LoadReport.EndpointResult result = report.endpoints().get(operation.id());
+            if (result == null || result.count() == 0) {
+                continue;
+            }
+            double sloP99 = config.sloP99Millis(operation);
+            if (result.p99Ms() > sloP99) {
+                violations.add(String.format("%s p99 %.2f ms exceeds SLO %.2f ms", operation.endpoint(), result.p99Ms(), sloP99));
+            }
+            if (result.errorRate() > config.maxErrorRate()) {
+                violations.add(String.format("%s error rate %.2f%% exceeds %.2f%%", operation.endpoint(),
+                        result.errorRate() * 100, config.maxErrorRate() * 100));
+            }
+            if (baseline != null) {
+                checkRegression(operation, result, baseline.endpoints(), violations);
+            }
+        }
+        return violations;
+    }
+
+    private void checkRegression(Operation operation, LoadReport.EndpointResult result,
+                                 Map<String, LoadReport.EndpointResult> baseline, List<String> violations) {
+        LoadReport.EndpointResult previous = baseline.get(operation.id());
+        if (previous == null || previous.count() == 0) {
+            return;
+        }
+        double limit = previous.p99Ms() * (1 + config.regressionTolerance());
+        if (result.p99Ms() > limit) {
+            violations.add(String.format("%s p99 regressed from %.2f ms to %.2f ms (limit %.2f ms)",
+                    operation.endpoint(), previous.p99Ms(), result.p99Ms(), limit));
+        }
+    }
+}
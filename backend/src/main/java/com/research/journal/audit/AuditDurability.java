@@ -0,0 +1,8 @@
+package com.research.journal.audit;
+
+public enum AuditDurability {
+    // Inserted after the change commits, in batches; events still buffered when a pod dies are lost
+    ASYNC,
+    // Inserted in the change's own transaction just before it commits; one more statement per change
+    FLUSH_BEFORE_COMMIT
+}
@@ -0,0 +1,214 @@
+package com.research.journal.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.research.journal.entity.AuditAction;
+import com.research.journal.entity.AuditEvent;
+import com.research.journal.security.RequestUserResolver;
+import com.research.journal.tenancy.JournalContext;
+import com.research.journal.tenancy.ShardRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Records who changed what, without an INSERT on the request path.
+ *
+ * Events are collected per transaction and dropped if it rolls back. Once it commits they go
+ * into a lock-free ring that a single writer thread drains into multi-row inserts, grouped by
+ * the shard of their journal. When the ring is full the committing thread inserts its events
+ * itself instead of dropping them. With {@code journal.audit.durability=FLUSH_BEFORE_COMMIT}
+ * the events are inserted in the change's own transaction just before it commits instead.
+ */
+@Component
+public class AuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+    private static final long RETRY_DELAY_MS = 1000;
+
+    private final AuditWriter auditWriter;
+    private final RequestUserResolver requestUserResolver;
+    private final ShardRegistry shardRegistry;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate ownTransaction;
+    private final AuditRingBuffer<AuditEvent> ring;
+    private final AuditDurability durability;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final Counter written;
+    private final Counter overflowed;
+    private volatile boolean running = true;
+    private Thread drainer;
+
+    public AuditLog(AuditWriter auditWriter,
+                    RequestUserResolver requestUserResolver,
+                    ShardRegistry shardRegistry,
+                    ObjectMapper objectMapper,
+                    PlatformTransactionManager transactionManager,
+                    MeterRegistry meterRegistry,
+                    @Value("${journal.audit.durability:ASYNC}") AuditDurability durability,
+                    @Value("${journal.audit.buffer-size:65536}") int bufferSize,
+                    @Value("${journal.audit.batch-size:500}") int batchSize,
+                    @Value("${journal.audit.flush-interval-ms:200}") long flushIntervalMs) {
+        this.auditWriter = auditWriter;
+        this.requestUserResolver = requestUserResolver;
+        this.shardRegistry = shardRegistry;
+        this.objectMapper = objectMapper;
+        this.ownTransaction = new TransactionTemplate(transactionManager);
+        this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ring = new AuditRingBuffer<>(bufferSize);
+        this.durability = durability;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.written = meterRegistry.counter("journal.audit.events.written");
+        this.overflowed = meterRegistry.counter("journal.audit.events.overflowed");
+        Gauge.builder("journal.audit.events.buffered", ring, AuditRingBuffer::size)
+                .description("Audit events waiting for the writer")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        drainer = Thread.ofPlatform().name("audit-writer").daemon().start(this::drain);
+    }
+
+    // Writes whatever is still buffered before the DataSource goes away
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(drainer);
+        drainer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public void record(AuditAction action, Long entityId, Map<String, Object> details) {
+        AuditEvent event = AuditEvent.builder()
+                .occurredAt(LocalDateTime.now())
+                .journalId(JournalContext.currentJournalId())
+                .entityType(action.getEntityType())
+                .entityId(entityId)
+                .action(action)
+                .actorUserId(requestUserResolver.currentUserId())
+                .actorIp(requestUserResolver.currentClientIp())
+                .details(details.isEmpty() ? null : toJson(details))
+                .build();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(event));
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingEvents pending) {
+                pending.events.add(event);
+                return;
+            }
+        }
+        PendingEvents pending = new PendingEvents();
+        pending.events.add(event);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+
+    private void publish(List<AuditEvent> events) {
+        List<AuditEvent> overflow = null;
+        for (AuditEvent event : events) {
+            if (!ring.offer(event)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(event);
+            }
+        }
+        if (overflow != null) {
+            overflowed.increment(overflow.size());
+            List<AuditEvent> unbuffered = overflow;
+            // A transaction of its own: in afterCommit the finished one is still bound to the thread
+            ownTransaction.executeWithoutResult(status -> auditWriter.insert(unbuffered));
+            written.increment(unbuffered.size());
+        }
+        if (ring.size() >= batchSize) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    private void drain() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || ring.size() > 0 || !batch.isEmpty()) {
+            ring.drainTo(batch, batchSize - batch.size());
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+                continue;
+            }
+            List<AuditEvent> failed = writeByShard(batch);
+            batch.clear();
+            if (!failed.isEmpty()) {
+                if (!running) {
+                    log.error("Dropping {} audit events that could not be written during shutdown", failed.size());
+                    continue;
+                }
+                batch.addAll(failed);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(RETRY_DELAY_MS));
+            }
+        }
+    }
+
+    // Returns the events of the shards whose insert failed, to be retried
+    private List<AuditEvent> writeByShard(List<AuditEvent> batch) {
+        Map<Integer, List<AuditEvent>> byShard = batch.stream().collect(Collectors.groupingBy(
+                event -> event.getJournalId() == null ? 0 : shardRegistry.shardOf(event.getJournalId())));
+        List<AuditEvent> failed = new ArrayList<>();
+        byShard.forEach((shard, events) -> {
+            try {
+                JournalContext.runOnShard(shard, () -> auditWriter.insert(events));
+                written.increment(events.size());
+            } catch (RuntimeException e) {
+                log.warn("Could not write {} audit events to shard {}; retrying", events.size(), shard, e);
+                failed.addAll(events);
+            }
+        });
+        return failed;
+    }
+
+    private String toJson(Map<String, Object> details) {
+        try {
+            return objectMapper.writeValueAsString(details);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize audit details", e);
+        }
+    }
+
+    private final class PendingEvents implements TransactionSynchronization {
+
+        private final List<AuditEvent> events = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (durability == AuditDurability.FLUSH_BEFORE_COMMIT) {
+                auditWriter.insert(events);
+                written.increment(events.size());
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (durability == AuditDurability.ASYNC) {
+                publish(events);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.research.journal.audit;
+
+import com.research.journal.tenancy.ShardRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Keeps audit_events range-partitioned by month on MySQL shards, so old months can be dropped
+ * whole and range queries only open the months they cover. The first run partitions the table;
+ * later runs add the months coming up by splitting {@code pmax} and drop months past retention.
+ * H2 cannot partition tables, so shards on it are skipped.
+ */
+@Component
+public class AuditPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditPartitionMaintainer.class);
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final ShardRegistry shardRegistry;
+
+    @Value("${journal.audit.partition-months-ahead:3}")
+    private int monthsAhead;
+
+    // 0 keeps every month
+    @Value("${journal.audit.retention-months:0}")
+    private int retentionMonths;
+
+    public AuditPartitionMaintainer(ShardRegistry shardRegistry) {
+        this.shardRegistry = shardRegistry;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${journal.audit.partition-check-interval-ms:3600000}")
+    public void maintain() {
+        for (int shard = 0; shard < shardRegistry.size(); shard++) {
+            DataSource dataSource = shardRegistry.shard(shard);
+            try {
+                if (isMySql(dataSource)) {
+                    maintain(new JdbcTemplate(dataSource), YearMonth.now());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not maintain audit_events partitions on shard {}", shard, e);
+            }
+        }
+    }
+
+    private void maintain(JdbcTemplate shard, YearMonth now) {
+        List<String> partitions = shard.queryForList("SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'audit_events' AND PARTITION_NAME IS NOT NULL "
+                + "ORDER BY PARTITION_ORDINAL_POSITION", String.class);
+        YearMonth last = now.plusMonths(monthsAhead);
+
+        if (partitions.isEmpty()) {
+            // Everything before this month goes in pstart
+            List<String> definitions = new ArrayList<>();
+            definitions.add(partition("pstart", now.atDay(1)));
+            for (YearMonth month = now; !month.isAfter(last); month = month.plusMonths(1)) {
+                definitions.add(partition(month.format(PARTITION_NAME), month.plusMonths(1).atDay(1)));
+            }
+            definitions.add("PARTITION pmax VALUES LESS THAN MAXVALUE");
+            shard.execute("ALTER TABLE audit_events PARTITION BY RANGE (TO_DAYS(occurred_at)) ("
+                    + String.join(", ", definitions) + ")");
+            log.info("Partitioned audit_events by month up to {}", last);
+            return;
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (YearMonth month = now; !month.isAfter(last); month = month.plusMonths(1)) {
+            if (!partitions.contains(month.format(PARTITION_NAME))) {
+                missing.add(partition(month.format(PARTITION_NAME), month.plusMonths(1).atDay(1)));
+            }
+        }
+        if (!missing.isEmpty()) {
+            // Months only ever follow the newest partition, so pmax holds no rows of them yet
+            missing.add("PARTITION pmax VALUES LESS THAN MAXVALUE");
+            shard.execute("ALTER TABLE audit_events REORGANIZE PARTITION pmax INTO ("
+                    + String.join(", ", missing) + ")");
+        }
+
+        if (retentionMonths > 0) {
+            String oldestKept = now.minusMonths(retentionMonths - 1).format(PARTITION_NAME);
+            List<String> expired = partitions.stream()
+                    .filter(name -> name.matches("p\\d{6}") && name.compareTo(oldestKept) < 0)
+                    .toList();
+            if (!expired.isEmpty()) {
+                shard.execute("ALTER TABLE audit_events DROP PARTITION " + String.join(", ", expired));
+                log.info("Dropped audit_events partitions {}", expired);
+            }
+        }
+    }
+
+    private static String partition(String name, LocalDate lessThan) {
+        return "PARTITION " + name + " VALUES LESS THAN (TO_DAYS('" + lessThan + "'))";
+    }
+
+    private static boolean isMySql(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot reach shard to check its database", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.research.journal.audit;
+
+import com.research.journal.entity.AuditEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Inserts audit events with one multi-row INSERT per {@code batch-size} events, through the
+ * routed DataSource: inside the caller's transaction when there is one, otherwise auto-committed.
+ */
+@Component
+public class AuditWriter {
+
+    private static final String INSERT = "INSERT INTO audit_events (occurred_at, journal_id, entity_type, entity_id, "
+            + "action, actor_user_id, actor_ip, details) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${journal.audit.batch-size:500}")
+    private int batchSize;
+
+    public AuditWriter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    void insert(List<AuditEvent> events) {
+        for (int from = 0; from < events.size(); from += batchSize) {
+            List<AuditEvent> rows = events.subList(from, Math.min(events.size(), from + batchSize));
+            jdbcTemplate.update(INSERT + String.join(", ", Collections.nCopies(rows.size(), ROW)),
+                    statement -> bind(statement, rows));
+        }
+    }
+
+    private static void bind(PreparedStatement statement, List<AuditEvent> rows) throws SQLException {
+        int index = 1;
+        for (AuditEvent event : rows) {
+            statement.setTimestamp(index++, Timestamp.valueOf(event.getOccurredAt()));
+            statement.setObject(index++, event.getJournalId(), Types.BIGINT);
+            statement.setString(index++, event.getEntityType().name());
+            statement.setLong(index++, event.getEntityId());
+            statement.setString(index++, event.getAction().name());
+            statement.setObject(index++, event.getActorUserId(), Types.BIGINT);
+            statement.setString(index++, event.getActorIp());
+            statement.setString(index++, event.getDetails());
+        }
+    }
+}
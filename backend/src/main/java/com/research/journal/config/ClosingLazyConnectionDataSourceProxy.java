@@ -0,0 +1,26 @@
+package com.research.journal.config;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Lazy connection proxy in front of a routing DataSource that also owns the pools behind it,
+ * so the container closes them along with the single DataSource bean.
+ */
+public class ClosingLazyConnectionDataSourceProxy extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final List<AutoCloseable> resources;
+
+    public ClosingLazyConnectionDataSourceProxy(DataSource target, List<AutoCloseable> resources) {
+        super(target);
+        this.resources = resources;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+    }
+}
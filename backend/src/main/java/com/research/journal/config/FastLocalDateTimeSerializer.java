@@ -0,0 +1,67 @@
+package com.research.journal.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes {@link LocalDateTime} exactly as {@code DateTimeFormatter.ISO_LOCAL_DATE_TIME} would,
+ * but straight into a char buffer handed to the generator: no formatter, no intermediate
+ * {@code String}. Years outside 0..9999 and timestamp output fall back to the JSR-310 serializer.
+ */
+public class FastLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    public FastLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999 || provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            LocalDateTimeSerializer.INSTANCE.serialize(value, generator, provider);
+            return;
+        }
+        char[] buffer = new char[29];
+        write4(buffer, 0, year);
+        buffer[4] = '-';
+        write2(buffer, 5, value.getMonthValue());
+        buffer[7] = '-';
+        write2(buffer, 8, value.getDayOfMonth());
+        buffer[10] = 'T';
+        write2(buffer, 11, value.getHour());
+        buffer[13] = ':';
+        write2(buffer, 14, value.getMinute());
+        buffer[16] = ':';
+        write2(buffer, 17, value.getSecond());
+        int length = 19;
+        int nanos = value.getNano();
+        if (nanos != 0) {
+            // Fraction as in ISO_LOCAL_TIME: as many digits as needed, trailing zeros dropped
+            buffer[19] = '.';
+            for (int i = 28; i >= 20; i--) {
+                buffer[i] = (char) ('0' + nanos % 10);
+                nanos /= 10;
+            }
+            length = 29;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+        }
+        generator.writeString(buffer, 0, length);
+    }
+
+    private static void write2(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void write4(char[] buffer, int offset, int value) {
+        write2(buffer, offset, value / 100);
+        write2(buffer, offset + 2, value % 100);
+    }
+}
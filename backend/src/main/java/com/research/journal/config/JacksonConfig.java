@@ -0,0 +1,29 @@
+package com.research.journal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.time.LocalDateTime;
+
+@Configuration
+public class JacksonConfig {
+
+    // Replaces reflective getter calls with generated lambdas; picked up by Boot's ObjectMapper
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fastDateTimeCustomizer() {
+        return builder -> builder.serializerByType(LocalDateTime.class, new FastLocalDateTimeSerializer());
+    }
+
+    // Boot puts HttpMessageConverter beans ahead of its defaults
+    @Bean
+    public JsonStreamHttpMessageConverter jsonStreamHttpMessageConverter(ObjectMapper objectMapper) {
+        return new JsonStreamHttpMessageConverter(objectMapper);
+    }
+}
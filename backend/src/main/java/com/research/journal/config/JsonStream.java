@@ -0,0 +1,15 @@
+package com.research.journal.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+
+/**
+ * A response body that writes itself to the response as JSON. Unlike {@code StreamingResponseBody}
+ * it runs on the request thread, so it can call transactional services and stream query
+ * results while the request's SQL budget and read routing still apply.
+ */
+@FunctionalInterface
+public interface JsonStream {
+
+    void writeTo(JsonGenerator generator) throws IOException;
+}
@@ -0,0 +1,44 @@
+package com.research.journal.config;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import java.io.IOException;
+
+public class JsonStreamHttpMessageConverter extends AbstractHttpMessageConverter<JsonStream> {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonStreamHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonStream.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected JsonStream readInternal(Class<? extends JsonStream> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("JsonStream is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(JsonStream stream, HttpOutputMessage outputMessage) throws IOException {
+        // Generator shares the ObjectMapper's modules, inclusion rules and serializer cache
+        try (JsonGenerator generator = objectMapper.createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+            stream.writeTo(generator);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.research.journal.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import javax.sql.DataSource;
+
+/**
+ * Keeps some beans eager when {@code spring.main.lazy-initialization} is on (prod profile).
+ * Scheduled methods are only registered once their bean exists, and the persistence stack
+ * (connection pool, Flyway, Hibernate) should fail startup rather than the first request.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter persistenceEagerInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, Flyway.class, EntityManagerFactory.class);
+    }
+
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledEagerInitialization() {
+        return (beanName, beanDefinition, beanType) -> !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)).isEmpty();
+    }
+}
@@ -0,0 +1,68 @@
+package com.research.journal.config;
+
+import com.research.journal.security.RequestUserResolver;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource with a primary pool plus one pool per configured
+ * replica, routed by {@link ReadWriteRoutingDataSource}. The pools are created here rather than
+ * as beans so that the application still sees exactly one DataSource.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "journal.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadWriteRoutingProperties.class)
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReadWriteRoutingProperties routing,
+                                 RequestUserResolver requestUserResolver, MeterRegistry meterRegistry,
+                                 Environment environment) {
+        List<AutoCloseable> resources = new ArrayList<>();
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        resources.add(primary);
+
+        List<DataSource> replicaPools = new ArrayList<>();
+        for (int i = 0; i < routing.getReplicas().size(); i++) {
+            ReadWriteRoutingProperties.Replica replica = routing.getReplicas().get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            // Let the app start while a replica is down; the health monitor keeps it out of rotation
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicaPools.add(pool);
+            resources.add(pool);
+        }
+
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replicaPools, routing);
+        resources.add(0, monitor);
+        ReadWriteRoutingDataSource router = new ReadWriteRoutingDataSource(primary, monitor,
+                new ReadYourWritesTracker(routing.getStickyWindowMs()), requestUserResolver);
+        return new ClosingLazyConnectionDataSourceProxy(router, resources);
+    }
+}
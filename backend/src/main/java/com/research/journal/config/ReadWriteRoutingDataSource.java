@@ -0,0 +1,80 @@
+package com.research.journal.config;
+
+import com.research.journal.security.RequestUserResolver;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary.
+ *
+ * Reads fall back to the primary when no replica is healthy, when the chosen replica refuses a
+ * connection, or when the calling client wrote within the sticky window (read-your-writes).
+ * Must sit behind a LazyConnectionDataSourceProxy so the read-only flag of the transaction is
+ * known by the time a connection is requested.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaHealthMonitor replicas;
+    private final ReadYourWritesTracker readYourWrites;
+    private final RequestUserResolver requestUserResolver;
+
+    ReadWriteRoutingDataSource(DataSource primary, ReplicaHealthMonitor replicas,
+                               ReadYourWritesTracker readYourWrites, RequestUserResolver requestUserResolver) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+        this.requestUserResolver = requestUserResolver;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(username, password);
+    }
+
+    private Connection route(String username, String password) throws SQLException {
+        String clientKey = requestUserResolver.currentClientKey();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWrite(clientKey);
+            return connect(primary, username, password);
+        }
+        if (clientKey != null && readYourWrites.isSticky(clientKey)) {
+            return connect(primary, username, password);
+        }
+        int replica = replicas.pick();
+        if (replica < 0) {
+            return connect(primary, username, password);
+        }
+        try {
+            return connect(replicas.replica(replica), username, password);
+        } catch (SQLException e) {
+            replicas.markDown(replica, e);
+            return connect(primary, username, password);
+        }
+    }
+
+    private void registerWrite(String clientKey) {
+        if (clientKey == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite(clientKey);
+            }
+        });
+    }
+
+    private static Connection connect(DataSource dataSource, String username, String password) throws SQLException {
+        return username == null ? dataSource.getConnection() : dataSource.getConnection(username, password);
+    }
+}
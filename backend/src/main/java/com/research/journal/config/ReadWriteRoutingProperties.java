@@ -0,0 +1,34 @@
+package com.research.journal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "journal.datasource.routing")
+public class ReadWriteRoutingProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replicas lagging further behind than this are skipped until they catch up
+    private long maxReplicaLagMs = 2000;
+
+    // After a client writes, its reads stay on the primary for this long
+    private long stickyWindowMs = 5000;
+
+    private long healthCheckIntervalMs = 1000;
+
+    // Empty disables lag measurement, e.g. for two independent local instances
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,44 @@
+package com.research.journal.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers which clients wrote recently so their reads stay on the primary until the replicas
+ * have had time to catch up. Entries expire after the sticky window.
+ */
+class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final ConcurrentHashMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    ReadYourWritesTracker(long windowMs) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+    }
+
+    void recordWrite(String clientKey) {
+        stickyUntil.put(clientKey, System.nanoTime() + windowNanos);
+        if (stickyUntil.size() > PURGE_THRESHOLD) {
+            purgeExpired();
+        }
+    }
+
+    boolean isSticky(String clientKey) {
+        Long until = stickyUntil.get(clientKey);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        stickyUntil.remove(clientKey, until);
+        return false;
+    }
+
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        stickyUntil.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
+    }
+}
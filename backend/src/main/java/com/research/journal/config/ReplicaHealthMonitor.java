@@ -0,0 +1,132 @@
+package com.research.journal.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Periodically measures each replica's replication lag and hands out the healthy ones round-robin.
+ * A replica is skipped while it is unreachable, has replication stopped, or lags beyond the limit.
+ */
+class ReplicaHealthMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private final List<DataSource> replicas;
+    private final AtomicIntegerArray healthy;
+    private final AtomicLongArray lagMs;
+    private final ReadWriteRoutingProperties properties;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+
+    ReplicaHealthMonitor(List<DataSource> replicas, ReadWriteRoutingProperties properties) {
+        this.replicas = replicas;
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        this.lagMs = new AtomicLongArray(replicas.size());
+        this.properties = properties;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkAll();
+        scheduler.scheduleWithFixedDelay(this::checkAll, properties.getHealthCheckIntervalMs(),
+                properties.getHealthCheckIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /** Index of a healthy replica, or -1 when reads have to fall back to the primary. */
+    int pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            int candidate = (start + i) % size;
+            if (healthy.get(candidate) == 1) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    DataSource replica(int index) {
+        return replicas.get(index);
+    }
+
+    void markDown(int index, SQLException cause) {
+        if (healthy.getAndSet(index, 0) == 1) {
+            log.warn("Replica {} marked down, reads fall back to the primary: {}", index, cause.getMessage());
+        }
+    }
+
+    long lagMs(int index) {
+        return lagMs.get(index);
+    }
+
+    private void checkAll() {
+        for (int i = 0; i < replicas.size(); i++) {
+            try {
+                long lag = measureLag(replicas.get(i));
+                lagMs.set(i, lag);
+                boolean nowHealthy = lag <= properties.getMaxReplicaLagMs();
+                boolean wasHealthy = healthy.getAndSet(i, nowHealthy ? 1 : 0) == 1;
+                if (wasHealthy != nowHealthy) {
+                    log.info("Replica {} is now {} (lag {} ms)", i, nowHealthy ? "in rotation" : "out of rotation", lag);
+                }
+            } catch (SQLException e) {
+                markDown(i, e);
+            }
+        }
+    }
+
+    private long measureLag(DataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection()) {
+            String lagQuery = properties.getLagQuery();
+            if (lagQuery == null || lagQuery.isBlank()) {
+                if (!connection.isValid(2)) {
+                    throw new SQLException("Connection validation failed");
+                }
+                return 0;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    // Not configured as a replica: it can only be a stand-in that is never behind
+                    return 0;
+                }
+                Object seconds = lagColumn(resultSet);
+                if (seconds == null) {
+                    // MySQL reports NULL when the replication threads are not running
+                    return Long.MAX_VALUE;
+                }
+                return (long) (Double.parseDouble(seconds.toString()) * 1000);
+            }
+        }
+    }
+
+    private static Object lagColumn(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            String label = metaData.getColumnLabel(column);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                return resultSet.getObject(column);
+            }
+        }
+        return resultSet.getObject(1);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
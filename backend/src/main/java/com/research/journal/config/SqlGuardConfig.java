@@ -0,0 +1,67 @@
+package com.research.journal.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Counts the SQL statements each request issues, so lazy-loading N+1s show up as budget
+ * overruns in logs (or failed responses) instead of in production. Never active under the
+ * {@code prod} profile.
+ */
+@Configuration
+@Profile("!prod")
+@ConditionalOnProperty(prefix = "journal.sql-guard", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SqlGuardProperties.class)
+public class SqlGuardConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ProxyDataSource proxy) {
+                    proxy.getProxyConfig().getQueryListener().addListener(new CountingListener());
+                } else if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new CountingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlGuardFilter> sqlGuardFilter(SqlGuardProperties properties) {
+        FilterRegistrationBean<SqlGuardFilter> registration = new FilterRegistrationBean<>(new SqlGuardFilter(properties));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    private static final class CountingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                SqlStatementCounter.record(queryInfo.getQuery());
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.research.journal.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Counts the statements issued while handling a request and checks them against the
+ * handler's budget. With the debug header present the counts are returned as response headers.
+ */
+public class SqlGuardFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlGuardFilter.class);
+
+    private final SqlGuardProperties properties;
+    private final Map<String, Integer> budgets = new HashMap<>();
+
+    public SqlGuardFilter(SqlGuardProperties properties) {
+        this.properties = properties;
+        properties.getBudgets().forEach((handler, budget) -> budgets.put(handler.toLowerCase(Locale.ROOT), budget));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean debug = request.getHeader(properties.getDebugHeader()) != null;
+        boolean failMode = properties.getMode() == SqlGuardProperties.Mode.FAIL;
+        ContentCachingResponseWrapper buffered = (debug || failMode) && !isEventStream(request)
+                ? new ContentCachingResponseWrapper(response) : null;
+
+        SqlStatementCounter.start();
+        SqlStatementCounter.Counts counts;
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            counts = SqlStatementCounter.stop();
+        }
+
+        String handler = handlerName(request);
+        int budget = handler == null ? properties.getDefaultBudget()
+                : budgets.getOrDefault(handler.toLowerCase(Locale.ROOT), properties.getDefaultBudget());
+        boolean overBudget = handler != null && counts.total() > budget;
+        if (overBudget) {
+            log.warn("SQL budget exceeded by {} {}: {} statements, budget {} ({})",
+                    handler, request.getRequestURI(), counts.total(), budget, counts);
+            log.debug("Statements issued by {}: {}", handler, counts.statements());
+        }
+
+        if (buffered == null) {
+            return;
+        }
+        if (overBudget && failMode) {
+            buffered.resetBuffer();
+            buffered.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            buffered.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            buffered.getOutputStream().write(("SQL budget exceeded by " + handler + ": "
+                    + counts.total() + " statements, budget " + budget).getBytes(StandardCharsets.UTF_8));
+        }
+        if (debug) {
+            buffered.setHeader("X-SQL-Count", String.valueOf(counts.total()));
+            buffered.setHeader("X-SQL-Breakdown", counts.toString());
+            buffered.setHeader("X-SQL-Budget", String.valueOf(budget));
+        }
+        buffered.copyBodyToResponse();
+    }
+
+    private static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return null;
+    }
+
+    private static boolean isEventStream(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+}
@@ -0,0 +1,26 @@
+package com.research.journal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "journal.sql-guard")
+public class SqlGuardProperties {
+
+    public enum Mode { WARN, FAIL }
+
+    private boolean enabled = true;
+
+    // WARN logs budget overruns; FAIL replaces the response with a 500 so they cannot go unnoticed
+    private Mode mode = Mode.WARN;
+
+    // Requests carrying this header get X-SQL-Count / X-SQL-Breakdown response headers
+    private String debugHeader = "X-Debug-SQL";
+
+    private int defaultBudget = 10;
+
+    // Keyed by handler, e.g. PaperController.getPaper
+    private Map<String, Integer> budgets = new HashMap<>();
+}
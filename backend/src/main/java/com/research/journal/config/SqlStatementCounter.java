@@ -0,0 +1,125 @@
+package com.research.journal.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Per-thread count of the JDBC statements issued while counting is active. Fed by the
+ * datasource proxy that {@link SqlGuardConfig} installs; callers bracket the work they want to
+ * measure with {@link #start()} and {@link #stop()}. Brackets nest: a statement counts toward
+ * every bracket open on the thread, so a test can measure around the request guard's own.
+ */
+public final class SqlStatementCounter {
+
+    private static final int MAX_RECORDED_STATEMENTS = 100;
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static void start() {
+        CURRENT.set(new Counts(CURRENT.get()));
+    }
+
+    public static Counts stop() {
+        Counts counts = CURRENT.get();
+        if (counts == null) {
+            return new Counts(null);
+        }
+        if (counts.outer != null) {
+            CURRENT.set(counts.outer);
+        } else {
+            CURRENT.remove();
+        }
+        return counts;
+    }
+
+    /** The counts being recorded on this thread, or null; hand them to {@link #attach} on another thread. */
+    public static Counts active() {
+        return CURRENT.get();
+    }
+
+    /** Counts statements issued on this thread toward {@code counts} until {@link #detach()}. */
+    public static void attach(Counts counts) {
+        if (counts != null) {
+            CURRENT.set(counts);
+        }
+    }
+
+    public static void detach() {
+        CURRENT.remove();
+    }
+
+    public static Counts current() {
+        Counts counts = CURRENT.get();
+        return counts == null ? new Counts(null) : counts;
+    }
+
+    static void record(String sql) {
+        for (Counts counts = CURRENT.get(); counts != null; counts = counts.outer) {
+            counts.add(sql);
+        }
+    }
+
+    public static final class Counts {
+        private int select;
+        private int insert;
+        private int update;
+        private int delete;
+        private int other;
+        private final List<String> statements = new ArrayList<>();
+        private final Counts outer;
+
+        private Counts(Counts outer) {
+            this.outer = outer;
+        }
+
+        // Synchronized because attached worker threads may record into the same counts
+        private synchronized void add(String sql) {
+            String trimmed = sql.stripLeading();
+            String verb = trimmed.length() >= 6 ? trimmed.substring(0, 6).toLowerCase(Locale.ROOT) : "";
+            switch (verb) {
+                case "select" -> select++;
+                case "insert" -> insert++;
+                case "update" -> update++;
+                case "delete" -> delete++;
+                default -> other++;
+            }
+            if (statements.size() < MAX_RECORDED_STATEMENTS) {
+                statements.add(trimmed);
+            }
+        }
+
+        public int total() {
+            return select + insert + update + delete + other;
+        }
+
+        public int select() {
+            return select;
+        }
+
+        public int insert() {
+            return insert;
+        }
+
+        public int update() {
+            return update;
+        }
+
+        public int delete() {
+            return delete;
+        }
+
+        public List<String> statements() {
+            return Collections.unmodifiableList(statements);
+        }
+
+        @Override
+        public String toString() {
+            return "total=" + total() + ";select=" + select + ";insert=" + insert
+                    + ";update=" + update + ";delete=" + delete + ";other=" + other;
+        }
+    }
+}
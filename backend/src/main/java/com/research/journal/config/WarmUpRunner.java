@@ -0,0 +1,234 @@
+package com.research.journal.config;
+
+import com.research.journal.entity.Paper;
+import com.research.journal.repository.PaperRepository;
+import com.research.journal.repository.ReviewRepository;
+import com.research.journal.security.JwtTokenProvider;
+import com.research.journal.tenancy.JournalContext;
+import com.research.journal.tenancy.ShardRegistry;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms a fresh pod before it takes traffic. Spring Boot reports readiness (ACCEPTING_TRAFFIC)
+ * only once application runners return, and the server already listens while they run, so this
+ * runner can call the pod's own hot endpoints over loopback first:
+ * <ol>
+ *   <li>every shard pool opens its minimum idle connections;</li>
+ *   <li>the newest papers of the default journal and the reviewers of its newest reviews are
+ *       fetched once each, filling the single-flight results and the database's buffer pool;</li>
+ *   <li>the paper listing, paper, pending-review and token-validation endpoints are called in a
+ *       loop, with a bearer token, until the JIT has seen them {@code rounds} times.</li>
+ * </ol>
+ * All of it stops at {@code time-budget-ms}; failures are logged and never block startup.
+ * Warm-up requests carry a per-process secret header and skip rate limiting.
+ */
+@Component
+@ConditionalOnProperty(name = "journal.warm-up.enabled", havingValue = "true")
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUpRunner.class);
+    private static final String HEADER = "X-Warm-Up";
+    private static final String SECRET = UUID.randomUUID().toString();
+
+    private final PaperRepository paperRepository;
+    private final ReviewRepository reviewRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ShardRegistry shardRegistry;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${journal.tenancy.default-journal-id:1}")
+    private Long defaultJournalId;
+
+    @Value("${journal.warm-up.time-budget-ms:30000}")
+    private long timeBudgetMs;
+
+    @Value("${journal.warm-up.rounds:500}")
+    private int rounds;
+
+    @Value("${journal.warm-up.concurrency:4}")
+    private int concurrency;
+
+    @Value("${journal.warm-up.recent-papers:50}")
+    private int recentPapers;
+
+    @Value("${journal.warm-up.recent-reviewers:20}")
+    private int recentReviewers;
+
+    public WarmUpRunner(PaperRepository paperRepository,
+                        ReviewRepository reviewRepository,
+                        JwtTokenProvider jwtTokenProvider,
+                        ShardRegistry shardRegistry,
+                        Environment environment,
+                        MeterRegistry meterRegistry) {
+        this.paperRepository = paperRepository;
+        this.reviewRepository = reviewRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.shardRegistry = shardRegistry;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** True for the requests this runner sends to its own pod. */
+    public static boolean isWarmUpRequest(HttpServletRequest request) {
+        return SECRET.equals(request.getHeader(HEADER));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        try {
+            openConnections();
+
+            List<Paper> papers = JournalContext.callAs(defaultJournalId,
+                    () -> paperRepository.findRecentWithAuthor(PageRequest.of(0, recentPapers)));
+            List<Long> reviewerIds = JournalContext.callAs(defaultJournalId,
+                    () -> reviewRepository.findRecentReviewerIds(PageRequest.of(0, recentReviewers * 5))).stream()
+                    .distinct()
+                    .limit(recentReviewers)
+                    .toList();
+            String token = papers.isEmpty()
+                    ? jwtTokenProvider.generateToken("warm-up", null, defaultJournalId)
+                    : jwtTokenProvider.generateToken(papers.get(0).getAuthor().getEmail(),
+                    papers.get(0).getAuthor().getId(), defaultJournalId);
+
+            List<String> preload = new ArrayList<>();
+            papers.forEach(paper -> preload.add("/api/papers/" + paper.getId()));
+            papers.stream().map(paper -> paper.getAuthor().getId()).distinct()
+                    .forEach(authorId -> preload.add("/api/papers/author/" + authorId));
+            reviewerIds.forEach(id -> preload.add("/api/reviews/reviewer/" + id + "/pending"));
+
+            List<String> hot = new ArrayList<>();
+            hot.add("/api/papers");
+            hot.add("/api/auth/validate?token=" + token);
+            if (!papers.isEmpty()) {
+                hot.add("/api/papers/" + papers.get(0).getId());
+            }
+            if (!reviewerIds.isEmpty()) {
+                hot.add("/api/reviews/reviewer/" + reviewerIds.get(0) + "/pending");
+            }
+
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+            String base = "http://localhost:" + environment.getProperty("local.server.port", "8080")
+                    + environment.getProperty("server.servlet.context-path", "");
+            for (String path : preload) {
+                if (System.nanoTime() > deadline) {
+                    break;
+                }
+                send(client, base + path, token, deadline, sent, failed);
+            }
+
+            try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+                AtomicInteger round = new AtomicInteger();
+                for (int i = 0; i < concurrency; i++) {
+                    workers.execute(() -> {
+                        while (round.getAndIncrement() < rounds && System.nanoTime() < deadline) {
+                            for (String path : hot) {
+                                send(client, base + path, token, deadline, sent, failed);
+                            }
+                        }
+                    });
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Warm-up stopped early", e);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        Timer.builder("journal.warmup.duration")
+                .description("Time from the start of warm-up until the pod reports ready")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("Warm-up finished in {} ms: {} requests, {} failed",
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sent.get(), failed.get());
+    }
+
+    // Holds minimum-idle connections of every shard at once, so each pool opens that many
+    private void openConnections() {
+        for (int shard = 0; shard < shardRegistry.size(); shard++) {
+            DataSource pool = shardRegistry.shard(shard);
+            int minimumIdle = minimumIdle(pool);
+            List<Connection> connections = new ArrayList<>(minimumIdle);
+            try {
+                for (int i = 0; i < minimumIdle; i++) {
+                    connections.add(pool.getConnection());
+                }
+            } catch (SQLException e) {
+                log.warn("Could not open {} connections on shard {}", minimumIdle, shard, e);
+            } finally {
+                for (Connection connection : connections) {
+                    try {
+                        connection.close();
+                    } catch (SQLException e) {
+                        log.debug("Could not return warm-up connection", e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int minimumIdle(DataSource pool) {
+        try {
+            return pool.isWrapperFor(HikariDataSource.class) ? pool.unwrap(HikariDataSource.class).getMinimumIdle() : 1;
+        } catch (SQLException e) {
+            return 1;
+        }
+    }
+
+    private static void send(HttpClient client, String url, String token, long deadline,
+                             AtomicInteger sent, AtomicInteger failed) {
+        long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0) {
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(HEADER, SECRET)
+                .timeout(Duration.ofNanos(remainingNanos))
+                .GET()
+                .build();
+        sent.incrementAndGet();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 500) {
+                failed.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.incrementAndGet();
+        } catch (IOException e) {
+            failed.incrementAndGet();
+        }
+    }
+}
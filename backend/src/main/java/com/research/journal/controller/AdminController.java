@@ -0,0 +1,31 @@
+package com.research.journal.controller;
+
+import com.research.journal.dto.PaperDTO;
+import com.research.journal.entity.PaperStatus;
+import com.research.journal.service.AdminPaperService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class AdminController {
+
+    private final AdminPaperService adminPaperService;
+
+    // Newest papers of every journal on every shard; with a status, newest submissions in that status
+    @GetMapping("/papers")
+    public ResponseEntity<?> getRecentPapers(@RequestParam(required = false) PaperStatus status,
+                                             @RequestParam(defaultValue = "50") int limit) {
+        try {
+            List<PaperDTO> papers = adminPaperService.getRecentPapers(status, limit);
+            return ResponseEntity.ok(papers);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+}
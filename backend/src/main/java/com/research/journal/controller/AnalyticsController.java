@@ -0,0 +1,71 @@
+package com.research.journal.controller;
+
+import com.research.journal.dto.AnalyticsBackfillDTO;
+import com.research.journal.dto.AnalyticsBucketDTO;
+import com.research.journal.service.AnalyticsBackfillService;
+import com.research.journal.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+    private final AnalyticsBackfillService analyticsBackfillService;
+
+    // One bucket per interval between from and to (rounded out to whole hours)
+    @GetMapping("/series")
+    public ResponseEntity<?> getSeries(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                       @RequestParam(defaultValue = "DAY") AnalyticsService.Interval interval) {
+        try {
+            List<AnalyticsBucketDTO> series = analyticsService.getSeries(from, to, interval);
+            return ResponseEntity.ok(series);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<?> getSummary(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            AnalyticsBucketDTO summary = analyticsService.getSummary(from, to);
+            return ResponseEntity.ok(summary);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    // Rebuilds past hours of every journal in the background; to defaults to now
+    @PostMapping("/backfill")
+    public ResponseEntity<?> startBackfill(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            AnalyticsBackfillDTO backfill = analyticsBackfillService.startBackfill(from, to);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(backfill);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/backfill")
+    public ResponseEntity<?> getBackfill() {
+        try {
+            AnalyticsBackfillDTO backfill = analyticsBackfillService.getBackfill();
+            return ResponseEntity.ok(backfill);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
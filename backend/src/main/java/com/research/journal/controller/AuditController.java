@@ -0,0 +1,36 @@
+package com.research.journal.controller;
+
+import com.research.journal.dto.AuditPageDTO;
+import com.research.journal.entity.AuditEntityType;
+import com.research.journal.service.AuditService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class AuditController {
+
+    private final AuditService auditService;
+
+    // Without entityId, every event on entities of that type in the journal
+    @GetMapping
+    public ResponseEntity<?> getEvents(@RequestParam AuditEntityType entityType,
+                                       @RequestParam(required = false) Long entityId,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                       @RequestParam(defaultValue = "0") int page,
+                                       @RequestParam(defaultValue = "50") int size) {
+        try {
+            AuditPageDTO events = auditService.getEvents(entityType, entityId, from, to, page, size);
+            return ResponseEntity.ok(events);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+}
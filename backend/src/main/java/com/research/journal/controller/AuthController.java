@@ -1,12 +1,15 @@
 package com.research.journal.controller;
 
+import com.research.journal.dto.JournalDTO;
 import com.research.journal.dto.LoginRequest;
 import com.research.journal.dto.LoginResponse;
 import com.research.journal.dto.RegisterRequest;
 import com.research.journal.dto.UserDTO;
 import com.research.journal.entity.UserRole;
 import com.research.journal.security.JwtTokenProvider;
+import com.research.journal.service.JournalService;
 import com.research.journal.service.UserService;
+import com.research.journal.tenancy.UserReplicator;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,11 +25,19 @@ public class AuthController {
 
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final JournalService journalService;
+    private final UserReplicator userReplicator;
     private static final Logger log = LoggerFactory.getLogger(AuthController.class);
 
    @PostMapping("/register")
 public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
-    log.info("Register attempt for email={}", request.getEmail());
+    log.debug("Register attempt for email={}", request.getEmail());
+    JournalDTO journal;
+    try {
+        journal = journalService.getRegistrationJournal(request.getJournal());
+    } catch (RuntimeException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
     try {
         UserRole role = UserRole.valueOf(request.getRole().toUpperCase());
 
@@ -46,10 +57,14 @@ public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
                 username      // ← NOW WE PASS USERNAME!
         );
 
-        String token = jwtTokenProvider.generateToken(userDTO.getEmail(), userDTO.getId());
+        JournalDTO membership = journalService.addMember(journal.getId(), userDTO.getId(), role);
+        userReplicator.replicate(userDTO.getId());
+
+        String token = jwtTokenProvider.generateToken(userDTO.getEmail(), userDTO.getId(), membership.getId());
         LoginResponse response = LoginResponse.builder()
                 .token(token)
                 .user(userDTO)
+                .journal(membership)
                 .build();
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -57,7 +72,7 @@ public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
     } catch (IllegalArgumentException e) {
         return ResponseEntity.badRequest().body("Invalid role: " + request.getRole());
     } catch (RuntimeException e) {
-        log.error("Registration failed: {}", e.getMessage());
+        log.debug("Registration failed: {}", e.getMessage());
         return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
     }
 }
@@ -66,11 +81,13 @@ public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
     public ResponseEntity<?> login(@RequestBody LoginRequest request) {
         try {
             UserDTO userDTO = userService.loginUser(request.getEmail(), request.getPassword());
-            String token = jwtTokenProvider.generateToken(userDTO.getEmail(), userDTO.getId());
+            JournalDTO journal = journalService.resolveMembership(userDTO.getId(), request.getJournal());
+            String token = jwtTokenProvider.generateToken(userDTO.getEmail(), userDTO.getId(), journal.getId());
 
             LoginResponse response = LoginResponse.builder()
                     .token(token)
                     .user(userDTO)
+                    .journal(journal)
                     .build();
 
             return ResponseEntity.ok(response);
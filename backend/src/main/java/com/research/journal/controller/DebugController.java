@@ -1,11 +1,14 @@
 package com.research.journal.controller;
 
+import com.research.journal.config.JsonStream;
 import com.research.journal.dto.UserDTO;
+import com.research.journal.service.FieldProjection;
 import com.research.journal.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -17,7 +20,18 @@ public class DebugController {
     private final UserService userService;
 
     @GetMapping("/users")
-    public ResponseEntity<List<UserDTO>> listUsers() {
-        return ResponseEntity.ok(userService.getAllActiveUsers());
+    public ResponseEntity<?> listUsers(@RequestParam(required = false) String fields) {
+        FieldProjection.Fields selected;
+        try {
+            selected = FieldProjection.View.USER.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        if (selected != null) {
+            JsonStream users = generator -> userService.writeActiveUserFields(selected, generator);
+            return ResponseEntity.ok(users);
+        }
+        List<UserDTO> users = userService.getAllActiveUsers();
+        return ResponseEntity.ok(users);
     }
 }
@@ -0,0 +1,40 @@
+package com.research.journal.controller;
+
+import com.research.journal.dto.UserDTO;
+import com.research.journal.security.RequestUserResolver;
+import com.research.journal.service.EventStreamService;
+import com.research.journal.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class EventController {
+
+    private final EventStreamService eventStreamService;
+    private final RequestUserResolver requestUserResolver;
+    private final UserService userService;
+
+    // The subscriber and its role come from the bearer token, never from the client
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> stream(HttpServletRequest request) {
+        Long userId = requestUserResolver.resolveUserId(request);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authentication required");
+        }
+        try {
+            UserDTO user = userService.getUserById(userId);
+            return ResponseEntity.ok()
+                    .header("X-Accel-Buffering", "no")
+                    .body(eventStreamService.subscribe(user.getId(), user.getRole()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.research.journal.controller;
+
+import com.research.journal.dto.JournalDTO;
+import com.research.journal.entity.UserRole;
+import com.research.journal.service.JournalService;
+import com.research.journal.tenancy.ShardRebalancer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/journals")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class JournalController {
+
+    private final JournalService journalService;
+    private final ShardRebalancer shardRebalancer;
+
+    @GetMapping
+    public ResponseEntity<?> getAllJournals() {
+        return ResponseEntity.ok(journalService.getAllJournals());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getJournal(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(journalService.getJournalById(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    @PostMapping
+    public ResponseEntity<?> createJournal(@RequestBody JournalDTO request) {
+        try {
+            JournalDTO journal = journalService.createJournal(request.getCode(), request.getName());
+            return ResponseEntity.status(HttpStatus.CREATED).body(journal);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{id}/members")
+    public ResponseEntity<?> addMember(@PathVariable Long id, @RequestParam Long userId, @RequestParam UserRole role) {
+        try {
+            JournalDTO membership = journalService.addMember(id, userId, role);
+            return ResponseEntity.status(HttpStatus.CREATED).body(membership);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    // Moves the journal's data to another shard in the background; poll GET /api/journals/{id} for shard and status
+    @PostMapping("/{id}/move")
+    public ResponseEntity<?> moveJournal(@PathVariable Long id, @RequestParam int shard) {
+        try {
+            return ResponseEntity.accepted().body(shardRebalancer.startMove(id, shard));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
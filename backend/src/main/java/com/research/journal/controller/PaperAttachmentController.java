@@ -0,0 +1,74 @@
+package com.research.journal.controller;
+
+import com.research.journal.dto.PaperAttachmentDTO;
+import com.research.journal.service.PaperAttachmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class PaperAttachmentController {
+
+    private final PaperAttachmentService paperAttachmentService;
+
+    @PostMapping("/papers/{paperId}/attachments")
+    public ResponseEntity<?> attach(@PathVariable Long paperId, @RequestBody PaperAttachmentDTO request) {
+        try {
+            PaperAttachmentDTO attachment = paperAttachmentService.attach(
+                    paperId,
+                    request.getUploadId(),
+                    request.getRevisionId(),
+                    request.getKind()
+            );
+            return ResponseEntity.status(HttpStatus.CREATED).body(attachment);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/papers/{paperId}/attachments")
+    public ResponseEntity<?> getAttachments(@PathVariable Long paperId) {
+        try {
+            List<PaperAttachmentDTO> attachments = paperAttachmentService.getAttachmentsByPaper(paperId);
+            return ResponseEntity.ok(attachments);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    // Stored files never change, so the digest is a strong ETag and clients may cache forever
+    @GetMapping("/attachments/{id}/content")
+    public ResponseEntity<?> getContent(@PathVariable Long id) {
+        try {
+            PaperAttachmentService.AttachmentContent content = paperAttachmentService.getContent(id);
+            PaperAttachmentDTO attachment = content.attachment();
+            MediaType mediaType = attachment.getContentType() != null
+                    ? MediaType.parseMediaType(attachment.getContentType())
+                    : MediaType.APPLICATION_OCTET_STREAM;
+            return ResponseEntity.ok()
+                    .contentType(mediaType)
+                    .contentLength(attachment.getSize())
+                    .eTag("\"" + attachment.getSha256() + "\"")
+                    .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(attachment.getFileName(), StandardCharsets.UTF_8)
+                            .build()
+                            .toString())
+                    .body(new FileSystemResource(content.path()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package com.research.journal.controller;
 
+import com.research.journal.config.JsonStream;
 import com.research.journal.dto.PaperDTO;
+import com.research.journal.dto.SimilarPaperDTO;
 import com.research.journal.entity.PaperStatus;
+import com.research.journal.service.FieldProjection;
+import com.research.journal.service.PaperDetailService;
 import com.research.journal.service.PaperService;
+import com.research.journal.service.SimilarPaperService;
+import com.research.journal.service.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -16,6 +24,9 @@ import java.util.List;
 public class PaperController {
 
     private final PaperService paperService;
+    private final SingleFlight singleFlight;
+    private final PaperDetailService paperDetailService;
+    private final SimilarPaperService similarPaperService;
 
     @PostMapping
     public ResponseEntity<?> submitPaper(@RequestBody PaperDTO request) {
@@ -29,6 +40,11 @@ public class PaperController {
                     request.getContent(),
                     userId
             );
+            if (paperDTO.getProcessingJobId() != null) {
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/jobs/" + paperDTO.getProcessingJobId()))
+                        .body(paperDTO);
+            }
             return ResponseEntity.status(HttpStatus.CREATED).body(paperDTO);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
@@ -36,19 +52,51 @@ public class PaperController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getPaper(@PathVariable Long id) {
+    public ResponseEntity<?> getPaper(@PathVariable Long id, @RequestParam(required = false) String fields) {
         try {
-            PaperDTO paper = paperService.getPaperById(id);
+            FieldProjection.Fields selected = FieldProjection.View.PAPER.parse(fields);
+            if (selected != null) {
+                return ResponseEntity.ok(paperService.getPaperFields(id, selected));
+            }
+            byte[] paper = singleFlight.load(SingleFlight.PAPER, id, () -> paperService.getPaperById(id));
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(paper);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    // Paper, author, reviews with reviewers and revisions in one response; revision bodies on request
+    @GetMapping("/{id}/full")
+    public ResponseEntity<?> getPaperDetails(@PathVariable Long id,
+                                             @RequestParam(defaultValue = "false") boolean revisionContent) {
+        try {
+            PaperDTO paper = paperDetailService.getPaperDetails(id, revisionContent);
             return ResponseEntity.ok(paper);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         }
     }
 
+    // Other papers of the journal closest to this one by title and abstract, best first
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<?> getSimilarPapers(@PathVariable Long id, @RequestParam(defaultValue = "10") int k) {
+        try {
+            List<SimilarPaperDTO> similar = similarPaperService.findSimilar(id, k);
+            return ResponseEntity.ok(similar);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/author/{authorId}")
-    public ResponseEntity<?> getPapersByAuthor(@PathVariable Long authorId) {
+    public ResponseEntity<?> getPapersByAuthor(@PathVariable Long authorId, @RequestParam(required = false) String fields) {
         try {
-            List<PaperDTO> papers = paperService.getPapersByAuthor(authorId);
+            FieldProjection.Fields selected = FieldProjection.View.PAPER.parse(fields);
+            JsonStream papers = generator -> paperService.writePapersByAuthor(authorId, selected, generator);
             return ResponseEntity.ok(papers);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
@@ -56,21 +104,28 @@ public class PaperController {
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<?> getPapersByStatus(@PathVariable String status) {
+    public ResponseEntity<?> getPapersByStatus(@PathVariable String status, @RequestParam(required = false) String fields) {
+        PaperStatus paperStatus;
         try {
-            PaperStatus paperStatus = PaperStatus.valueOf(status.toUpperCase());
-            List<PaperDTO> papers = paperService.getPapersByStatus(paperStatus);
-            return ResponseEntity.ok(papers);
+            paperStatus = PaperStatus.valueOf(status.toUpperCase());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body("Invalid paper status: " + status);
         }
+        try {
+            FieldProjection.Fields selected = FieldProjection.View.PAPER.parse(fields);
+            JsonStream papers = generator -> paperService.writePapersByStatus(paperStatus, selected, generator);
+            return ResponseEntity.ok(papers);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
     }
 
     @GetMapping
-    public ResponseEntity<?> getAllPapers() {
+    public ResponseEntity<?> getAllPapers(@RequestParam(required = false) String fields) {
         try {
-            List<PaperDTO> papers = paperService.getAllPapersOrderedBySubmission();
+            FieldProjection.Fields selected = FieldProjection.View.PAPER.parse(fields);
+            JsonStream papers = generator -> paperService.writeAllPapersOrderedBySubmission(selected, generator);
             return ResponseEntity.ok(papers);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
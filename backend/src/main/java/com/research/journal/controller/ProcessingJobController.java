@@ -0,0 +1,27 @@
+package com.research.journal.controller;
+
+import com.research.journal.dto.ProcessingJobDTO;
+import com.research.journal.service.ProcessingJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class ProcessingJobController {
+
+    private final ProcessingJobService processingJobService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getJob(@PathVariable Long id) {
+        try {
+            ProcessingJobDTO job = processingJobService.getJobById(id);
+            return ResponseEntity.ok(job);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
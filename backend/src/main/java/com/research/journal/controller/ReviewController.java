@@ -1,12 +1,18 @@
 package com.research.journal.controller;
 
+import com.research.journal.config.JsonStream;
 import com.research.journal.dto.ReviewDTO;
 import com.research.journal.entity.ReviewStatus;
+import com.research.journal.service.FieldProjection;
 import com.research.journal.service.ReviewService;
+import com.research.journal.service.SingleFlight;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -16,6 +22,7 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final SingleFlight singleFlight;
 
     @PostMapping
     public ResponseEntity<?> submitReview(@RequestBody ReviewDTO request) {
@@ -40,28 +47,45 @@ public class ReviewController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getReview(@PathVariable Long id) {
+    public ResponseEntity<?> getReview(@PathVariable Long id, @RequestParam(required = false) String fields) {
         try {
+            FieldProjection.Fields selected = FieldProjection.View.REVIEW.parse(fields);
+            if (selected != null) {
+                return ResponseEntity.ok(reviewService.getReviewFields(id, selected));
+            }
             ReviewDTO review = reviewService.getReviewById(id);
             return ResponseEntity.ok(review);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         }
     }
 
     @GetMapping("/paper/{paperId}")
-    public ResponseEntity<?> getReviewsByPaper(@PathVariable Long paperId) {
+    public ResponseEntity<?> getReviewsByPaper(@PathVariable Long paperId, @RequestParam(required = false) String fields) {
         try {
-            List<ReviewDTO> reviews = reviewService.getReviewsByPaper(paperId);
-            return ResponseEntity.ok(reviews);
+            FieldProjection.Fields selected = FieldProjection.View.REVIEW.parse(fields);
+            if (selected != null) {
+                JsonStream reviews = generator -> reviewService.writeReviewFieldsByPaper(paperId, selected, generator);
+                return ResponseEntity.ok(reviews);
+            }
+            byte[] reviews = singleFlight.load(SingleFlight.PAPER_REVIEWS, paperId,
+                    () -> reviewService.getReviewsByPaper(paperId));
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(reviews);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
     }
 
     @GetMapping("/reviewer/{reviewerId}")
-    public ResponseEntity<?> getReviewsByReviewer(@PathVariable Long reviewerId) {
+    public ResponseEntity<?> getReviewsByReviewer(@PathVariable Long reviewerId, @RequestParam(required = false) String fields) {
         try {
+            FieldProjection.Fields selected = FieldProjection.View.REVIEW.parse(fields);
+            if (selected != null) {
+                JsonStream reviews = generator -> reviewService.writeReviewFieldsByReviewer(reviewerId, selected, generator);
+                return ResponseEntity.ok(reviews);
+            }
             List<ReviewDTO> reviews = reviewService.getReviewsByReviewer(reviewerId);
             return ResponseEntity.ok(reviews);
         } catch (RuntimeException e) {
@@ -70,8 +94,13 @@ public class ReviewController {
     }
 
     @GetMapping("/reviewer/{reviewerId}/pending")
-    public ResponseEntity<?> getPendingReviews(@PathVariable Long reviewerId) {
+    public ResponseEntity<?> getPendingReviews(@PathVariable Long reviewerId, @RequestParam(required = false) String fields) {
         try {
+            FieldProjection.Fields selected = FieldProjection.View.REVIEW.parse(fields);
+            if (selected != null) {
+                JsonStream reviews = generator -> reviewService.writePendingReviewFieldsForReviewer(reviewerId, selected, generator);
+                return ResponseEntity.ok(reviews);
+            }
             List<ReviewDTO> reviews = reviewService.getPendingReviewsForReviewer(reviewerId);
             return ResponseEntity.ok(reviews);
         } catch (RuntimeException e) {
@@ -93,6 +122,19 @@ public class ReviewController {
         }
     }
 
+    @PutMapping("/{id}/deadline")
+    public ResponseEntity<?> setDeadline(@PathVariable Long id,
+                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueAt) {
+        try {
+            ReviewDTO updatedReview = reviewService.setDeadline(id, dueAt);
+            return ResponseEntity.ok(updatedReview);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteReview(@PathVariable Long id) {
         try {
@@ -1,11 +1,22 @@
 package com.research.journal.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.research.journal.config.JsonStream;
 import com.research.journal.dto.RevisionDTO;
+import com.research.journal.service.FieldProjection;
+import com.research.journal.service.RevisionDiff;
+import com.research.journal.service.RevisionDiffService;
 import com.research.journal.service.RevisionService;
+import com.research.journal.service.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.nio.charset.StandardCharsets;
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -15,6 +26,9 @@ import java.util.List;
 public class RevisionController {
 
     private final RevisionService revisionService;
+    private final SingleFlight singleFlight;
+    private final RevisionDiffService revisionDiffService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<?> submitRevision(@RequestBody RevisionDTO request) {
@@ -24,6 +38,11 @@ public class RevisionController {
                     request.getContent(),
                     request.getChangesSummary()
             );
+            if (revisionDTO.getProcessingJobId() != null) {
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/jobs/" + revisionDTO.getProcessingJobId()))
+                        .body(revisionDTO);
+            }
             return ResponseEntity.status(HttpStatus.CREATED).body(revisionDTO);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
@@ -31,28 +50,46 @@ public class RevisionController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getRevision(@PathVariable Long id) {
+    public ResponseEntity<?> getRevision(@PathVariable Long id, @RequestParam(required = false) String fields) {
         try {
+            FieldProjection.Fields selected = FieldProjection.View.REVISION.parse(fields);
+            if (selected != null) {
+                return ResponseEntity.ok(revisionService.getRevisionFields(id, selected));
+            }
             RevisionDTO revision = revisionService.getRevisionById(id);
             return ResponseEntity.ok(revision);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         }
     }
 
     @GetMapping("/paper/{paperId}")
-    public ResponseEntity<?> getRevisionsByPaper(@PathVariable Long paperId) {
+    public ResponseEntity<?> getRevisionsByPaper(@PathVariable Long paperId, @RequestParam(required = false) String fields) {
         try {
-            List<RevisionDTO> revisions = revisionService.getRevisionsByPaper(paperId);
-            return ResponseEntity.ok(revisions);
+            FieldProjection.Fields selected = FieldProjection.View.REVISION.parse(fields);
+            if (selected != null) {
+                JsonStream revisions = generator -> revisionService.writeRevisionFieldsByPaper(paperId, selected, generator);
+                return ResponseEntity.ok(revisions);
+            }
+            byte[] revisions = singleFlight.load(SingleFlight.PAPER_REVISIONS, paperId,
+                    () -> revisionService.getRevisionsByPaper(paperId));
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(revisions);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
     }
 
     @GetMapping("/paper/{paperId}/ordered")
-    public ResponseEntity<?> getRevisionsByPaperOrdered(@PathVariable Long paperId) {
+    public ResponseEntity<?> getRevisionsByPaperOrdered(@PathVariable Long paperId, @RequestParam(required = false) String fields) {
         try {
+            FieldProjection.Fields selected = FieldProjection.View.REVISION.parse(fields);
+            if (selected != null) {
+                JsonStream revisions = generator ->
+                        revisionService.writeRevisionFieldsByPaperOrderedByVersion(paperId, selected, generator);
+                return ResponseEntity.ok(revisions);
+            }
             List<RevisionDTO> revisions = revisionService.getRevisionsByPaperOrderedByVersion(paperId);
             return ResponseEntity.ok(revisions);
         } catch (RuntimeException e) {
@@ -60,6 +97,36 @@ public class RevisionController {
         }
     }
 
+    @GetMapping("/paper/{paperId}/diff")
+    public ResponseEntity<?> getRevisionDiff(@PathVariable Long paperId,
+                                             @RequestParam Integer from,
+                                             @RequestParam Integer to,
+                                             @RequestParam(defaultValue = "json") String format,
+                                             @RequestParam(defaultValue = "line") String granularity,
+                                             @RequestParam(defaultValue = "3") int context) {
+        try {
+            if (!format.equals("json") && !format.equals("unified")) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid format: " + format);
+            }
+            RevisionDiff diff = revisionDiffService.getDiff(paperId, from, to, granularity);
+            if (format.equals("unified")) {
+                StreamingResponseBody body = out -> diff.writeUnified(out, context);
+                return ResponseEntity.ok()
+                        .contentType(new MediaType("text", "x-diff", StandardCharsets.UTF_8))
+                        .body(body);
+            }
+            StreamingResponseBody body = out -> {
+                JsonGenerator json = objectMapper.getFactory().createGenerator(out);
+                diff.writeJson(json, context);
+            };
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteRevision(@PathVariable Long id) {
         try {
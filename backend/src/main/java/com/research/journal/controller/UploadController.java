@@ -0,0 +1,87 @@
+package com.research.journal.controller;
+
+import com.research.journal.dto.UploadSessionDTO;
+import com.research.journal.service.UploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class UploadController {
+
+    private final UploadService uploadService;
+
+    @PostMapping
+    public ResponseEntity<?> startUpload(@RequestBody UploadSessionDTO request) {
+        try {
+            UploadSessionDTO upload = uploadService.startUpload(
+                    request.getFileName(),
+                    request.getContentType(),
+                    request.getTotalSize(),
+                    request.getExpectedSha256()
+            );
+            return ResponseEntity.created(URI.create("/api/uploads/" + upload.getId())).body(upload);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getUpload(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(uploadService.getUpload(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    // Raw bytes in the body; the client resumes from the receivedBytes reported by GET
+    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> uploadChunk(@PathVariable Long id,
+                                         @RequestParam long offset,
+                                         @RequestHeader(value = "X-Chunk-SHA256", required = false) String chunkSha256,
+                                         HttpServletRequest request) {
+        try {
+            return ResponseEntity.ok(uploadService.writeChunk(id, offset, request.getInputStream(), chunkSha256));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to store chunk");
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<?> completeUpload(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(uploadService.completeUpload(id));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to store file");
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> abortUpload(@PathVariable Long id) {
+        try {
+            uploadService.abortUpload(id);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
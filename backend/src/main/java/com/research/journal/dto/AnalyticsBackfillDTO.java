@@ -0,0 +1,23 @@
+package com.research.journal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalyticsBackfillDTO {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Boolean running;
+    // One task per shard and day
+    private Integer totalTasks;
+    private Integer completedTasks;
+    private Integer failedTasks;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,25 @@
+package com.research.journal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalyticsBucketDTO {
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private Long submissions;
+    private Long accepted;
+    private Long rejected;
+    // accepted / (accepted + rejected); null without decisions
+    private Double acceptanceRate;
+    private Long reviewsSubmitted;
+    private LatencySummaryDTO timeToAccept;
+    private LatencySummaryDTO timeToReject;
+    private LatencySummaryDTO timeToDecision;
+}
@@ -0,0 +1,25 @@
+package com.research.journal.dto;
+
+import com.research.journal.entity.AuditAction;
+import com.research.journal.entity.AuditEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditEventDTO {
+    private Long id;
+    private LocalDateTime occurredAt;
+    private AuditEntityType entityType;
+    private Long entityId;
+    private AuditAction action;
+    private Long actorUserId;
+    private String actorIp;
+    // JSON object as recorded
+    private String details;
+}
@@ -0,0 +1,19 @@
+package com.research.journal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditPageDTO {
+    // Newest first
+    private List<AuditEventDTO> events;
+    private Integer page;
+    private Integer size;
+    private Boolean hasNext;
+}
@@ -0,0 +1,24 @@
+package com.research.journal.dto;
+
+import com.research.journal.entity.JournalStatus;
+import com.research.journal.entity.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalDTO {
+    private Long id;
+    private String code;
+    private String name;
+    private Integer shard;
+    private JournalStatus status;
+    // The caller's role in the journal, where the response is about a membership
+    private UserRole role;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package com.research.journal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LatencySummaryDTO {
+    private Long count;
+    private Double meanHours;
+    private Double medianHours;
+    private Double p90Hours;
+    private Double maxHours;
+}
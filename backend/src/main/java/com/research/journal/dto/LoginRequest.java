@@ -12,4 +12,6 @@ import lombok.NoArgsConstructor;
 public class LoginRequest {
     private String email;
     private String password;
+    // Journal code; optional
+    private String journal;
 }
@@ -12,4 +12,6 @@ import lombok.NoArgsConstructor;
 public class LoginResponse {
     private String token;
     private UserDTO user;
+    // Journal the token is bound to, with the user's role in it
+    private JournalDTO journal;
 }
@@ -0,0 +1,25 @@
+package com.research.journal.dto;
+
+import com.research.journal.entity.AttachmentKind;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaperAttachmentDTO {
+    private Long id;
+    private Long paperId;
+    private Long revisionId;
+    private Long uploadId;
+    private String fileName;
+    private AttachmentKind kind;
+    private String contentType;
+    private Long size;
+    private String sha256;
+    private LocalDateTime createdAt;
+}
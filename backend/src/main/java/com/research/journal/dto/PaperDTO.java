@@ -14,6 +14,7 @@ import java.util.List;
 @Builder
 public class PaperDTO {
     private Long id;
+    private Long journalId;
     private String title;
     private String abstractText;
     private String content;
@@ -29,4 +30,6 @@ public class PaperDTO {
     private LocalDateTime publishedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // Set on submission: poll /api/jobs/{id} for post-submission processing
+    private Long processingJobId;
 }
@@ -0,0 +1,27 @@
+package com.research.journal.dto;
+
+import com.research.journal.entity.ProcessingJobStatus;
+import com.research.journal.entity.ProcessingStage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessingJobDTO {
+    private Long id;
+    private Long paperId;
+    private Long revisionId;
+    private ProcessingStage stage;
+    private ProcessingJobStatus status;
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
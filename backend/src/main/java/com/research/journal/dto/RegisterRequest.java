@@ -16,6 +16,8 @@ public class RegisterRequest {
     private String lastName;
     private String affiliation;
     private String role;
+    // Journal code; optional
+    private String journal;
     
     private String username;   // this was missing before
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ public class ReviewDTO {
     private Integer originalityRating;
     private Integer significanceRating;
     private LocalDateTime submittedAt;
+    private LocalDateTime dueAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
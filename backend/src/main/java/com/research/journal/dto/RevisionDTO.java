@@ -19,4 +19,6 @@ public class RevisionDTO {
     private LocalDateTime submittedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // Set on submission: poll /api/jobs/{id} for post-submission processing
+    private Long processingJobId;
 }
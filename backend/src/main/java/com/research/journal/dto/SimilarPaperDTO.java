@@ -0,0 +1,21 @@
+package com.research.journal.dto;
+
+import com.research.journal.entity.PaperStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimilarPaperDTO {
+    private Long paperId;
+    private String title;
+    private PaperStatus status;
+    private LocalDateTime submittedAt;
+    // Cosine similarity of the TF-IDF vectors, 0 to 1
+    private float score;
+}
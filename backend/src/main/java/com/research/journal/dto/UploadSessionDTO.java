@@ -0,0 +1,27 @@
+package com.research.journal.dto;
+
+import com.research.journal.entity.UploadStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionDTO {
+    private Long id;
+    private String fileName;
+    private String contentType;
+    private Long totalSize;
+    private Long receivedBytes;
+    private String expectedSha256;
+    private UploadStatus status;
+    private Long maxChunkSize;
+    private Long storedFileId;
+    private String sha256;
+    private Boolean deduplicated;
+    private LocalDateTime expiresAt;
+}
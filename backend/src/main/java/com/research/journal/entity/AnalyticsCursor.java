@@ -0,0 +1,33 @@
+package com.research.journal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the outbox tailer that maintains the analytics rollups; a single row per shard.
+ * Buckets before {@code liveSince} belong to backfill, later ones to the tailer.
+ */
+@Entity
+@Table(name = "analytics_cursor")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsCursor {
+
+    public static final Long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    @Column(name = "live_since")
+    private LocalDateTime liveSince;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,66 @@
+package com.research.journal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDateTime;
+
+/**
+ * Editorial activity of one journal in one hour or day, keyed by when each event happened:
+ * submissions by submission time, decisions and reviews by the time they were made.
+ */
+@Entity
+@Table(name = "analytics_rollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalyticsRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Set explicitly by the rollup writers, which run across journals
+    @TenantId
+    @Column(name = "journal_id", nullable = false, updatable = false)
+    private Long journalId;
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private long submissions;
+
+    @Column(nullable = false)
+    private long accepted;
+
+    @Column(nullable = false)
+    private long rejected;
+
+    @Column(name = "reviews_submitted", nullable = false)
+    private long reviewsSubmitted;
+
+    // Compressed HdrHistogram, see LatencySketch
+    @Column(name = "time_to_accept", columnDefinition = "BLOB")
+    private byte[] timeToAccept;
+
+    @Column(name = "time_to_reject", columnDefinition = "BLOB")
+    private byte[] timeToReject;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+}
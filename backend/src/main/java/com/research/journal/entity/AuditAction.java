@@ -0,0 +1,27 @@
+package com.research.journal.entity;
+
+public enum AuditAction {
+    PAPER_SUBMITTED(AuditEntityType.PAPER),
+    PAPER_STATUS_CHANGED(AuditEntityType.PAPER),
+    PAPER_PLAGIARISM_SCORED(AuditEntityType.PAPER),
+    PAPER_DELETED(AuditEntityType.PAPER),
+    REVIEW_SUBMITTED(AuditEntityType.REVIEW),
+    REVIEW_STATUS_CHANGED(AuditEntityType.REVIEW),
+    REVIEW_DEADLINE_SET(AuditEntityType.REVIEW),
+    REVIEW_ASSIGNED(AuditEntityType.REVIEW),
+    REVIEW_DELETED(AuditEntityType.REVIEW),
+    REVISION_SUBMITTED(AuditEntityType.REVISION),
+    REVISION_DELETED(AuditEntityType.REVISION),
+    USER_UPDATED(AuditEntityType.USER),
+    USER_DEACTIVATED(AuditEntityType.USER);
+
+    private final AuditEntityType entityType;
+
+    AuditAction(AuditEntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public AuditEntityType getEntityType() {
+        return entityType;
+    }
+}
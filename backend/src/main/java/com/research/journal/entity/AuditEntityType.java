@@ -0,0 +1,8 @@
+package com.research.journal.entity;
+
+public enum AuditEntityType {
+    PAPER,
+    REVIEW,
+    REVISION,
+    USER
+}
@@ -0,0 +1,54 @@
+package com.research.journal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * One change to a paper, review, revision or user: what was done, by whom and when. Rows are
+ * inserted in batches by AuditWriter and never updated; JPA only reads them.
+ */
+@Entity
+@Table(name = "audit_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // Journal of the request that made the change
+    @Column(name = "journal_id")
+    private Long journalId;
+
+    @Column(name = "entity_type", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private AuditEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false, length = 50)
+    @Enumerated(EnumType.STRING)
+    private AuditAction action;
+
+    // Null for anonymous requests and background work
+    @Column(name = "actor_user_id")
+    private Long actorUserId;
+
+    @Column(name = "actor_ip", length = 45)
+    private String actorIp;
+
+    // JSON object, e.g. {"from":"SUBMITTED","to":"ACCEPTED"}
+    @Column(length = 1000)
+    private String details;
+}
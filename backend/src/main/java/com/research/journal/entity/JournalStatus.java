@@ -0,0 +1,7 @@
+package com.research.journal.entity;
+
+public enum JournalStatus {
+    ACTIVE,
+    // Writes are refused while the journal moves between shards
+    READ_ONLY
+}
@@ -0,0 +1,45 @@
+package com.research.journal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    // Delivered to this user's subscriptions; null when the event is not user-specific
+    @Column(name = "recipient_user_id")
+    private Long recipientUserId;
+
+    // Delivered to every subscription of this role; null when no role-wide audience
+    @Column(name = "audience_role", length = 20)
+    @Enumerated(EnumType.STRING)
+    private UserRole audienceRole;
+
+    @Column(nullable = false, length = 1000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,12 @@
+package com.research.journal.entity;
+
+public enum OutboxEventType {
+    PAPER_SUBMITTED,
+    PAPER_STATUS_CHANGED,
+    REVIEW_SUBMITTED,
+    REVIEW_STATUS_CHANGED,
+    REVISION_SUBMITTED,
+    REVIEW_ASSIGNED,
+    REVIEW_REMINDER,
+    REVIEW_OVERDUE
+}
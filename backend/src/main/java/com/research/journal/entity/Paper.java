@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +22,11 @@ public class Paper {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Journal of the current request, set by Hibernate on insert and added to every query
+    @TenantId
+    @Column(name = "journal_id", nullable = false, updatable = false)
+    private Long journalId;
+
     @Column(nullable = false)
     private String title;
 
@@ -0,0 +1,8 @@
+package com.research.journal.entity;
+
+public enum ProcessingJobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.research.journal.entity;
+
+// Pipeline order; a submission passes through every stage that has a ProcessingStageHandler
+public enum ProcessingStage {
+    TEXT_EXTRACTION,
+    INDEXING,
+    SIMILARITY_CHECK,
+    NOTIFICATION
+}
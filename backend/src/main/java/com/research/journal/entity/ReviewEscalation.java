@@ -0,0 +1,7 @@
+package com.research.journal.entity;
+
+// Timers kept per pending review with a deadline: a reminder some time before, then the overdue action
+public enum ReviewEscalation {
+    REMINDER,
+    OVERDUE
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
 
 @Entity
@@ -19,6 +20,11 @@ public class Revision {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Journal of the current request, set by Hibernate on insert and added to every query
+    @TenantId
+    @Column(name = "journal_id", nullable = false, updatable = false)
+    private Long journalId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "paper_id", nullable = false)
     private Paper paper;
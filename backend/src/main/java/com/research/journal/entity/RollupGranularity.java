@@ -0,0 +1,6 @@
+package com.research.journal.entity;
+
+public enum RollupGranularity {
+    HOUR,
+    DAY
+}
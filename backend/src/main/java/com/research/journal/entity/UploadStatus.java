@@ -0,0 +1,7 @@
+package com.research.journal.entity;
+
+public enum UploadStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    ABORTED
+}
@@ -0,0 +1,42 @@
+package com.research.journal.logging;
+
+import ch.qos.logback.classic.Level;
+import com.research.journal.security.RequestUserResolver;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import java.util.List;
+
+@Configuration
+public class LoggingConfig {
+
+    // Ahead of security, so rate-limited and rejected requests are logged with their id too
+    @Bean
+    public FilterRegistrationBean<RequestLoggingFilter> requestLoggingFilter(
+            RequestUserResolver requestUserResolver,
+            @Value("${journal.logging.debug-header:X-Debug-Log}") String debugHeader,
+            @Value("${journal.logging.sample-rate:0.01}") double sampleRate,
+            @Value("${journal.logging.slow-request-ms:1000}") long slowRequestMs) {
+        FilterRegistrationBean<RequestLoggingFilter> registration = new FilterRegistrationBean<>(
+                new RequestLoggingFilter(requestUserResolver, debugHeader, sampleRate, slowRequestMs));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder loggingDropMetrics() {
+        return registry -> {
+            for (Level level : List.of(Level.DEBUG, Level.INFO, Level.WARN)) {
+                FunctionCounter.builder("journal.logging.dropped", level, PriorityAsyncAppender::dropped)
+                        .description("Log events dropped because the async appender's queue was filling up")
+                        .tag("level", level.toString())
+                        .register(registry);
+            }
+        };
+    }
+}
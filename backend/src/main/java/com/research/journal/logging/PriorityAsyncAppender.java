@@ -0,0 +1,57 @@
+package com.research.journal.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Async appender that sheds load by level as its queue fills: DEBUG and TRACE once less than
+ * half of it is free, INFO below a fifth, WARN below a twentieth. ERROR is never dropped; when
+ * the queue is completely full it waits for room. Events are dropped before their message is
+ * formatted or their MDC copied, so shedding costs the caller almost nothing.
+ */
+public class PriorityAsyncAppender extends AsyncAppender {
+
+    // Indexed by DROP_INDEX of the event's level
+    private static final AtomicLongArray DROPPED = new AtomicLongArray(3);
+
+    public PriorityAsyncAppender() {
+        // The level tiers below replace the base class's single discarding threshold
+        setDiscardingThreshold(0);
+    }
+
+    /** Events dropped so far for a full queue, per level (DEBUG includes TRACE). */
+    public static long dropped(Level level) {
+        int index = dropIndex(level);
+        return index < 0 ? 0 : DROPPED.get(index);
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int index = dropIndex(event.getLevel());
+        if (index >= 0 && getRemainingCapacity() < getQueueSize() * freeShare(index)) {
+            DROPPED.incrementAndGet(index);
+            return;
+        }
+        super.append(event);
+    }
+
+    private static int dropIndex(Level level) {
+        if (level.levelInt <= Level.DEBUG_INT) {
+            return 0;
+        }
+        if (level.levelInt == Level.INFO_INT) {
+            return 1;
+        }
+        return level.levelInt == Level.WARN_INT ? 2 : -1;
+    }
+
+    private static double freeShare(int index) {
+        return switch (index) {
+            case 0 -> 0.5;
+            case 1 -> 0.2;
+            default -> 0.05;
+        };
+    }
+}
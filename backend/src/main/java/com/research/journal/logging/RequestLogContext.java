@@ -0,0 +1,31 @@
+package com.research.journal.logging;
+
+/**
+ * Per-thread logging state of the request being handled. MDC keys are the names used in the
+ * log pattern; the sampled flag lives in a plain thread-local so the turbo filter can read it
+ * without a map lookup on every disabled log call.
+ */
+public final class RequestLogContext {
+
+    public static final String REQUEST_ID = "requestId";
+    public static final String USER_ID = "userId";
+    public static final String ENDPOINT = "endpoint";
+    public static final String LATENCY_MS = "latencyMs";
+
+    private static final ThreadLocal<Boolean> SAMPLED = new ThreadLocal<>();
+
+    private RequestLogContext() {
+    }
+
+    public static boolean isSampled() {
+        return SAMPLED.get() != null;
+    }
+
+    static void setSampled(boolean sampled) {
+        if (sampled) {
+            SAMPLED.set(Boolean.TRUE);
+        } else {
+            SAMPLED.remove();
+        }
+    }
+}
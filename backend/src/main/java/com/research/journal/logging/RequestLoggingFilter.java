@@ -0,0 +1,89 @@
+package com.research.journal.logging;
+
+import com.research.journal.security.RequestUserResolver;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Puts the request id, JWT userId and endpoint in the MDC of every line logged while handling a
+ * request, and decides whether the request is sampled: with the debug header, or at
+ * {@code sample-rate}, the application's DEBUG lines are written for it. A sampled request, or
+ * one slower than {@code slow-request-ms}, ends with a line carrying its status and latency.
+ * The request id is taken from {@code X-Request-Id} when the caller sends one and returned in it.
+ */
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private static final String REQUEST_ID_HEADER = "X-Request-Id";
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    private final RequestUserResolver requestUserResolver;
+    private final String debugHeader;
+    private final double sampleRate;
+    private final long slowRequestMs;
+
+    public RequestLoggingFilter(RequestUserResolver requestUserResolver, String debugHeader, double sampleRate,
+                                long slowRequestMs) {
+        this.requestUserResolver = requestUserResolver;
+        this.debugHeader = debugHeader;
+        this.sampleRate = sampleRate;
+        this.slowRequestMs = slowRequestMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+            requestId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        }
+        boolean sampled = request.getHeader(debugHeader) != null || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        Long userId = requestUserResolver.resolveUserId(request);
+
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put(RequestLogContext.REQUEST_ID, requestId);
+        if (userId != null) {
+            MDC.put(RequestLogContext.USER_ID, userId.toString());
+        }
+        MDC.put(RequestLogContext.ENDPOINT, request.getMethod() + ' ' + request.getRequestURI());
+        RequestLogContext.setSampled(sampled);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long latencyMs = (System.nanoTime() - startedAt) / 1_000_000;
+            if (sampled || latencyMs >= slowRequestMs) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                if (pattern != null) {
+                    MDC.put(RequestLogContext.ENDPOINT, request.getMethod() + ' ' + pattern);
+                }
+                MDC.put(RequestLogContext.LATENCY_MS, Long.toString(latencyMs));
+                if (sampled) {
+                    log.info("Completed with status {}", response.getStatus());
+                } else {
+                    log.warn("Slow request completed with status {}", response.getStatus());
+                }
+            }
+            RequestLogContext.setSampled(false);
+            MDC.remove(RequestLogContext.REQUEST_ID);
+            MDC.remove(RequestLogContext.USER_ID);
+            MDC.remove(RequestLogContext.ENDPOINT);
+            MDC.remove(RequestLogContext.LATENCY_MS);
+        }
+    }
+
+    // Async dispatches (streamed bodies, SSE) keep the thread's context from the first dispatch
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.research.journal.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+/**
+ * Lets DEBUG and TRACE through for the application's loggers while a sampled request is being
+ * handled, whatever their configured level. Outside sampled requests it stays neutral, so the
+ * configured levels apply and a disabled call costs one thread-local read before being dropped.
+ */
+public class RequestSamplingTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.research.journal";
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level.levelInt >= Level.INFO_INT || !RequestLogContext.isSampled()) {
+            return FilterReply.NEUTRAL;
+        }
+        return logger.getName().startsWith(loggerPrefix) ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,31 @@
+package com.research.journal.repository;
+
+import com.research.journal.entity.AnalyticsCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+
+@Repository
+public interface AnalyticsCursorRepository extends JpaRepository<AnalyticsCursor, Long> {
+
+    // Moves the cursor only if no other pod moved it first; the row lock it takes also
+    // serializes the rollup writes that follow in the same transaction
+    @Modifying
+    @Query("UPDATE AnalyticsCursor c SET c.lastEventId = :to, c.updatedAt = :now " +
+            "WHERE c.id = :id AND c.lastEventId = :from AND c.liveSince IS NOT NULL")
+    int advance(@Param("id") Long id, @Param("from") Long from, @Param("to") Long to, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE AnalyticsCursor c SET c.lastEventId = :lastEventId, c.liveSince = :liveSince, c.updatedAt = :now " +
+            "WHERE c.id = :id AND c.liveSince IS NULL")
+    int start(@Param("id") Long id, @Param("lastEventId") Long lastEventId,
+              @Param("liveSince") LocalDateTime liveSince, @Param("now") LocalDateTime now);
+
+    // Taken by backfill before it rewrites buckets, so it never interleaves with the tailer
+    @Modifying
+    @Query("UPDATE AnalyticsCursor c SET c.updatedAt = :now WHERE c.id = :id")
+    int lock(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
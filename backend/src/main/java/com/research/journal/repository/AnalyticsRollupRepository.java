@@ -0,0 +1,30 @@
+package com.research.journal.repository;
+
+import com.research.journal.entity.AnalyticsRollup;
+import com.research.journal.entity.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AnalyticsRollupRepository extends JpaRepository<AnalyticsRollup, Long> {
+
+    Optional<AnalyticsRollup> findByJournalIdAndGranularityAndBucketStart(Long journalId, RollupGranularity granularity,
+                                                                          LocalDateTime bucketStart);
+
+    @Query("SELECT r FROM AnalyticsRollup r WHERE r.granularity = :granularity " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to")
+    List<AnalyticsRollup> findInRange(@Param("granularity") RollupGranularity granularity,
+                                      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM AnalyticsRollup r WHERE r.granularity = :granularity " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteInRange(@Param("granularity") RollupGranularity granularity,
+                      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,17 @@
+package com.research.journal.repository;
+
+import com.research.journal.entity.PaperAttachment;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PaperAttachmentRepository extends JpaRepository<PaperAttachment, Long> {
+    @EntityGraph(attributePaths = "storedFile")
+    List<PaperAttachment> findByPaperIdOrderByIdAsc(Long paperId);
+
+    @EntityGraph(attributePaths = "storedFile")
+    Optional<PaperAttachment> findWithStoredFileById(Long id);
+}
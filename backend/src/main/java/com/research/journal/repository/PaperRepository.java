@@ -2,20 +2,59 @@ package com.research.journal.repository;
 
 import com.research.journal.entity.Paper;
 import com.research.journal.entity.PaperStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaperRepository extends JpaRepository<Paper, Long> {
-    List<Paper> findByAuthorId(Long authorId);
-    List<Paper> findByStatus(PaperStatus status);
+    // Listings are streamed to the response; MySQL honours the fetch size with useCursorFetch=true
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"))
+    Stream<Paper> findByAuthorId(Long authorId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"))
+    Stream<Paper> findByStatus(PaperStatus status);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"))
+    Stream<Paper> findAllByOrderByCreatedAtDesc();
     
     @Query("SELECT p FROM Paper p WHERE p.status = :status ORDER BY p.submittedAt DESC")
     List<Paper> findByStatusOrderBySubmittedAtDesc(@Param("status") PaperStatus status);
     
     @Query("SELECT p FROM Paper p WHERE p.author.id = :authorId ORDER BY p.submittedAt DESC")
     List<Paper> findAuthorPapersOrderBySubmittedAtDesc(@Param("authorId") Long authorId);
+
+    @Query("SELECT p FROM Paper p JOIN FETCH p.author WHERE p.id = :id")
+    Optional<Paper> findWithAuthorById(@Param("id") Long id);
+
+    // Cross-journal admin listings: run on each shard with no journal bound, so every journal is included.
+    // A left join (author_id is NOT NULL) keeps papers the driving table, read newest first off the index
+    @Query("SELECT p FROM Paper p LEFT JOIN FETCH p.author ORDER BY p.createdAt DESC")
+    List<Paper> findRecentWithAuthor(Pageable pageable);
+
+    @Query("SELECT p FROM Paper p JOIN FETCH p.author WHERE p.status = :status ORDER BY p.submittedAt DESC")
+    List<Paper> findRecentWithAuthorByStatus(@Param("status") PaperStatus status, Pageable pageable);
+
+    // Analytics backfill, across journals: [journalId, submittedAt(, decision time)] per paper in the window
+    @Query("SELECT p.journalId, p.submittedAt FROM Paper p WHERE p.submittedAt >= :from AND p.submittedAt < :to")
+    List<Object[]> findSubmissionTimes(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT p.journalId, p.submittedAt, p.acceptedAt FROM Paper p WHERE p.acceptedAt >= :from AND p.acceptedAt < :to")
+    List<Object[]> findAcceptanceTimes(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Similar-paper results: [id, title, status, submittedAt] without the text columns
+    @Query("SELECT p.id, p.title, p.status, p.submittedAt FROM Paper p WHERE p.id IN :ids")
+    List<Object[]> findSummariesByIds(@Param("ids") List<Long> ids);
+
+    @Query("SELECT p.journalId, p.submittedAt, p.rejectedAt FROM Paper p WHERE p.rejectedAt >= :from AND p.rejectedAt < :to")
+    List<Object[]> findRejectionTimes(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,58 @@
+package com.research.journal.repository;
+
+import com.research.journal.entity.ProcessingJob;
+import com.research.journal.entity.ProcessingJobStatus;
+import com.research.journal.entity.ProcessingStage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProcessingJobRepository extends JpaRepository<ProcessingJob, Long> {
+
+    @Query("SELECT j.id FROM ProcessingJob j WHERE j.stage = :stage AND j.status = :status " +
+            "AND j.nextAttemptAt <= :now ORDER BY j.nextAttemptAt")
+    List<Long> findDueIds(@Param("stage") ProcessingStage stage, @Param("status") ProcessingJobStatus status,
+                          @Param("now") LocalDateTime now, Pageable pageable);
+
+    // Only rows still PENDING are taken, so concurrent workers on other pods never claim the same job
+    @Modifying
+    @Query("UPDATE ProcessingJob j SET j.status = :running, j.lockedBy = :token, j.lockedUntil = :lockedUntil, " +
+            "j.attempts = j.attempts + 1 WHERE j.id IN :ids AND j.status = :pending")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token,
+              @Param("lockedUntil") LocalDateTime lockedUntil,
+              @Param("pending") ProcessingJobStatus pending, @Param("running") ProcessingJobStatus running);
+
+    List<ProcessingJob> findByLockedBy(String lockedBy);
+
+    @Modifying
+    @Query("UPDATE ProcessingJob j SET j.stage = :stage, j.status = :pending, j.attempts = 0, " +
+            "j.nextAttemptAt = :now, j.lockedBy = NULL, j.lockedUntil = NULL, j.lastError = NULL, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.lockedBy = :token")
+    int advance(@Param("id") Long id, @Param("token") String token, @Param("stage") ProcessingStage stage,
+                @Param("pending") ProcessingJobStatus pending, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ProcessingJob j SET j.status = :status, j.lockedBy = NULL, j.lockedUntil = NULL, " +
+            "j.nextAttemptAt = :nextAttemptAt, j.lastError = :error, j.completedAt = :completedAt, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.lockedBy = :token")
+    int release(@Param("id") Long id, @Param("token") String token, @Param("status") ProcessingJobStatus status,
+                @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error,
+                @Param("completedAt") LocalDateTime completedAt, @Param("now") LocalDateTime now);
+
+    // Jobs of a worker that died mid-batch become claimable again once their lock expires
+    @Modifying
+    @Query("UPDATE ProcessingJob j SET j.status = :pending, j.lockedBy = NULL, j.lockedUntil = NULL " +
+            "WHERE j.status = :running AND j.lockedUntil < :now")
+    int releaseExpiredLocks(@Param("pending") ProcessingJobStatus pending,
+                            @Param("running") ProcessingJobStatus running, @Param("now") LocalDateTime now);
+
+    @Query("SELECT j.stage, COUNT(j) FROM ProcessingJob j WHERE j.status = :status GROUP BY j.stage")
+    List<Object[]> countByStage(@Param("status") ProcessingJobStatus status);
+}
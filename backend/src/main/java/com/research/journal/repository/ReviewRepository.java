@@ -2,8 +2,14 @@ package com.research.journal.repository;
 
 import com.research.journal.entity.Review;
 import com.research.journal.entity.ReviewStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +18,30 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByReviewerId(Long reviewerId);
     List<Review> findByPaperIdAndStatus(Long paperId, ReviewStatus status);
     List<Review> findByReviewerIdAndStatus(Long reviewerId, ReviewStatus status);
+
+    // Reviewers of the newest reviews, repeated once per review; warm-up takes the distinct ones
+    @Query("SELECT r.reviewer.id FROM Review r ORDER BY r.id DESC")
+    List<Long> findRecentReviewerIds(Pageable pageable);
+
+    @Query("SELECT r FROM Review r JOIN FETCH r.reviewer WHERE r.paper.id = :paperId")
+    List<Review> findWithReviewerByPaperId(@Param("paperId") Long paperId);
+
+    @Query("SELECT r FROM Review r JOIN FETCH r.paper WHERE r.id IN :ids")
+    List<Review> findWithPaperByIds(@Param("ids") Collection<Long> ids);
+
+    // [reviewerId, count] of the journal's reviewers with reviews in the status
+    @Query("SELECT r.reviewer.id, COUNT(r) FROM Review r WHERE r.status = :status GROUP BY r.reviewer.id")
+    List<Object[]> countByReviewerAndStatus(@Param("status") ReviewStatus status);
+
+    // [paperId, reviewerId] per review of the papers
+    @Query("SELECT r.paper.id, r.reviewer.id FROM Review r WHERE r.paper.id IN :paperIds")
+    List<Object[]> findReviewerIdsByPaperIds(@Param("paperIds") Collection<Long> paperIds);
+
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.paper.id = :paperId")
+    int deleteAllByPaperIdInBulk(@Param("paperId") Long paperId);
+
+    // Analytics backfill, across journals: [journalId, submittedAt] per review in the window
+    @Query("SELECT r.journalId, r.submittedAt FROM Review r WHERE r.submittedAt >= :from AND r.submittedAt < :to")
+    List<Object[]> findSubmissionTimes(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -2,11 +2,26 @@ package com.research.journal.repository;
 
 import com.research.journal.entity.Revision;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RevisionRepository extends JpaRepository<Revision, Long> {
     List<Revision> findByPaperId(Long paperId);
     List<Revision> findByPaperIdOrderByRevisionNumberDesc(Long paperId);
+
+    // Everything but the revision body
+    List<RevisionSummary> findSummariesByPaperIdOrderByRevisionNumberDesc(Long paperId);
+
+    @Query("SELECT r.id FROM Revision r WHERE r.paper.id = :paperId AND r.revisionNumber = :revisionNumber")
+    Optional<Long> findIdByPaperIdAndRevisionNumber(@Param("paperId") Long paperId,
+                                                    @Param("revisionNumber") Integer revisionNumber);
+
+    @Modifying
+    @Query("DELETE FROM Revision r WHERE r.paper.id = :paperId")
+    int deleteAllByPaperIdInBulk(@Param("paperId") Long paperId);
 }
@@ -0,0 +1,13 @@
+package com.research.journal.repository;
+
+import java.time.LocalDateTime;
+
+/** Closed projection of a revision without its content, for listings that only show metadata. */
+public interface RevisionSummary {
+    Long getId();
+    Integer getRevisionNumber();
+    String getChangesSummary();
+    LocalDateTime getSubmittedAt();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
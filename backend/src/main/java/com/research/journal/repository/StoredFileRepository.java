@@ -0,0 +1,11 @@
+package com.research.journal.repository;
+
+import com.research.journal.entity.StoredFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+    Optional<StoredFile> findBySha256(String sha256);
+}
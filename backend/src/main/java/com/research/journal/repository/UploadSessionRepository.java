@@ -0,0 +1,25 @@
+package com.research.journal.repository;
+
+import com.research.journal.entity.UploadSession;
+import com.research.journal.entity.UploadStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, Long> {
+    List<UploadSession> findByStatusAndExpiresAtBefore(UploadStatus status, LocalDateTime cutoff);
+
+    // Moves the offset only if no other chunk got there first
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.receivedBytes = :received, s.updatedAt = :now " +
+            "WHERE s.id = :id AND s.receivedBytes = :offset AND s.status = :status")
+    int advance(@Param("id") Long id, @Param("offset") Long offset, @Param("received") Long received,
+                @Param("status") UploadStatus status, @Param("now") LocalDateTime now);
+}
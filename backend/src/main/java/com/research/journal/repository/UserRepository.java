@@ -3,6 +3,8 @@ package com.research.journal.repository;
 import com.research.journal.entity.User;
 import com.research.journal.entity.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 import java.util.List;
@@ -11,6 +13,12 @@ import java.util.List;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+    boolean existsByEmail(String email);
+    boolean existsByUsername(String username);
+    // Both registration checks in one round trip. A union rather than OR, so each side reads its own
+    // unique key without relying on MySQL's index merge; a user matching both comes back twice
+    @Query("SELECT u FROM User u WHERE u.email = :email UNION ALL SELECT u FROM User u WHERE u.username = :username")
+    List<User> findByEmailOrUsername(@Param("email") String email, @Param("username") String username);
     List<User> findByRole(UserRole role);
     List<User> findByIsActiveTrue();
 }
@@ -1,6 +1,8 @@
 package com.research.journal.security;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.annotation.Timed;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,6 +12,7 @@ import java.util.Date;
 
 @Component
 @RequiredArgsConstructor
+@Timed(value = "journal.jwt", histogram = true)
 public class JwtTokenProvider {
 
     @Value("${jwt.secret:mySecureJwtSecretKeyThatIsLongEnoughForHS256Algorithm}")
@@ -18,11 +21,12 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration:86400000}")
     private long jwtExpirationMs;
 
-    public String generateToken(String email, Long userId) {
+    public String generateToken(String email, Long userId, Long journalId) {
         SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
         return Jwts.builder()
                 .subject(email)
                 .claim("userId", userId)
+                .claim("journalId", journalId)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
                 .signWith(key)
@@ -49,6 +53,19 @@ public class JwtTokenProvider {
                 .get("userId", Long.class);
     }
 
+    public Claims getClaimsIfValid(String token) {
+        try {
+            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+            return Jwts.parser()
+                    .verifyWith(key)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     public boolean validateToken(String token) {
         try {
             SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
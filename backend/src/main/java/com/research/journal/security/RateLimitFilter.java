@@ -0,0 +1,89 @@
+package com.research.journal.security;
+
+import com.research.journal.config.WarmUpRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for {@code /api/**}: each request takes a token from the bucket of its
+ * client (JWT userId, or IP without a token) for the first matching rule, or for the default
+ * rule. Rejected requests get a 429 with Retry-After before any controller or database work.
+ * The pod's own warm-up requests are not limited.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String DEFAULT_RULE = "default";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final RequestUserResolver requestUserResolver;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties,
+                           RequestUserResolver requestUserResolver, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.requestUserResolver = requestUserResolver;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/")
+                || "OPTIONS".equals(request.getMethod()) || WarmUpRunner.isWarmUpRequest(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String ruleName = DEFAULT_RULE;
+        RateLimitProperties.Rule rule = properties.getDefaultRule();
+        for (Map.Entry<String, RateLimitProperties.Rule> entry : properties.getRules().entrySet()) {
+            if (matches(entry.getValue(), request)) {
+                ruleName = entry.getKey();
+                rule = entry.getValue();
+                break;
+            }
+        }
+
+        if (rule.getRequestsPerSecond() > 0) {
+            String key = ruleName + '|' + requestUserResolver.clientKey(request);
+            long waitNanos = rateLimiter.tryAcquire(key, rule.getRequestsPerSecond(), rule.getBurst());
+            if (waitNanos > 0) {
+                meterRegistry.counter("journal.ratelimit.rejected", "rule", ruleName).increment();
+                long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+                response.getWriter().write("Too many requests");
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(RateLimitProperties.Rule rule, HttpServletRequest request) {
+        if (!rule.getMethods().isEmpty() && !rule.getMethods().contains(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI();
+        for (String pattern : rule.getPaths()) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+package com.research.journal.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "journal.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Upper bound on live buckets; the least recently used ones are evicted beyond it
+    private int maxKeys = 1_000_000;
+
+    // Lock stripes for the bucket maps; a power of two
+    private int stripes = 64;
+
+    // Applies to any /api request no named rule matches
+    private Rule defaultRule = new Rule(20, 40);
+
+    // Checked in declaration order; the first match wins, e.g. rules.auth.paths=/api/auth/login
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    // requestsPerSecond <= 0 means unlimited
+    @Data
+    public static class Rule {
+        private List<String> methods = new ArrayList<>();
+        private List<String> paths = new ArrayList<>();
+        private double requestsPerSecond;
+        private int burst;
+
+        public Rule() {
+        }
+
+        public Rule(double requestsPerSecond, int burst) {
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+        }
+    }
+}
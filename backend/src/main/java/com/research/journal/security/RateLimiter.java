@@ -0,0 +1,83 @@
+package com.research.journal.security;
+
+import org.springframework.stereotype.Component;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets stored as a single theoretical arrival time each (GCRA), so admitting a
+ * request is one CAS and a bucket costs one AtomicLong. Buckets live in lock-striped
+ * access-ordered maps capped at {@code maxKeys} in total; the least recently used bucket of a
+ * stripe is dropped first. A bucket idle for {@code burst / rate} seconds is full again, so
+ * evicting it loses nothing.
+ */
+@Component
+public class RateLimiter {
+
+    private final Stripe[] stripes;
+
+    public RateLimiter(RateLimitProperties properties) {
+        int count = Integer.highestOneBit(Math.max(1, properties.getStripes()));
+        int perStripe = Math.max(1, properties.getMaxKeys() / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * Takes one token from the bucket for {@code key}.
+     *
+     * @return 0 when admitted, otherwise nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, double requestsPerSecond, int burst) {
+        long interval = (long) (1_000_000_000L / requestsPerSecond);
+        long tolerance = interval * Math.max(1, burst);
+        AtomicLong arrival = bucket(key);
+        while (true) {
+            long now = System.nanoTime();
+            long current = arrival.get();
+            long next = Math.max(current, now) + interval;
+            long wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private AtomicLong bucket(String key) {
+        int hash = key.hashCode();
+        Stripe stripe = stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+        synchronized (stripe) {
+            return stripe.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE / 2));
+        }
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, AtomicLong> {
+        private final int capacity;
+
+        private Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, AtomicLong> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.research.journal.security;
+
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Identifies the caller of the current request: the userId (and journal) of a valid bearer
+ * token, or the client IP when there is none. The token is parsed at most once per request.
+ * The IP is {@code getRemoteAddr()}, which Tomcat's remote IP valve has already resolved from
+ * X-Forwarded-For when the request came through a trusted proxy (server.tomcat.remoteip.*).
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestUserResolver {
+
+    private static final String USER_ID_ATTRIBUTE = RequestUserResolver.class.getName() + ".userId";
+    private static final String JOURNAL_ID_ATTRIBUTE = RequestUserResolver.class.getName() + ".journalId";
+    private static final Long ANONYMOUS = -1L;
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public Long resolveUserId(HttpServletRequest request) {
+        return claim(request, USER_ID_ATTRIBUTE);
+    }
+
+    /** Journal the bearer token was issued for; null without a valid token or for tokens issued before journals. */
+    public Long resolveJournalId(HttpServletRequest request) {
+        return claim(request, JOURNAL_ID_ATTRIBUTE);
+    }
+
+    public String clientKey(HttpServletRequest request) {
+        Long userId = resolveUserId(request);
+        return userId != null ? "user:" + userId : "ip:" + request.getRemoteAddr();
+    }
+
+    /** Client key of the request bound to the current thread, or null outside a request. */
+    public String currentClientKey() {
+        HttpServletRequest request = currentRequest();
+        return request != null ? clientKey(request) : null;
+    }
+
+    public Long currentUserId() {
+        HttpServletRequest request = currentRequest();
+        return request != null ? resolveUserId(request) : null;
+    }
+
+    public String currentClientIp() {
+        HttpServletRequest request = currentRequest();
+        return request != null ? request.getRemoteAddr() : null;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+
+    private Long claim(HttpServletRequest request, String attribute) {
+        if (!(request.getAttribute(USER_ID_ATTRIBUTE) instanceof Long)) {
+            Claims claims = null;
+            String authorization = request.getHeader("Authorization");
+            if (authorization != null && authorization.startsWith("Bearer ")) {
+                claims = jwtTokenProvider.getClaimsIfValid(authorization.substring(7));
+            }
+            Long userId = claims != null ? claims.get("userId", Long.class) : null;
+            Long journalId = claims != null ? claims.get("journalId", Long.class) : null;
+            request.setAttribute(USER_ID_ATTRIBUTE, userId == null ? ANONYMOUS : userId);
+            request.setAttribute(JOURNAL_ID_ATTRIBUTE, journalId == null ? ANONYMOUS : journalId);
+        }
+        Long value = (Long) request.getAttribute(attribute);
+        return ANONYMOUS.equals(value) ? null : value;
+    }
+}
@@ -1,11 +1,17 @@
 package com.research.journal.security;
 
+import com.research.journal.tenancy.JournalDirectory;
+import com.research.journal.tenancy.JournalFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -14,11 +20,20 @@ import java.util.Arrays;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, RateLimiter rateLimiter,
+                                                   RateLimitProperties rateLimitProperties,
+                                                   RequestUserResolver requestUserResolver,
+                                                   MeterRegistry meterRegistry, JournalDirectory journalDirectory,
+                                                   @Value("${journal.tenancy.default-journal-id:1}") Long defaultJournalId)
+            throws Exception {
         http
+            .addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties, requestUserResolver, meterRegistry),
+                SecurityContextHolderFilter.class)
+            .addFilterAfter(new JournalFilter(requestUserResolver, journalDirectory, defaultJournalId), RateLimitFilter.class)
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
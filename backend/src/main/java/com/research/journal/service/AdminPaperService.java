@@ -0,0 +1,58 @@
+package com.research.journal.service;
+
+import com.research.journal.dto.PaperDTO;
+import com.research.journal.entity.Paper;
+import com.research.journal.entity.PaperStatus;
+import com.research.journal.repository.PaperRepository;
+import com.research.journal.tenancy.ShardRegistry;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Paper listings across all journals. Every shard returns its newest {@code limit} papers with
+ * no journal bound, so Hibernate does not filter them by journal, and the per-shard lists are
+ * merged newest first. A journal lives on exactly one shard, so no paper is listed twice.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "journal.service", histogram = true)
+public class AdminPaperService {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final PaperRepository paperRepository;
+    private final PaperService paperService;
+    private final UserService userService;
+    private final ShardRegistry shardRegistry;
+
+    public List<PaperDTO> getRecentPapers(PaperStatus status, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        PageRequest page = PageRequest.of(0, limit);
+        List<List<PaperDTO>> perShard = shardRegistry.gather(shard -> (status == null
+                ? paperRepository.findRecentWithAuthor(page)
+                : paperRepository.findRecentWithAuthorByStatus(status, page)).stream()
+                .map(this::toDTO)
+                .toList());
+
+        Comparator<PaperDTO> newestFirst = status == null
+                ? Comparator.comparing(PaperDTO::getCreatedAt).reversed()
+                : Comparator.comparing(PaperDTO::getSubmittedAt).reversed();
+        return perShard.stream()
+                .flatMap(List::stream)
+                .sorted(newestFirst)
+                .limit(limit)
+                .toList();
+    }
+
+    private PaperDTO toDTO(Paper paper) {
+        PaperDTO paperDTO = paperService.convertToDTO(paper);
+        paperDTO.setAuthor(userService.convertToDTO(paper.getAuthor()));
+        return paperDTO;
+    }
+}
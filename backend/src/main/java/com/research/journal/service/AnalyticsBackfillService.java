@@ -0,0 +1,212 @@
+package com.research.journal.service;
+
+import com.research.journal.dto.AnalyticsBackfillDTO;
+import com.research.journal.entity.AnalyticsCursor;
+import com.research.journal.entity.RollupGranularity;
+import com.research.journal.repository.AnalyticsCursorRepository;
+import com.research.journal.repository.PaperRepository;
+import com.research.journal.repository.ReviewRepository;
+import com.research.journal.tenancy.JournalContext;
+import com.research.journal.tenancy.ShardRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rebuilds the analytics rollups of past hours from the papers and reviews tables, for every
+ * journal on every shard. The range is split into one task per shard and day, run
+ * {@code backfill-parallelism} at a time; each task reads its day in a read-only transaction
+ * (served by a replica when read routing is on) and then replaces that day's rows under the
+ * cursor lock, so a rerun gives the same result. Hours the outbox tailer already owns are
+ * never touched.
+ */
+@Service
+public class AnalyticsBackfillService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsBackfillService.class);
+
+    private final PaperRepository paperRepository;
+    private final ReviewRepository reviewRepository;
+    private final AnalyticsCursorRepository cursorRepository;
+    private final AnalyticsRollupWriter rollupWriter;
+    private final ShardRegistry shardRegistry;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private volatile Run current;
+    private volatile ExecutorService executor;
+
+    @Value("${journal.analytics.backfill-parallelism:4}")
+    private int parallelism;
+
+    public AnalyticsBackfillService(PaperRepository paperRepository,
+                                    ReviewRepository reviewRepository,
+                                    AnalyticsCursorRepository cursorRepository,
+                                    AnalyticsRollupWriter rollupWriter,
+                                    ShardRegistry shardRegistry,
+                                    PlatformTransactionManager transactionManager) {
+        this.paperRepository = paperRepository;
+        this.reviewRepository = reviewRepository;
+        this.cursorRepository = cursorRepository;
+        this.rollupWriter = rollupWriter;
+        this.shardRegistry = shardRegistry;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public synchronized AnalyticsBackfillDTO startBackfill(LocalDateTime from, LocalDateTime to) {
+        if (current != null && current.finishedAt == null) {
+            throw new IllegalStateException("A backfill is already running");
+        }
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = (to != null ? to : LocalDateTime.now()).truncatedTo(ChronoUnit.HOURS);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from must be at least an hour before to");
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        for (int shard = 0; shard < shardRegistry.size(); shard++) {
+            LocalDateTime shardEnd = min(end, backfillLimit(shard));
+            if (!start.isBefore(shardEnd)) {
+                continue;
+            }
+            for (LocalDateTime day = start.truncatedTo(ChronoUnit.DAYS); day.isBefore(shardEnd); day = day.plusDays(1)) {
+                tasks.add(new Task(shard, max(start, day), min(day.plusDays(1), shardEnd)));
+            }
+        }
+
+        Run run = new Run(start, end, tasks.size());
+        current = run;
+        if (tasks.isEmpty()) {
+            run.finishedAt = LocalDateTime.now();
+            return run.toDTO();
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        executor = pool;
+        for (Task task : tasks) {
+            pool.execute(() -> {
+                try {
+                    JournalContext.runOnShard(task.shard(), () -> backfill(task.from(), task.to()));
+                    run.completed.incrementAndGet();
+                } catch (RuntimeException e) {
+                    run.failed.incrementAndGet();
+                    log.warn("Analytics backfill of shard {} from {} to {} failed", task.shard(), task.from(), task.to(), e);
+                }
+                if (run.completed.get() + run.failed.get() == run.total) {
+                    run.finishedAt = LocalDateTime.now();
+                    pool.shutdown();
+                    log.info("Analytics backfill from {} to {} finished: {} tasks, {} failed",
+                            run.from, run.to, run.total, run.failed.get());
+                }
+            });
+        }
+        return run.toDTO();
+    }
+
+    public AnalyticsBackfillDTO getBackfill() {
+        Run run = current;
+        if (run == null) {
+            throw new RuntimeException("No backfill has run");
+        }
+        return run.toDTO();
+    }
+
+    // Backfill stops where the tailer's hours begin, and short of the current hour, which is still
+    // taking events; the minute of slack leaves replicas time to catch up
+    private LocalDateTime backfillLimit(int shard) {
+        LocalDateTime liveSince = JournalContext.callOnShard(shard, () -> cursorRepository.findById(AnalyticsCursor.ID)
+                .map(AnalyticsCursor::getLiveSince)
+                .orElse(null));
+        if (liveSince == null) {
+            throw new IllegalStateException("Analytics rollups have not started on shard " + shard + " yet");
+        }
+        return min(liveSince, LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.HOURS));
+    }
+
+    private void backfill(LocalDateTime from, LocalDateTime to) {
+        Map<RollupDelta.Key, RollupDelta> hours = readTransaction.execute(status -> countHours(from, to));
+        writeTransaction.executeWithoutResult(status -> {
+            cursorRepository.lock(AnalyticsCursor.ID, LocalDateTime.now());
+            rollupWriter.replaceHours(from, to, hours);
+        });
+    }
+
+    private Map<RollupDelta.Key, RollupDelta> countHours(LocalDateTime from, LocalDateTime to) {
+        Map<RollupDelta.Key, RollupDelta> hours = new HashMap<>();
+        for (Object[] row : paperRepository.findSubmissionTimes(from, to)) {
+            RollupDelta.in(hours, (Long) row[0], RollupGranularity.HOUR, (LocalDateTime) row[1]).addSubmission();
+        }
+        for (Object[] row : paperRepository.findAcceptanceTimes(from, to)) {
+            RollupDelta.in(hours, (Long) row[0], RollupGranularity.HOUR, (LocalDateTime) row[2])
+                    .addAcceptance((LocalDateTime) row[1], (LocalDateTime) row[2]);
+        }
+        for (Object[] row : paperRepository.findRejectionTimes(from, to)) {
+            RollupDelta.in(hours, (Long) row[0], RollupGranularity.HOUR, (LocalDateTime) row[2])
+                    .addRejection((LocalDateTime) row[1], (LocalDateTime) row[2]);
+        }
+        for (Object[] row : reviewRepository.findSubmissionTimes(from, to)) {
+            RollupDelta.in(hours, (Long) row[0], RollupGranularity.HOUR, (LocalDateTime) row[1]).addReview();
+        }
+        return hours;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private record Task(int shard, LocalDateTime from, LocalDateTime to) {
+    }
+
+    private static final class Run {
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final int total;
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime finishedAt;
+
+        private Run(LocalDateTime from, LocalDateTime to, int total) {
+            this.from = from;
+            this.to = to;
+            this.total = total;
+        }
+
+        private AnalyticsBackfillDTO toDTO() {
+            return AnalyticsBackfillDTO.builder()
+                    .from(from)
+                    .to(to)
+                    .running(finishedAt == null)
+                    .totalTasks(total)
+                    .completedTasks(completed.get())
+                    .failedTasks(failed.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
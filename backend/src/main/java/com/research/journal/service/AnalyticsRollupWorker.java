@@ -0,0 +1,186 @@
+package com.research.journal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.research.journal.entity.AnalyticsCursor;
+import com.research.journal.entity.OutboxEvent;
+import com.research.journal.entity.OutboxEventType;
+import com.research.journal.entity.Paper;
+import com.research.journal.entity.PaperStatus;
+import com.research.journal.entity.RollupGranularity;
+import com.research.journal.repository.AnalyticsCursorRepository;
+import com.research.journal.repository.OutboxEventRepository;
+import com.research.journal.repository.PaperRepository;
+import com.research.journal.tenancy.ShardRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the analytics rollups current by tailing the outbox of every shard: submissions,
+ * accept/reject decisions and submitted reviews are added to their hour and day buckets in the
+ * transaction that advances the shard's cursor, so each event is counted once whichever pod
+ * folds it. Buckets before the cursor's {@code liveSince} are left to backfill.
+ */
+@Component
+public class AnalyticsRollupWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsRollupWorker.class);
+
+    private static final Set<OutboxEventType> COUNTED = Set.of(
+            OutboxEventType.PAPER_SUBMITTED, OutboxEventType.PAPER_STATUS_CHANGED, OutboxEventType.REVIEW_SUBMITTED);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final AnalyticsCursorRepository cursorRepository;
+    private final PaperRepository paperRepository;
+    private final AnalyticsRollupWriter rollupWriter;
+    private final ShardRegistry shardRegistry;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${journal.analytics.poll-batch-size:500}")
+    private int batchSize;
+
+    // Events younger than this are left for the next poll, so one whose transaction commits after
+    // a later id's is not skipped
+    @Value("${journal.analytics.commit-grace-ms:5000}")
+    private long commitGraceMs;
+
+    public AnalyticsRollupWorker(OutboxEventRepository outboxEventRepository,
+                                 AnalyticsCursorRepository cursorRepository,
+                                 PaperRepository paperRepository,
+                                 AnalyticsRollupWriter rollupWriter,
+                                 ShardRegistry shardRegistry,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.cursorRepository = cursorRepository;
+        this.paperRepository = paperRepository;
+        this.rollupWriter = rollupWriter;
+        this.shardRegistry = shardRegistry;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${journal.analytics.poll-interval-ms:5000}")
+    public void poll() {
+        shardRegistry.forEachShard(shard -> {
+            try {
+                while (Boolean.TRUE.equals(transactionTemplate.execute(status -> foldBatch()))) {
+                    // keep folding while full batches come back
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not update analytics rollups on shard {}", shard, e);
+            }
+        });
+    }
+
+    // Returns true when more events may be waiting
+    private boolean foldBatch() {
+        AnalyticsCursor cursor = cursorRepository.findById(AnalyticsCursor.ID)
+                .orElseThrow(() -> new IllegalStateException("Analytics cursor not found"));
+        LocalDateTime now = LocalDateTime.now();
+        if (cursor.getLiveSince() == null) {
+            // Everything before the next full hour is left to backfill
+            Long lastEventId = outboxEventRepository.findMaxId().orElse(0L);
+            LocalDateTime liveSince = now.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+            if (cursorRepository.start(AnalyticsCursor.ID, lastEventId, liveSince, now) == 1) {
+                log.info("Analytics rollups follow the outbox from event {}, counting from {}", lastEventId, liveSince);
+            }
+            return false;
+        }
+
+        LocalDateTime settled = now.minusNanos(commitGraceMs * 1_000_000);
+        List<OutboxEvent> fetched = outboxEventRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor.getLastEventId(), PageRequest.of(0, batchSize));
+        List<OutboxEvent> events = fetched.stream()
+                .takeWhile(event -> event.getCreatedAt().isBefore(settled))
+                .toList();
+        if (events.isEmpty()) {
+            return false;
+        }
+        Long lastEventId = events.get(events.size() - 1).getId();
+        if (cursorRepository.advance(AnalyticsCursor.ID, cursor.getLastEventId(), lastEventId, now) == 0) {
+            // Another pod folded this batch
+            return false;
+        }
+        rollupWriter.add(toDeltas(events, cursor.getLiveSince()));
+        return events.size() == batchSize;
+    }
+
+    private Map<RollupDelta.Key, RollupDelta> toDeltas(List<OutboxEvent> events, LocalDateTime liveSince) {
+        Map<Long, JsonNode> payloads = new HashMap<>();
+        for (OutboxEvent event : events) {
+            if (COUNTED.contains(event.getEventType())) {
+                payloads.put(event.getId(), readPayload(event));
+            }
+        }
+        Map<Long, Paper> papers = paperRepository.findAllById(payloads.values().stream()
+                        .map(payload -> payload.path("paperId").asLong())
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Paper::getId, Function.identity()));
+
+        Map<RollupDelta.Key, RollupDelta> deltas = new HashMap<>();
+        for (OutboxEvent event : events) {
+            JsonNode payload = payloads.get(event.getId());
+            Paper paper = payload == null ? null : papers.get(payload.path("paperId").asLong());
+            if (paper == null) {
+                // Deleted since; its journal and submission time are gone with it
+                continue;
+            }
+            LocalDateTime at = event.getCreatedAt();
+            switch (event.getEventType()) {
+                case PAPER_SUBMITTED -> addToBuckets(deltas, paper.getJournalId(), paper.getSubmittedAt(), liveSince,
+                        RollupDelta::addSubmission);
+                case PAPER_STATUS_CHANGED -> {
+                    String status = payload.path("status").asText();
+                    if (PaperStatus.ACCEPTED.name().equals(status)) {
+                        addToBuckets(deltas, paper.getJournalId(), at, liveSince,
+                                delta -> delta.addAcceptance(paper.getSubmittedAt(), at));
+                    } else if (PaperStatus.REJECTED.name().equals(status)) {
+                        addToBuckets(deltas, paper.getJournalId(), at, liveSince,
+                                delta -> delta.addRejection(paper.getSubmittedAt(), at));
+                    }
+                }
+                case REVIEW_SUBMITTED -> addToBuckets(deltas, paper.getJournalId(), at, liveSince, RollupDelta::addReview);
+                default -> {
+                }
+            }
+        }
+        return deltas;
+    }
+
+    private static void addToBuckets(Map<RollupDelta.Key, RollupDelta> deltas, Long journalId, LocalDateTime at,
+                                     LocalDateTime liveSince, Consumer<RollupDelta> change) {
+        if (at.isBefore(liveSince)) {
+            return;
+        }
+        change.accept(RollupDelta.in(deltas, journalId, RollupGranularity.HOUR, at));
+        change.accept(RollupDelta.in(deltas, journalId, RollupGranularity.DAY, at));
+    }
+
+    private JsonNode readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readTree(event.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not parse outbox payload of event " + event.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.research.journal.service;
+
+import com.research.journal.entity.AnalyticsRollup;
+import com.research.journal.entity.RollupGranularity;
+import com.research.journal.repository.AnalyticsRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes rollup rows for the outbox tailer and for backfill. Callers hold the analytics cursor
+ * row lock of their shard, so rows are read, merged and written back without racing each other.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class AnalyticsRollupWriter {
+
+    private final AnalyticsRollupRepository rollupRepository;
+
+    void add(Map<RollupDelta.Key, RollupDelta> deltas) {
+        deltas.forEach((key, delta) -> rollupRepository.findByJournalIdAndGranularityAndBucketStart(
+                        key.journalId(), key.granularity(), key.bucketStart())
+                .ifPresentOrElse(delta::applyTo, () -> rollupRepository.save(delta.toRow(key))));
+    }
+
+    /**
+     * Replaces every journal's hour rows in [from, to) with the given ones, then rebuilds the
+     * day rows of the days they fall in from those days' hour rows.
+     */
+    void replaceHours(LocalDateTime from, LocalDateTime to, Map<RollupDelta.Key, RollupDelta> hours) {
+        rollupRepository.deleteInRange(RollupGranularity.HOUR, from, to);
+        hours.forEach((key, delta) -> rollupRepository.save(delta.toRow(key)));
+        rollupRepository.flush();
+
+        LocalDateTime firstDay = from.truncatedTo(ChronoUnit.DAYS);
+        LocalDateTime lastDay = to.minusNanos(1).truncatedTo(ChronoUnit.DAYS).plusDays(1);
+        Map<RollupDelta.Key, RollupDelta> days = new HashMap<>();
+        for (AnalyticsRollup hour : rollupRepository.findInRange(RollupGranularity.HOUR, firstDay, lastDay)) {
+            RollupDelta.in(days, hour.getJournalId(), RollupGranularity.DAY, hour.getBucketStart()).add(hour);
+        }
+        rollupRepository.deleteInRange(RollupGranularity.DAY, firstDay, lastDay);
+        days.forEach((key, delta) -> rollupRepository.save(delta.toRow(key)));
+    }
+}
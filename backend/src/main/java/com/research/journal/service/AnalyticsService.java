@@ -0,0 +1,139 @@
+package com.research.journal.service;
+
+import com.research.journal.dto.AnalyticsBucketDTO;
+import com.research.journal.entity.AnalyticsRollup;
+import com.research.journal.entity.RollupGranularity;
+import com.research.journal.repository.AnalyticsRollupRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Editorial analytics of the current journal over any range of whole hours, answered from the
+ * rollup tables: whole days from day rows and the partial days at either end from hour rows,
+ * so a query reads at most a few hundred rows whatever the range and never the papers table.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(value = "journal.service", histogram = true)
+public class AnalyticsService {
+
+    public enum Interval {
+        HOUR,
+        DAY,
+        // Starting on Monday
+        WEEK,
+        MONTH
+    }
+
+    private static final int MAX_BUCKETS = 1000;
+
+    private final AnalyticsRollupRepository rollupRepository;
+
+    public List<AnalyticsBucketDTO> getSeries(LocalDateTime from, LocalDateTime to, Interval interval) {
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = ceil(to, ChronoUnit.HOURS);
+        validateRange(start, end);
+
+        List<LocalDateTime> bounds = new ArrayList<>();
+        bounds.add(start);
+        for (LocalDateTime at = start; at.isBefore(end); ) {
+            at = min(next(at, interval), end);
+            bounds.add(at);
+            if (bounds.size() > MAX_BUCKETS + 1) {
+                throw new IllegalArgumentException("Range has more than " + MAX_BUCKETS + " buckets; use a longer interval");
+            }
+        }
+
+        List<RollupDelta> totals = new ArrayList<>(bounds.size() - 1);
+        for (int i = 1; i < bounds.size(); i++) {
+            totals.add(new RollupDelta());
+        }
+        // Rows never straddle a bound: bounds other than start and end fall on day boundaries,
+        // or on hours when only hour rows are read
+        for (AnalyticsRollup row : load(start, end, interval == Interval.HOUR)) {
+            int index = Collections.binarySearch(bounds, row.getBucketStart());
+            totals.get(index >= 0 ? index : -index - 2).add(row);
+        }
+
+        List<AnalyticsBucketDTO> series = new ArrayList<>(totals.size());
+        for (int i = 0; i < totals.size(); i++) {
+            series.add(toDTO(bounds.get(i), bounds.get(i + 1), totals.get(i)));
+        }
+        return series;
+    }
+
+    public AnalyticsBucketDTO getSummary(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = ceil(to, ChronoUnit.HOURS);
+        validateRange(start, end);
+        RollupDelta total = new RollupDelta();
+        load(start, end, false).forEach(total::add);
+        return toDTO(start, end, total);
+    }
+
+    private List<AnalyticsRollup> load(LocalDateTime from, LocalDateTime to, boolean hoursOnly) {
+        LocalDateTime firstDay = ceil(from, ChronoUnit.DAYS);
+        LocalDateTime lastDay = to.truncatedTo(ChronoUnit.DAYS);
+        if (hoursOnly || !firstDay.isBefore(lastDay)) {
+            return rollupRepository.findInRange(RollupGranularity.HOUR, from, to);
+        }
+        List<AnalyticsRollup> rows = new ArrayList<>(rollupRepository.findInRange(RollupGranularity.DAY, firstDay, lastDay));
+        if (from.isBefore(firstDay)) {
+            rows.addAll(rollupRepository.findInRange(RollupGranularity.HOUR, from, firstDay));
+        }
+        if (lastDay.isBefore(to)) {
+            rows.addAll(rollupRepository.findInRange(RollupGranularity.HOUR, lastDay, to));
+        }
+        return rows;
+    }
+
+    private static LocalDateTime next(LocalDateTime at, Interval interval) {
+        return switch (interval) {
+            case HOUR -> at.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+            case DAY -> at.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+            case WEEK -> at.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+            case MONTH -> at.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.firstDayOfNextMonth());
+        };
+    }
+
+    private static void validateRange(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+    }
+
+    private static LocalDateTime ceil(LocalDateTime at, ChronoUnit unit) {
+        LocalDateTime floor = at.truncatedTo(unit);
+        return floor.equals(at) ? at : floor.plus(1, unit);
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static AnalyticsBucketDTO toDTO(LocalDateTime start, LocalDateTime end, RollupDelta total) {
+        long decisions = total.accepted() + total.rejected();
+        return AnalyticsBucketDTO.builder()
+                .start(start)
+                .end(end)
+                .submissions(total.submissions())
+                .accepted(total.accepted())
+                .rejected(total.rejected())
+                .acceptanceRate(decisions == 0 ? null : (double) total.accepted() / decisions)
+                .reviewsSubmitted(total.reviewsSubmitted())
+                .timeToAccept(total.timeToAccept().summarize())
+                .timeToReject(total.timeToReject().summarize())
+                .timeToDecision(LatencySketch.empty().merge(total.timeToAccept()).merge(total.timeToReject()).summarize())
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.research.journal.service;
+
+import com.research.journal.dto.AuditEventDTO;
+import com.research.journal.dto.AuditPageDTO;
+import com.research.journal.entity.AuditEntityType;
+import com.research.journal.entity.AuditEvent;
+import com.research.journal.repository.AuditEventRepository;
+import com.research.journal.tenancy.JournalContext;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+
+/**
+ * Reads the audit trail of the current journal, newest first. Events reach the table a flush
+ * interval after their change commits, so the last few hundred milliseconds may be missing.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(value = "journal.service", histogram = true)
+public class AuditService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int DEFAULT_DAYS = 30;
+
+    private final AuditEventRepository auditEventRepository;
+
+    // entityId narrows to one entity; from defaults to 30 days before to, to defaults to now
+    public AuditPageDTO getEvents(AuditEntityType entityType, Long entityId, LocalDateTime from, LocalDateTime to,
+                                  int page, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(DEFAULT_DAYS);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+
+        Long journalId = JournalContext.currentJournalId();
+        PageRequest pageRequest = PageRequest.of(page, size);
+        Slice<AuditEvent> events = entityId != null
+                ? auditEventRepository.findByEntity(journalId, entityType, entityId, start, end, pageRequest)
+                : auditEventRepository.findByEntityType(journalId, entityType, start, end, pageRequest);
+        return AuditPageDTO.builder()
+                .events(events.map(this::convertToDTO).getContent())
+                .page(page)
+                .size(size)
+                .hasNext(events.hasNext())
+                .build();
+    }
+
+    AuditEventDTO convertToDTO(AuditEvent event) {
+        return AuditEventDTO.builder()
+                .id(event.getId())
+                .occurredAt(event.getOccurredAt())
+                .entityType(event.getEntityType())
+                .entityId(event.getEntityId())
+                .action(event.getAction())
+                .actorUserId(event.getActorUserId())
+                .actorIp(event.getActorIp())
+                .details(event.getDetails())
+                .build();
+    }
+}
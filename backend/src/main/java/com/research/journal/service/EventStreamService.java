@@ -0,0 +1,226 @@
+package com.research.journal.service;
+
+import com.research.journal.entity.OutboxEvent;
+import com.research.journal.entity.UserRole;
+import com.research.journal.repository.OutboxEventRepository;
+import com.research.journal.tenancy.ShardRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans outbox events out to Server-Sent Events subscribers.
+ *
+ * Every replica tails the outbox table (of every shard) on its own, so a subscriber sees the
+ * same events no matter which pod its connection landed on. Idle connections cost only an async servlet
+ * request and a small bounded queue; writes happen on virtual threads, and a subscriber
+ * whose queue overflows is disconnected rather than allowed to hold events in memory.
+ *
+ * Events are published as soon as they are seen, but the cursor only moves past events older
+ * than {@code commit-grace-ms}: younger ones are read again on every poll, so one whose
+ * transaction commits after a later id's is still delivered, and the ones already sent are skipped.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventStreamService.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ShardRegistry shardRegistry;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    // Per shard: each shard's outbox has its own id sequence
+    private long[] settledIds;
+    // Per shard: ids above the settled one that were already published
+    private Set<Long>[] publishedIds;
+
+    @Value("${journal.events.client-buffer-size:64}")
+    private int clientBufferSize;
+
+    @Value("${journal.events.poll-batch-size:500}")
+    private int pollBatchSize;
+
+    @Value("${journal.events.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${journal.events.retention-hours:24}")
+    private long retentionHours;
+
+    // Same window as journal.analytics.commit-grace-ms: how late an outbox insert may commit
+    @Value("${journal.events.commit-grace-ms:5000}")
+    private long commitGraceMs;
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    void initCursor() {
+        settledIds = new long[shardRegistry.size()];
+        publishedIds = new Set[shardRegistry.size()];
+        shardRegistry.forEachShard(shard -> {
+            settledIds[shard] = outboxEventRepository.findMaxId().orElse(0L);
+            publishedIds[shard] = new HashSet<>();
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Long userId, UserRole role) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, userId, role, clientBufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Scheduled(fixedDelayString = "${journal.events.poll-interval-ms:500}")
+    public void pollOutbox() {
+        shardRegistry.forEachShard(shard -> {
+            LocalDateTime settled = LocalDateTime.now().minusNanos(commitGraceMs * 1_000_000);
+            Set<Long> published = publishedIds[shard];
+            boolean settling = true;
+            long after = settledIds[shard];
+            List<OutboxEvent> batch;
+            do {
+                batch = outboxEventRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, pollBatchSize));
+                for (OutboxEvent event : batch) {
+                    if (published.add(event.getId())) {
+                        publish(StreamEvent.from(event));
+                    }
+                    settling = settling && event.getCreatedAt().isBefore(settled);
+                    if (settling) {
+                        settledIds[shard] = event.getId();
+                        published.remove(event.getId());
+                    }
+                    after = event.getId();
+                }
+            } while (batch.size() == pollBatchSize);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${journal.events.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        subscribers.forEach(subscriber -> enqueue(subscriber, StreamEvent.HEARTBEAT));
+    }
+
+    @Scheduled(fixedDelayString = "${journal.events.cleanup-interval-ms:3600000}")
+    public void purgeExpiredEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        shardRegistry.forEachShard(shard -> {
+            int removed = outboxEventRepository.deleteCreatedBefore(cutoff);
+            if (removed > 0) {
+                log.debug("Purged {} outbox events older than {}h on shard {}", removed, retentionHours, shard);
+            }
+        });
+    }
+
+    private void publish(StreamEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(event)) {
+                enqueue(subscriber, event);
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, StreamEvent event) {
+        if (!subscriber.buffer.offer(event)) {
+            log.debug("Dropping slow event stream subscriber userId={} role={}", subscriber.userId, subscriber.role);
+            subscribers.remove(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            StreamEvent event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                try {
+                    subscriber.emitter.send(event.toSse());
+                } catch (IOException | IllegalStateException e) {
+                    subscribers.remove(subscriber);
+                    subscriber.buffer.clear();
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long userId;
+        private final UserRole role;
+        private final ArrayBlockingQueue<StreamEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Long userId, UserRole role, int bufferSize) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.role = role;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean accepts(StreamEvent event) {
+            if (userId == null && role == null) {
+                return true;
+            }
+            if (role == UserRole.EDITOR || role == UserRole.ADMIN) {
+                return true;
+            }
+            return (userId != null && userId.equals(event.recipientUserId()))
+                    || (role != null && role == event.audienceRole());
+        }
+    }
+
+    private record StreamEvent(Long id, String name, Long recipientUserId, UserRole audienceRole, String payload) {
+
+        private static final StreamEvent HEARTBEAT = new StreamEvent(null, null, null, null, null);
+
+        private static StreamEvent from(OutboxEvent event) {
+            return new StreamEvent(event.getId(), event.getEventType().name(),
+                    event.getRecipientUserId(), event.getAudienceRole(), event.getPayload());
+        }
+
+        private SseEmitter.SseEventBuilder toSse() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event()
+                    .id(String.valueOf(id))
+                    .name(name)
+                    .data(payload, MediaType.APPLICATION_JSON);
+        }
+    }
+}
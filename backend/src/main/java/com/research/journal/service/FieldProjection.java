@@ -0,0 +1,161 @@
+package com.research.journal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Sparse fieldsets: {@code ?fields=id,title,status} becomes a JPQL select of exactly those
+ * attributes, so unselected columns (the LONGTEXT bodies above all) are neither read from the
+ * database nor serialized. Each distinct field set is parsed and turned into JPQL once per
+ * query; Hibernate then keeps the compiled SQL for that string in its query plan cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class FieldProjection {
+
+    // Distinct field sets kept per view; beyond this they are still served, just not cached
+    private static final int MAX_CACHED_FIELD_SETS = 512;
+
+    public enum View {
+        PAPER("Paper", "id", "title", "abstractText", "content", "status", "plagiarismScore",
+                "plagiarismChecked", "submittedAt", "acceptedAt", "rejectedAt", "publishedAt", "createdAt", "updatedAt"),
+        REVIEW("Review", "id", "paperId=paper.id", "status", "comments", "overallRating", "technicalQualityRating",
+                "clarityRating", "originalityRating", "significanceRating", "submittedAt", "dueAt", "createdAt", "updatedAt"),
+        REVISION("Revision", "id", "paperId=paper.id", "revisionNumber", "content", "changesSummary",
+                "submittedAt", "createdAt", "updatedAt"),
+        // Only what UserDTO exposes; the password hash is not selectable
+        USER("User", "id", "email", "firstName", "lastName", "role", "affiliation", "bio", "isActive",
+                "createdAt", "updatedAt");
+
+        private final String entity;
+        private final Map<String, String> paths = new HashMap<>();
+        private final Map<String, Fields> parsed = new ConcurrentHashMap<>();
+
+        View(String entity, String... fields) {
+            this.entity = entity;
+            for (String field : fields) {
+                int split = field.indexOf('=');
+                paths.put(split < 0 ? field : field.substring(0, split), "e." + field.substring(split + 1));
+            }
+        }
+
+        /**
+         * Validates a comma-separated field list. Returns null when no fields were requested,
+         * meaning the full DTO should be returned as before.
+         */
+        public Fields parse(String fields) {
+            if (fields == null) {
+                return null;
+            }
+            Fields cached = parsed.get(fields);
+            if (cached != null) {
+                return cached;
+            }
+            List<String> names = Arrays.stream(fields.split(","))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .distinct()
+                    .toList();
+            if (names.isEmpty()) {
+                throw new IllegalArgumentException("No fields selected");
+            }
+            for (String name : names) {
+                if (!paths.containsKey(name)) {
+                    throw new IllegalArgumentException("Unknown field: " + name);
+                }
+            }
+            Fields result = new Fields(names.toArray(String[]::new), "SELECT "
+                    + names.stream().map(paths::get).collect(Collectors.joining(", "))
+                    + " FROM " + entity + " e ");
+            if (parsed.size() < MAX_CACHED_FIELD_SETS) {
+                parsed.putIfAbsent(fields, result);
+            }
+            return result;
+        }
+    }
+
+    /** A validated field set; {@code criteria} fragments refer to the entity as {@code e}. */
+    public static final class Fields {
+        private final String[] names;
+        private final String select;
+        private final Map<String, String> queries = new ConcurrentHashMap<>();
+
+        private Fields(String[] names, String select) {
+            this.names = names;
+            this.select = select;
+        }
+
+        private String query(String criteria) {
+            return queries.computeIfAbsent(criteria, select::concat);
+        }
+    }
+
+    private final EntityManager entityManager;
+
+    /** The first matching row as a field-name map, or null when nothing matches. */
+    @Transactional(readOnly = true)
+    public Map<String, Object> findOne(Fields fields, String criteria, Map<String, ?> parameters) {
+        List<Tuple> rows = createQuery(fields, criteria, parameters).setMaxResults(1).getResultList();
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < fields.names.length; i++) {
+            Object value = rows.get(0).get(i);
+            if (!isEmpty(value)) {
+                row.put(fields.names[i], value);
+            }
+        }
+        return row;
+    }
+
+    /** Streams every matching row into a JSON array without building entities or DTOs. */
+    @Transactional(readOnly = true)
+    public void writeAll(Fields fields, String criteria, Map<String, ?> parameters, JsonGenerator generator)
+            throws IOException {
+        TypedQuery<Tuple> query = createQuery(fields, criteria, parameters)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, 256);
+        try (Stream<Tuple> rows = query.getResultStream()) {
+            generator.writeStartArray();
+            for (Tuple row : (Iterable<Tuple>) rows::iterator) {
+                generator.writeStartObject();
+                for (int i = 0; i < fields.names.length; i++) {
+                    Object value = row.get(i);
+                    // Same omission rule as spring.jackson.default-property-inclusion=non_empty
+                    if (!isEmpty(value)) {
+                        generator.writeFieldName(fields.names[i]);
+                        generator.writeObject(value);
+                    }
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private TypedQuery<Tuple> createQuery(Fields fields, String criteria, Map<String, ?> parameters) {
+        TypedQuery<Tuple> query = entityManager.createQuery(fields.query(criteria), Tuple.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    private static boolean isEmpty(Object value) {
+        return value == null || (value instanceof String text && text.isEmpty());
+    }
+}
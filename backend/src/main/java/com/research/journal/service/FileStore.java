@@ -0,0 +1,74 @@
+package com.research.journal.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Local-disk layout of the upload store: in-progress uploads under {@code parts/}, finished
+ * files under {@code objects/} at a path derived from their SHA-256, so identical content is
+ * stored once and a stored file never changes.
+ */
+@Component
+public class FileStore {
+
+    private final Path parts;
+    private final Path objects;
+
+    public FileStore(@Value("${journal.uploads.dir:./data/uploads}") Path root) {
+        this.parts = root.resolve("parts");
+        this.objects = root.resolve("objects");
+        try {
+            Files.createDirectories(parts);
+            Files.createDirectories(objects);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create upload store under " + root, e);
+        }
+    }
+
+    Path partPath(Long uploadId) {
+        return parts.resolve(uploadId + ".part");
+    }
+
+    public Path objectPath(String sha256) {
+        return objects.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    /** Moves a finished part file to its content address; an existing copy is simply replaced by identical bytes. */
+    void promote(Path part, String sha256) throws IOException {
+        Path target = objectPath(sha256);
+        Files.createDirectories(target.getParent());
+        Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String sha256Hex(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,33 @@
+package com.research.journal.service;
+
+import com.research.journal.entity.ProcessingJob;
+import com.research.journal.entity.ProcessingStage;
+import com.research.journal.repository.PaperRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * Updates the similarity vectors of submitted and revised papers. Indexing happens after the
+ * stage commits and replaces the paper's vector, so a retried job just indexes it again.
+ */
+@Component
+@RequiredArgsConstructor
+public class IndexingStageHandler implements ProcessingStageHandler {
+
+    private final PaperRepository paperRepository;
+    private final SimilarPaperService similarPaperService;
+
+    @Override
+    public ProcessingStage stage() {
+        return ProcessingStage.INDEXING;
+    }
+
+    @Override
+    public void handle(List<ProcessingJob> jobs) {
+        similarPaperService.indexAfterCommit(paperRepository.findAllById(jobs.stream()
+                .map(ProcessingJob::getPaperId)
+                .distinct()
+                .toList()));
+    }
+}
@@ -0,0 +1,117 @@
+package com.research.journal.service;
+
+import com.research.journal.dto.JournalDTO;
+import com.research.journal.entity.JournalStatus;
+import com.research.journal.entity.UserRole;
+import com.research.journal.tenancy.JournalDirectory;
+import com.research.journal.tenancy.ShardRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Journals and their members. Both live in the directory on shard 0 whichever journal the
+ * request is bound to, so they are read and written with plain JDBC against that shard instead
+ * of through the routed JPA DataSource.
+ */
+@Service
+public class JournalService {
+
+    private final JdbcTemplate directory;
+    private final JournalDirectory journalDirectory;
+    private final ShardRegistry shardRegistry;
+
+    @Value("${journal.tenancy.default-journal-id:1}")
+    private Long defaultJournalId;
+
+    public JournalService(ShardRegistry shardRegistry, JournalDirectory journalDirectory) {
+        this.directory = new JdbcTemplate(shardRegistry.directory());
+        this.journalDirectory = journalDirectory;
+        this.shardRegistry = shardRegistry;
+    }
+
+    public List<JournalDTO> getAllJournals() {
+        return journalDirectory.all();
+    }
+
+    public JournalDTO getJournalById(Long id) {
+        JournalDTO journal = journalDirectory.find(id);
+        if (journal == null) {
+            throw new RuntimeException("Journal not found");
+        }
+        return journal;
+    }
+
+    public JournalDTO createJournal(String code, String name) {
+        if (code == null || !code.matches("[a-z0-9-]{1,50}")) {
+            throw new IllegalArgumentException("Journal code must be 1-50 lowercase letters, digits or dashes");
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Journal name is required");
+        }
+        try {
+            directory.update("INSERT INTO journals (code, name, shard, status, created_at) VALUES (?, ?, ?, ?, ?)",
+                    code, name, shardRegistry.placementFor(code), JournalStatus.ACTIVE.name(), LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("Journal code already exists");
+        }
+        journalDirectory.refresh();
+        return journalDirectory.findByCode(code);
+    }
+
+    public JournalDTO addMember(Long journalId, Long userId, UserRole role) {
+        JournalDTO journal = getJournalById(journalId);
+        try {
+            directory.update("INSERT INTO journal_memberships (journal_id, user_id, role, created_at) VALUES (?, ?, ?, ?)",
+                    journalId, userId, role.name(), LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("User not found or already a member of this journal");
+        }
+        return withRole(journal, role);
+    }
+
+    /** Journal a new account joins: the one named, or the default journal without a name. */
+    public JournalDTO getRegistrationJournal(String journalCode) {
+        return journalCode == null ? getJournalById(defaultJournalId) : findByCode(journalCode);
+    }
+
+    public JournalDTO findByCode(String code) {
+        JournalDTO journal = journalDirectory.findByCode(code);
+        if (journal == null) {
+            throw new RuntimeException("Journal not found");
+        }
+        return journal;
+    }
+
+    /** The journal a login is for: the one named, or the user's oldest membership without a name. */
+    public JournalDTO resolveMembership(Long userId, String journalCode) {
+        List<Map<String, Object>> memberships = journalCode == null
+                ? directory.queryForList("SELECT journal_id, role FROM journal_memberships WHERE user_id = ? "
+                        + "ORDER BY journal_id LIMIT 1", userId)
+                : directory.queryForList("SELECT m.journal_id, m.role FROM journal_memberships m "
+                        + "JOIN journals j ON j.id = m.journal_id WHERE m.user_id = ? AND j.code = ?", userId, journalCode);
+        if (memberships.isEmpty()) {
+            throw new RuntimeException(journalCode == null
+                    ? "User is not a member of any journal" : "User is not a member of journal " + journalCode);
+        }
+        Map<String, Object> membership = memberships.get(0);
+        JournalDTO journal = getJournalById(((Number) membership.get("journal_id")).longValue());
+        return withRole(journal, UserRole.valueOf(String.valueOf(membership.get("role"))));
+    }
+
+    private static JournalDTO withRole(JournalDTO journal, UserRole role) {
+        return JournalDTO.builder()
+                .id(journal.getId())
+                .code(journal.getCode())
+                .name(journal.getName())
+                .shard(journal.getShard())
+                .status(journal.getStatus())
+                .role(role)
+                .createdAt(journal.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.research.journal.service;
+
+import com.research.journal.dto.LatencySummaryDTO;
+import org.HdrHistogram.Histogram;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+
+/**
+ * Distribution of durations in whole seconds, kept to two significant digits (1% error on any
+ * quantile). Sketches of different buckets merge losslessly, so the median over any range is
+ * read from the merged buckets instead of the raw rows. Stored compressed in the rollup tables.
+ */
+final class LatencySketch {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    private final Histogram histogram;
+
+    private LatencySketch(Histogram histogram) {
+        this.histogram = histogram;
+        histogram.setAutoResize(true);
+    }
+
+    static LatencySketch empty() {
+        return new LatencySketch(new Histogram(SIGNIFICANT_DIGITS));
+    }
+
+    static LatencySketch fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return empty();
+        }
+        try {
+            return new LatencySketch(Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), 0));
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt latency sketch", e);
+        }
+    }
+
+    // Negative durations (clock skew between pods) count as zero
+    void record(Duration duration) {
+        histogram.recordValue(Math.max(0, duration.getSeconds()));
+    }
+
+    LatencySketch merge(LatencySketch other) {
+        histogram.add(other.histogram);
+        return this;
+    }
+
+    long count() {
+        return histogram.getTotalCount();
+    }
+
+    byte[] toBytes() {
+        if (count() == 0) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    LatencySummaryDTO summarize() {
+        if (count() == 0) {
+            return null;
+        }
+        return LatencySummaryDTO.builder()
+                .count(count())
+                .meanHours(histogram.getMean() / SECONDS_PER_HOUR)
+                .medianHours(histogram.getValueAtPercentile(50) / SECONDS_PER_HOUR)
+                .p90Hours(histogram.getValueAtPercentile(90) / SECONDS_PER_HOUR)
+                .maxHours(histogram.getMaxValue() / SECONDS_PER_HOUR)
+                .build();
+    }
+}
@@ -0,0 +1,224 @@
+package com.research.journal.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Myers' O(ND) diff with the linear-space middle-snake split, over lines (or sentences)
+ * interned to int ids so comparisons are single int compares. Lines that occur on only one
+ * side can never match; they are marked changed up front and left out of the search, which
+ * keeps D small for heavily rewritten manuscripts.
+ */
+final class LineDiff {
+
+    /** A changed region: units [fromStart, fromEnd) were replaced by [toStart, toEnd). */
+    record Block(int fromStart, int fromEnd, int toStart, int toEnd) {
+    }
+
+    private final int[] a;
+    private final int[] b;
+    private final boolean[] removed;
+    private final boolean[] added;
+
+    private LineDiff(int[] a, int[] b, boolean[] removed, boolean[] added) {
+        this.a = a;
+        this.b = b;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    static List<Block> diff(String[] from, String[] to) {
+        Map<String, Integer> ids = new HashMap<>();
+        int[] a = intern(from, ids);
+        int[] b = intern(to, ids);
+
+        int[] countA = new int[ids.size()];
+        int[] countB = new int[ids.size()];
+        for (int id : a) {
+            countA[id]++;
+        }
+        for (int id : b) {
+            countB[id]++;
+        }
+
+        boolean[] removed = new boolean[a.length];
+        boolean[] added = new boolean[b.length];
+        int[] indexA = keepShared(a, countB, removed);
+        int[] indexB = keepShared(b, countA, added);
+
+        int[] sharedA = new int[indexA.length];
+        for (int i = 0; i < indexA.length; i++) {
+            sharedA[i] = a[indexA[i]];
+        }
+        int[] sharedB = new int[indexB.length];
+        for (int i = 0; i < indexB.length; i++) {
+            sharedB[i] = b[indexB[i]];
+        }
+
+        boolean[] sharedRemoved = new boolean[sharedA.length];
+        boolean[] sharedAdded = new boolean[sharedB.length];
+        new LineDiff(sharedA, sharedB, sharedRemoved, sharedAdded)
+                .compare(0, sharedA.length, 0, sharedB.length);
+        for (int i = 0; i < indexA.length; i++) {
+            removed[indexA[i]] = sharedRemoved[i];
+        }
+        for (int i = 0; i < indexB.length; i++) {
+            added[indexB[i]] = sharedAdded[i];
+        }
+        return blocks(removed, added);
+    }
+
+    private static int[] intern(String[] units, Map<String, Integer> ids) {
+        int[] interned = new int[units.length];
+        for (int i = 0; i < units.length; i++) {
+            interned[i] = ids.computeIfAbsent(units[i], unit -> ids.size());
+        }
+        return interned;
+    }
+
+    /** Marks units absent from the other side as changed and returns the indexes of the rest. */
+    private static int[] keepShared(int[] units, int[] otherCounts, boolean[] changed) {
+        int[] kept = new int[units.length];
+        int size = 0;
+        for (int i = 0; i < units.length; i++) {
+            if (otherCounts[units[i]] == 0) {
+                changed[i] = true;
+            } else {
+                kept[size++] = i;
+            }
+        }
+        return Arrays.copyOf(kept, size);
+    }
+
+    private static List<Block> blocks(boolean[] removed, boolean[] added) {
+        List<Block> blocks = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < removed.length || j < added.length) {
+            if (i < removed.length && j < added.length && !removed[i] && !added[j]) {
+                i++;
+                j++;
+                continue;
+            }
+            int fromStart = i;
+            int toStart = j;
+            while (i < removed.length && removed[i]) {
+                i++;
+            }
+            while (j < added.length && added[j]) {
+                j++;
+            }
+            blocks.add(new Block(fromStart, i, toStart, j));
+        }
+        return blocks;
+    }
+
+    private void compare(int aLo, int aHi, int bLo, int bHi) {
+        while (aLo < aHi && bLo < bHi && a[aLo] == b[bLo]) {
+            aLo++;
+            bLo++;
+        }
+        while (aLo < aHi && bLo < bHi && a[aHi - 1] == b[bHi - 1]) {
+            aHi--;
+            bHi--;
+        }
+        if (aLo == aHi) {
+            for (int j = bLo; j < bHi; j++) {
+                added[j] = true;
+            }
+        } else if (bLo == bHi) {
+            for (int i = aLo; i < aHi; i++) {
+                removed[i] = true;
+            }
+        } else {
+            bisect(aLo, aHi, bLo, bHi);
+        }
+    }
+
+    /** Finds a point on an optimal edit path by searching from both ends, then recurses on the halves. */
+    private void bisect(int aLo, int aHi, int bLo, int bHi) {
+        int n = aHi - aLo;
+        int m = bHi - bLo;
+        int maxD = (n + m + 1) / 2;
+        int offset = maxD + 1;
+        int length = 2 * maxD + 3;
+        int[] forward = new int[length];
+        int[] backward = new int[length];
+        Arrays.fill(forward, -1);
+        Arrays.fill(backward, -1);
+        forward[offset + 1] = 0;
+        backward[offset + 1] = 0;
+        int delta = n - m;
+        boolean oddDelta = (delta & 1) != 0;
+        int kForwardStart = 0;
+        int kForwardEnd = 0;
+        int kBackwardStart = 0;
+        int kBackwardEnd = 0;
+
+        for (int d = 0; d < maxD; d++) {
+            for (int k = -d + kForwardStart; k <= d - kForwardEnd; k += 2) {
+                int index = offset + k;
+                int x = k == -d || (k != d && forward[index - 1] < forward[index + 1])
+                        ? forward[index + 1] : forward[index - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[aLo + x] == b[bLo + y]) {
+                    x++;
+                    y++;
+                }
+                forward[index] = x;
+                if (x > n) {
+                    kForwardEnd += 2;
+                } else if (y > m) {
+                    kForwardStart += 2;
+                } else if (oddDelta) {
+                    int other = offset + delta - k;
+                    if (other >= 0 && other < length && backward[other] != -1 && x >= n - backward[other]) {
+                        split(aLo, aHi, bLo, bHi, x, y);
+                        return;
+                    }
+                }
+            }
+            for (int k = -d + kBackwardStart; k <= d - kBackwardEnd; k += 2) {
+                int index = offset + k;
+                int x = k == -d || (k != d && backward[index - 1] < backward[index + 1])
+                        ? backward[index + 1] : backward[index - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[aHi - 1 - x] == b[bHi - 1 - y]) {
+                    x++;
+                    y++;
+                }
+                backward[index] = x;
+                if (x > n) {
+                    kBackwardEnd += 2;
+                } else if (y > m) {
+                    kBackwardStart += 2;
+                } else if (!oddDelta) {
+                    int other = offset + delta - k;
+                    if (other >= 0 && other < length && forward[other] != -1) {
+                        int forwardX = forward[other];
+                        int forwardY = forwardX - (other - offset);
+                        if (forwardX >= n - x) {
+                            split(aLo, aHi, bLo, bHi, forwardX, forwardY);
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+        // No common unit at all
+        for (int i = aLo; i < aHi; i++) {
+            removed[i] = true;
+        }
+        for (int j = bLo; j < bHi; j++) {
+            added[j] = true;
+        }
+    }
+
+    private void split(int aLo, int aHi, int bLo, int bHi, int x, int y) {
+        compare(aLo, aLo + x, bLo, bLo + y);
+        compare(aLo + x, aHi, bLo + y, bHi);
+    }
+}
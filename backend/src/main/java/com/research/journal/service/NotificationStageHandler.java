@@ -0,0 +1,69 @@
+package com.research.journal.service;
+
+import com.research.journal.entity.OutboxEventType;
+import com.research.journal.entity.Paper;
+import com.research.journal.entity.ProcessingJob;
+import com.research.journal.entity.ProcessingStage;
+import com.research.journal.entity.Revision;
+import com.research.journal.entity.UserRole;
+import com.research.journal.repository.PaperRepository;
+import com.research.journal.repository.RevisionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Announces new submissions on the event stream: papers to editors, revisions to reviewers.
+ * The outbox rows commit with the job's stage change, so each submission is announced once.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationStageHandler implements ProcessingStageHandler {
+
+    private final PaperRepository paperRepository;
+    private final RevisionRepository revisionRepository;
+    private final OutboxService outboxService;
+
+    @Override
+    public ProcessingStage stage() {
+        return ProcessingStage.NOTIFICATION;
+    }
+
+    @Override
+    public void handle(List<ProcessingJob> jobs) {
+        Map<Long, Paper> papers = paperRepository.findAllById(jobs.stream()
+                        .map(ProcessingJob::getPaperId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Paper::getId, Function.identity()));
+        Map<Long, Revision> revisions = revisionRepository.findAllById(jobs.stream()
+                        .map(ProcessingJob::getRevisionId)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Revision::getId, Function.identity()));
+
+        for (ProcessingJob job : jobs) {
+            Paper paper = papers.get(job.getPaperId());
+            if (paper == null) {
+                continue;
+            }
+            if (job.getRevisionId() == null) {
+                outboxService.record(OutboxEventType.PAPER_SUBMITTED, paper.getAuthor().getId(), UserRole.EDITOR,
+                        Map.of("paperId", paper.getId(), "title", paper.getTitle()));
+            } else {
+                Revision revision = revisions.get(job.getRevisionId());
+                if (revision != null) {
+                    outboxService.record(OutboxEventType.REVISION_SUBMITTED, paper.getAuthor().getId(), UserRole.REVIEWER,
+                            Map.of("paperId", paper.getId(), "revisionId", revision.getId(),
+                                    "revisionNumber", revision.getRevisionNumber()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.research.journal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.research.journal.entity.OutboxEvent;
+import com.research.journal.entity.OutboxEventType;
+import com.research.journal.entity.UserRole;
+import com.research.journal.repository.OutboxEventRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Map;
+
+/**
+ * Writes change events into the outbox table as part of the caller's transaction, so an
+ * event becomes visible to the stream pollers on every replica exactly when the change commits.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+@Timed(value = "journal.service", histogram = true)
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public void record(OutboxEventType type, Long recipientUserId, UserRole audienceRole,
+                       Map<String, Object> payload) {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(type)
+                .recipientUserId(recipientUserId)
+                .audienceRole(audienceRole)
+                .payload(toJson(payload))
+                .build();
+        outboxEventRepository.save(event);
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload", e);
+        }
+    }
+}
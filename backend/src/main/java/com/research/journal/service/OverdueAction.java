@@ -0,0 +1,11 @@
+package com.research.journal.service;
+
+// What happens to a pending review when its deadline passes (journal.review-deadlines.overdue-action)
+public enum OverdueAction {
+    // Remind the reviewer again and tell the editors
+    REMIND,
+    // Decline the review on the reviewer's behalf and tell the editors
+    DECLINE,
+    // Decline it and assign the paper to the journal's least-loaded other reviewer
+    REASSIGN
+}
@@ -0,0 +1,89 @@
+package com.research.journal.service;
+
+import com.research.journal.dto.PaperAttachmentDTO;
+import com.research.journal.entity.AttachmentKind;
+import com.research.journal.entity.Paper;
+import com.research.journal.entity.PaperAttachment;
+import com.research.journal.entity.Revision;
+import com.research.journal.entity.UploadSession;
+import com.research.journal.entity.UploadStatus;
+import com.research.journal.repository.PaperAttachmentRepository;
+import com.research.journal.repository.PaperRepository;
+import com.research.journal.repository.RevisionRepository;
+import com.research.journal.repository.UploadSessionRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.nio.file.Path;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Timed(value = "journal.service", histogram = true)
+public class PaperAttachmentService {
+
+    private final PaperAttachmentRepository paperAttachmentRepository;
+    private final PaperRepository paperRepository;
+    private final RevisionRepository revisionRepository;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final FileStore fileStore;
+
+    public PaperAttachmentDTO attach(Long paperId, Long uploadId, Long revisionId, AttachmentKind kind) {
+        Paper paper = paperRepository.findById(paperId)
+                .orElseThrow(() -> new RuntimeException("Paper not found"));
+        UploadSession upload = uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new RuntimeException("Upload not found"));
+        if (upload.getStatus() != UploadStatus.COMPLETED) {
+            throw new RuntimeException("Upload is not completed");
+        }
+        Revision revision = null;
+        if (revisionId != null) {
+            revision = revisionRepository.findById(revisionId)
+                    .filter(r -> r.getPaper().getId().equals(paperId))
+                    .orElseThrow(() -> new RuntimeException("Revision not found"));
+        }
+
+        PaperAttachment attachment = PaperAttachment.builder()
+                .paper(paper)
+                .revision(revision)
+                .storedFile(upload.getStoredFile())
+                .fileName(upload.getFileName())
+                .kind(kind != null ? kind : AttachmentKind.MANUSCRIPT)
+                .build();
+        return convertToDTO(paperAttachmentRepository.save(attachment));
+    }
+
+    @Transactional(readOnly = true)
+    public List<PaperAttachmentDTO> getAttachmentsByPaper(Long paperId) {
+        return paperAttachmentRepository.findByPaperIdOrderByIdAsc(paperId).stream()
+                .map(this::convertToDTO)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public AttachmentContent getContent(Long attachmentId) {
+        PaperAttachment attachment = paperAttachmentRepository.findWithStoredFileById(attachmentId)
+                .orElseThrow(() -> new RuntimeException("Attachment not found"));
+        return new AttachmentContent(convertToDTO(attachment),
+                fileStore.objectPath(attachment.getStoredFile().getSha256()));
+    }
+
+    public record AttachmentContent(PaperAttachmentDTO attachment, Path path) {
+    }
+
+    private PaperAttachmentDTO convertToDTO(PaperAttachment attachment) {
+        return PaperAttachmentDTO.builder()
+                .id(attachment.getId())
+                .paperId(attachment.getPaper().getId())
+                .revisionId(attachment.getRevision() != null ? attachment.getRevision().getId() : null)
+                .fileName(attachment.getFileName())
+                .kind(attachment.getKind())
+                .contentType(attachment.getStoredFile().getContentType())
+                .size(attachment.getStoredFile().getSize())
+                .sha256(attachment.getStoredFile().getSha256())
+                .createdAt(attachment.getCreatedAt())
+                .build();
+    }
+}
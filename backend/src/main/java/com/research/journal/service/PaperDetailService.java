@@ -0,0 +1,162 @@
+package com.research.journal.service;
+
+import com.research.journal.config.SqlStatementCounter;
+import com.research.journal.dto.PaperDTO;
+import com.research.journal.dto.ReviewDTO;
+import com.research.journal.dto.RevisionDTO;
+import com.research.journal.repository.PaperRepository;
+import com.research.journal.repository.ReviewRepository;
+import com.research.journal.repository.RevisionRepository;
+import com.research.journal.repository.RevisionSummary;
+import com.research.journal.tenancy.JournalContext;
+import com.research.journal.tracing.TraceContext;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Builds the complete paper view (paper and author, reviews and reviewers, revisions) that
+ * {@code GET /api/papers/{id}/full} returns in one round trip. The three parts are independent,
+ * so each loads on its own virtual thread in its own read-only transaction, with a fetch join
+ * where it needs one: three statements per page view however many reviews and revisions the
+ * paper has. The journal, request attributes and the SQL statement count follow each load, so
+ * tenancy, shard and read routing and the SQL budget see them as part of the request.
+ */
+@Service
+@Timed(value = "journal.service", histogram = true)
+public class PaperDetailService {
+
+    private final PaperRepository paperRepository;
+    private final ReviewRepository reviewRepository;
+    private final RevisionRepository revisionRepository;
+    private final PaperService paperService;
+    private final ReviewService reviewService;
+    private final RevisionService revisionService;
+    private final UserService userService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService loaders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PaperDetailService(PaperRepository paperRepository, ReviewRepository reviewRepository,
+                              RevisionRepository revisionRepository, PaperService paperService,
+                              ReviewService reviewService, RevisionService revisionService,
+                              UserService userService, PlatformTransactionManager transactionManager) {
+        this.paperRepository = paperRepository;
+        this.reviewRepository = reviewRepository;
+        this.revisionRepository = revisionRepository;
+        this.paperService = paperService;
+        this.reviewService = reviewService;
+        this.revisionService = revisionService;
+        this.userService = userService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        loaders.shutdownNow();
+    }
+
+    public PaperDTO getPaperDetails(Long paperId, boolean includeRevisionContent) {
+        Future<PaperDTO> paper = load(() -> paperRepository.findWithAuthorById(paperId)
+                .map(found -> {
+                    PaperDTO paperDTO = paperService.convertToDTO(found);
+                    paperDTO.setAuthor(userService.convertToDTO(found.getAuthor()));
+                    return paperDTO;
+                })
+                .orElse(null));
+        Future<List<ReviewDTO>> reviews = load(() -> reviewRepository.findWithReviewerByPaperId(paperId).stream()
+                .map(review -> {
+                    ReviewDTO reviewDTO = reviewService.convertToDTO(review);
+                    reviewDTO.setPaperId(paperId);
+                    reviewDTO.setReviewer(userService.convertToDTO(review.getReviewer()));
+                    return reviewDTO;
+                })
+                .toList());
+        Future<List<RevisionDTO>> revisions = load(() -> includeRevisionContent
+                ? revisionRepository.findByPaperIdOrderByRevisionNumberDesc(paperId).stream()
+                        .map(revision -> {
+                            RevisionDTO revisionDTO = revisionService.convertToDTO(revision);
+                            revisionDTO.setPaperId(paperId);
+                            return revisionDTO;
+                        })
+                        .toList()
+                : revisionRepository.findSummariesByPaperIdOrderByRevisionNumberDesc(paperId).stream()
+                        .map(summary -> toRevisionDTO(paperId, summary))
+                        .toList());
+
+        // Wait for every load before failing, so none outlives the request it reads from
+        awaitAll(paper, reviews, revisions);
+        PaperDTO paperDTO = result(paper);
+        if (paperDTO == null) {
+            throw new RuntimeException("Paper not found");
+        }
+        paperDTO.setReviews(result(reviews));
+        paperDTO.setRevisions(result(revisions));
+        return paperDTO;
+    }
+
+    private <T> Future<T> load(Supplier<T> loader) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        SqlStatementCounter.Counts counts = SqlStatementCounter.active();
+        Long journalId = JournalContext.currentJournalId();
+        return loaders.submit(TraceContext.wrap(() -> {
+            RequestContextHolder.setRequestAttributes(request);
+            SqlStatementCounter.attach(counts);
+            try {
+                return JournalContext.callAs(journalId, () -> readOnlyTransaction.execute(status -> loader.get()));
+            } finally {
+                SqlStatementCounter.detach();
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }));
+    }
+
+    private static void awaitAll(Future<?>... futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                // Rethrown by result()
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while loading paper details", e);
+            }
+        }
+    }
+
+    private static <T> T result(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading paper details", e);
+        }
+    }
+
+    private static RevisionDTO toRevisionDTO(Long paperId, RevisionSummary summary) {
+        return RevisionDTO.builder()
+                .id(summary.getId())
+                .paperId(paperId)
+                .revisionNumber(summary.getRevisionNumber())
+                .changesSummary(summary.getChangesSummary())
+                .submittedAt(summary.getSubmittedAt())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+}
@@ -1,24 +1,46 @@
 package com.research.journal.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.research.journal.audit.AuditLog;
 import com.research.journal.dto.PaperDTO;
+import com.research.journal.entity.AuditAction;
+import com.research.journal.entity.OutboxEventType;
 import com.research.journal.entity.Paper;
 import com.research.journal.entity.PaperStatus;
 import com.research.journal.entity.User;
 import com.research.journal.repository.PaperRepository;
+import com.research.journal.repository.ReviewRepository;
+import com.research.journal.repository.RevisionRepository;
 import com.research.journal.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "journal.service", histogram = true)
 public class PaperService {
 
     private final PaperRepository paperRepository;
     private final UserRepository userRepository;
+    private final ReviewRepository reviewRepository;
+    private final RevisionRepository revisionRepository;
+    private final OutboxService outboxService;
+    private final MeterRegistry meterRegistry;
+    private final SingleFlight singleFlight;
+    private final ProcessingJobService processingJobService;
+    private final EntityManager entityManager;
+    private final FieldProjection fieldProjection;
+    private final AuditLog auditLog;
 
     public PaperDTO submitPaper(String title, String abstractText, String content, Long authorId) {
         User author = userRepository.findById(authorId)
@@ -34,38 +56,77 @@ public class PaperService {
                 .build();
 
         Paper savedPaper = paperRepository.save(paper);
-        return convertToDTO(savedPaper);
+        auditLog.record(AuditAction.PAPER_SUBMITTED, savedPaper.getId(), Map.of("title", title));
+        PaperDTO paperDTO = convertToDTO(savedPaper);
+        paperDTO.setProcessingJobId(processingJobService.enqueue(savedPaper.getId(), null));
+        return paperDTO;
     }
 
+    @Transactional(readOnly = true)
     public PaperDTO getPaperById(Long id) {
         Paper paper = paperRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Paper not found"));
         return convertToDTO(paper);
     }
 
-    public List<PaperDTO> getPapersByAuthor(Long authorId) {
-        return paperRepository.findByAuthorId(authorId).stream()
-                .map(this::convertToDTO)
-                .toList();
+    @Transactional(readOnly = true)
+    public Map<String, Object> getPaperFields(Long id, FieldProjection.Fields fields) {
+        Map<String, Object> paper = fieldProjection.findOne(fields, "WHERE e.id = :id", Map.of("id", id));
+        if (paper == null) {
+            throw new RuntimeException("Paper not found");
+        }
+        return paper;
+    }
+
+    // With a field set only those columns are selected; without one the full DTOs are written
+    @Transactional(readOnly = true)
+    public void writePapersByAuthor(Long authorId, FieldProjection.Fields fields, JsonGenerator generator) throws IOException {
+        if (fields != null) {
+            fieldProjection.writeAll(fields, "WHERE e.author.id = :authorId", Map.of("authorId", authorId), generator);
+            return;
+        }
+        writePapers(paperRepository.findByAuthorId(authorId), generator);
     }
 
-    public List<PaperDTO> getPapersByStatus(PaperStatus status) {
-        return paperRepository.findByStatus(status).stream()
-                .map(this::convertToDTO)
-                .toList();
+    @Transactional(readOnly = true)
+    public void writePapersByStatus(PaperStatus status, FieldProjection.Fields fields, JsonGenerator generator) throws IOException {
+        if (fields != null) {
+            fieldProjection.writeAll(fields, "WHERE e.status = :status", Map.of("status", status), generator);
+            return;
+        }
+        writePapers(paperRepository.findByStatus(status), generator);
     }
 
-    public List<PaperDTO> getAllPapersOrderedBySubmission() {
-        return paperRepository.findAll().stream()
-                .sorted((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt()))
-                .map(this::convertToDTO)
-                .toList();
+    @Transactional(readOnly = true)
+    public void writeAllPapersOrderedBySubmission(FieldProjection.Fields fields, JsonGenerator generator) throws IOException {
+        if (fields != null) {
+            fieldProjection.writeAll(fields, "ORDER BY e.createdAt DESC", Map.of(), generator);
+            return;
+        }
+        writePapers(paperRepository.findAllByOrderByCreatedAtDesc(), generator);
+    }
+
+    // Each row is written and detached as it is read, so neither a DTO list nor the
+    // persistence context grows with the size of the listing
+    private void writePapers(Stream<Paper> papers, JsonGenerator generator) throws IOException {
+        try (papers) {
+            generator.writeStartArray();
+            for (Iterator<Paper> it = papers.iterator(); it.hasNext(); ) {
+                Paper paper = it.next();
+                generator.writeObject(convertToDTO(paper));
+                entityManager.detach(paper);
+            }
+            generator.writeEndArray();
+        }
     }
 
     public PaperDTO updatePaperStatus(Long paperId, PaperStatus newStatus) {
         Paper paper = paperRepository.findById(paperId)
                 .orElseThrow(() -> new RuntimeException("Paper not found"));
 
+        PaperStatus oldStatus = paper.getStatus();
+        meterRegistry.counter("journal.paper.status.transitions",
+                "from", oldStatus.name(), "to", newStatus.name()).increment();
         paper.setStatus(newStatus);
         
         if (newStatus == PaperStatus.ACCEPTED) {
@@ -77,6 +138,10 @@ public class PaperService {
         }
 
         Paper updatedPaper = paperRepository.save(paper);
+        singleFlight.invalidate(SingleFlight.PAPER, paperId);
+        outboxService.record(OutboxEventType.PAPER_STATUS_CHANGED, paper.getAuthor().getId(), null,
+                Map.of("paperId", paperId, "status", newStatus));
+        auditLog.record(AuditAction.PAPER_STATUS_CHANGED, paperId, Map.of("from", oldStatus, "to", newStatus));
         return convertToDTO(updatedPaper);
     }
 
@@ -88,6 +153,8 @@ public class PaperService {
         paper.setPlagiarismChecked(true);
 
         Paper updatedPaper = paperRepository.save(paper);
+        singleFlight.invalidate(SingleFlight.PAPER, paperId);
+        auditLog.record(AuditAction.PAPER_PLAGIARISM_SCORED, paperId, Map.of("score", score));
         return convertToDTO(updatedPaper);
     }
 
@@ -95,12 +162,20 @@ public class PaperService {
         if (!paperRepository.existsById(paperId)) {
             throw new RuntimeException("Paper not found");
         }
+        // Bulk-delete children first; the orphanRemoval cascade would otherwise load and delete them one by one
+        reviewRepository.deleteAllByPaperIdInBulk(paperId);
+        revisionRepository.deleteAllByPaperIdInBulk(paperId);
         paperRepository.deleteById(paperId);
+        auditLog.record(AuditAction.PAPER_DELETED, paperId, Map.of());
+        singleFlight.invalidate(SingleFlight.PAPER, paperId);
+        singleFlight.invalidate(SingleFlight.PAPER_REVIEWS, paperId);
+        singleFlight.invalidate(SingleFlight.PAPER_REVISIONS, paperId);
     }
 
-    private PaperDTO convertToDTO(Paper paper) {
+    PaperDTO convertToDTO(Paper paper) {
         return PaperDTO.builder()
                 .id(paper.getId())
+                .journalId(paper.getJournalId())
                 .title(paper.getTitle())
                 .abstractText(paper.getAbstractText())
                 .content(paper.getContent())
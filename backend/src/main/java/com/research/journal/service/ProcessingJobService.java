@@ -0,0 +1,87 @@
+package com.research.journal.service;
+
+import com.research.journal.dto.ProcessingJobDTO;
+import com.research.journal.entity.ProcessingJob;
+import com.research.journal.entity.ProcessingJobStatus;
+import com.research.journal.entity.ProcessingStage;
+import com.research.journal.repository.ProcessingJobRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Transactional
+@Timed(value = "journal.service", histogram = true)
+public class ProcessingJobService {
+
+    private final ProcessingJobRepository processingJobRepository;
+    private final Set<ProcessingStage> stages = EnumSet.noneOf(ProcessingStage.class);
+
+    public ProcessingJobService(ProcessingJobRepository processingJobRepository,
+                                List<ProcessingStageHandler> handlers) {
+        this.processingJobRepository = processingJobRepository;
+        handlers.forEach(handler -> stages.add(handler.stage()));
+    }
+
+    /**
+     * Queues processing of a new submission in the caller's transaction, so the job exists
+     * exactly when the submission commits.
+     *
+     * @return the job id, or null when no stage has a handler
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Long enqueue(Long paperId, Long revisionId) {
+        ProcessingStage first = nextStage(null);
+        if (first == null) {
+            return null;
+        }
+        ProcessingJob job = ProcessingJob.builder()
+                .idempotencyKey(revisionId == null ? "paper:" + paperId : "revision:" + revisionId)
+                .paperId(paperId)
+                .revisionId(revisionId)
+                .stage(first)
+                .status(ProcessingJobStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        return processingJobRepository.save(job).getId();
+    }
+
+    @Transactional(readOnly = true)
+    public ProcessingJobDTO getJobById(Long id) {
+        ProcessingJob job = processingJobRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        return convertToDTO(job);
+    }
+
+    /** The stage after {@code current} that has a handler, the first one for null, or null at the end. */
+    ProcessingStage nextStage(ProcessingStage current) {
+        for (ProcessingStage stage : stages) {
+            if (current == null || stage.compareTo(current) > 0) {
+                return stage;
+            }
+        }
+        return null;
+    }
+
+    private ProcessingJobDTO convertToDTO(ProcessingJob job) {
+        return ProcessingJobDTO.builder()
+                .id(job.getId())
+                .paperId(job.getPaperId())
+                .revisionId(job.getRevisionId())
+                .stage(job.getStage())
+                .status(job.getStatus())
+                .attempts(job.getAttempts())
+                .nextAttemptAt(job.getNextAttemptAt())
+                .lastError(job.getLastError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
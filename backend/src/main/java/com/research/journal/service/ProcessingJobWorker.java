@@ -0,0 +1,235 @@
+package com.research.journal.service;
+
+import com.research.journal.entity.ProcessingJob;
+import com.research.journal.entity.ProcessingJobStatus;
+import com.research.journal.entity.ProcessingStage;
+import com.research.journal.repository.ProcessingJobRepository;
+import com.research.journal.tenancy.JournalContext;
+import com.research.journal.tenancy.ShardRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs queued processing jobs. Every poll claims due jobs of one stage at a time as a batch
+ * (at most {@code workers} batches in flight per pod), hands the batch to the stage handler
+ * and advances the jobs in the handler's transaction. Failures back off exponentially per
+ * stage up to {@code max-attempts}. Claims expire after {@code lock-timeout-ms}, so jobs of a
+ * pod that died mid-batch are picked up again by the others. With sharding, every shard's
+ * queue is polled in turn and a batch is processed on the shard it was claimed from.
+ */
+@Component
+public class ProcessingJobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessingJobWorker.class);
+
+    private final ProcessingJobRepository processingJobRepository;
+    private final ProcessingJobService processingJobService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ShardRegistry shardRegistry;
+    private final Map<ProcessingStage, ProcessingStageHandler> handlers = new EnumMap<>(ProcessingStage.class);
+    private final Map<ProcessingStage, AtomicLong> queueDepth = new EnumMap<>(ProcessingStage.class);
+
+    @Value("${journal.jobs.workers:4}")
+    private int workers;
+
+    @Value("${journal.jobs.batch-size:20}")
+    private int batchSize;
+
+    @Value("${journal.jobs.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${journal.jobs.backoff-initial-ms:2000}")
+    private long backoffInitialMs;
+
+    @Value("${journal.jobs.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    @Value("${journal.jobs.lock-timeout-ms:300000}")
+    private long lockTimeoutMs;
+
+    private ExecutorService executor;
+    private Semaphore permits;
+
+    public ProcessingJobWorker(ProcessingJobRepository processingJobRepository,
+                               ProcessingJobService processingJobService,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               ShardRegistry shardRegistry,
+                               List<ProcessingStageHandler> stageHandlers) {
+        this.processingJobRepository = processingJobRepository;
+        this.processingJobService = processingJobService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.shardRegistry = shardRegistry;
+        stageHandlers.forEach(handler -> handlers.put(handler.stage(), handler));
+    }
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newFixedThreadPool(workers);
+        permits = new Semaphore(workers);
+        for (ProcessingStage stage : ProcessingStage.values()) {
+            AtomicLong depth = new AtomicLong();
+            queueDepth.put(stage, depth);
+            Gauge.builder("journal.jobs.queue.depth", depth, AtomicLong::get)
+                    .tag("stage", stage.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${journal.jobs.poll-interval-ms:1000}")
+    public void poll() {
+        Map<ProcessingStage, Long> pending = new EnumMap<>(ProcessingStage.class);
+        shardRegistry.forEachShard(shard -> pollShard(shard, pending));
+        queueDepth.forEach((stage, depth) -> depth.set(pending.getOrDefault(stage, 0L)));
+    }
+
+    // Runs pinned to the shard; the batches it hands to the executor are pinned to it as well
+    private void pollShard(int shard, Map<ProcessingStage, Long> pending) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer released = transactionTemplate.execute(status -> processingJobRepository.releaseExpiredLocks(
+                ProcessingJobStatus.PENDING, ProcessingJobStatus.RUNNING, now));
+        if (released != null && released > 0) {
+            log.warn("Released {} processing jobs whose worker lock expired", released);
+        }
+        countPending(pending);
+
+        for (ProcessingStage stage : handlers.keySet()) {
+            while (permits.tryAcquire()) {
+                List<ProcessingJob> batch = claim(stage);
+                if (batch.isEmpty()) {
+                    permits.release();
+                    break;
+                }
+                executor.execute(() -> {
+                    try {
+                        JournalContext.runOnShard(shard, () -> process(stage, batch));
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private List<ProcessingJob> claim(ProcessingStage stage) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = processingJobRepository.findDueIds(stage, ProcessingJobStatus.PENDING, now,
+                    PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            String token = UUID.randomUUID().toString();
+            processingJobRepository.claim(ids, token, now.plusNanos(TimeUnit.MILLISECONDS.toNanos(lockTimeoutMs)),
+                    ProcessingJobStatus.PENDING, ProcessingJobStatus.RUNNING);
+            return processingJobRepository.findByLockedBy(token);
+        });
+    }
+
+    private void process(ProcessingStage stage, List<ProcessingJob> batch) {
+        ProcessingStageHandler handler = handlers.get(stage);
+        ProcessingStage next = processingJobService.nextStage(stage);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                handler.handle(batch);
+                LocalDateTime now = LocalDateTime.now();
+                for (ProcessingJob job : batch) {
+                    int updated = next != null
+                            ? processingJobRepository.advance(job.getId(), job.getLockedBy(), next,
+                                    ProcessingJobStatus.PENDING, now)
+                            : processingJobRepository.release(job.getId(), job.getLockedBy(),
+                                    ProcessingJobStatus.SUCCEEDED, job.getNextAttemptAt(), null, now, now);
+                    if (updated == 0) {
+                        // Our claim expired and another worker owns the job; roll back so it runs once
+                        throw new IllegalStateException("Lost claim on processing job " + job.getId());
+                    }
+                }
+            });
+            sample.stop(stageTimer(stage, "success"));
+        } catch (RuntimeException e) {
+            sample.stop(stageTimer(stage, "failure"));
+            if (batch.size() == 1) {
+                fail(batch.get(0), e);
+                return;
+            }
+            log.debug("Batch of {} {} jobs failed, retrying individually", batch.size(), stage, e);
+            for (ProcessingJob job : batch) {
+                process(stage, List.of(job));
+            }
+        }
+    }
+
+    private void fail(ProcessingJob job, RuntimeException error) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean exhausted = job.getAttempts() >= maxAttempts;
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        if (message.length() > 1000) {
+            message = message.substring(0, 1000);
+        }
+        String lastError = message;
+        transactionTemplate.executeWithoutResult(status -> processingJobRepository.release(
+                job.getId(), job.getLockedBy(),
+                exhausted ? ProcessingJobStatus.FAILED : ProcessingJobStatus.PENDING,
+                exhausted ? job.getNextAttemptAt() : now.plusNanos(TimeUnit.MILLISECONDS.toNanos(backoff(job.getAttempts()))),
+                lastError, exhausted ? now : null, now));
+        if (exhausted) {
+            log.warn("Processing job {} failed at {} after {} attempts: {}", job.getId(), job.getStage(),
+                    job.getAttempts(), lastError);
+        }
+    }
+
+    // Exponential with jitter: attempt n waits between half and all of initial * 2^(n-1), capped
+    private long backoff(int attempts) {
+        long ceiling = Math.min(backoffMaxMs, backoffInitialMs << Math.min(attempts - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    private Timer stageTimer(ProcessingStage stage, String outcome) {
+        return Timer.builder("journal.jobs.stage.duration")
+                .tag("stage", stage.name())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void countPending(Map<ProcessingStage, Long> pending) {
+        List<Object[]> rows = transactionTemplate.execute(status ->
+                processingJobRepository.countByStage(ProcessingJobStatus.PENDING));
+        if (rows != null) {
+            for (Object[] row : rows) {
+                pending.merge((ProcessingStage) row[0], (Long) row[1], Long::sum);
+            }
+        }
+    }
+}
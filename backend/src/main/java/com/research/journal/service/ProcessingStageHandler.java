@@ -0,0 +1,18 @@
+package com.research.journal.service;
+
+import com.research.journal.entity.ProcessingJob;
+import com.research.journal.entity.ProcessingStage;
+import java.util.List;
+
+/**
+ * Work for one pipeline stage. {@link #handle} receives a batch of jobs due at that stage and
+ * runs in the same transaction that moves them to the next stage, so database effects commit
+ * exactly once. Effects outside the database must tolerate a retry of the same job.
+ * A thrown exception rolls the batch back; the jobs are then retried one by one.
+ */
+public interface ProcessingStageHandler {
+
+    ProcessingStage stage();
+
+    void handle(List<ProcessingJob> jobs);
+}
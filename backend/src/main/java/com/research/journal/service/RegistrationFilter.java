@@ -0,0 +1,142 @@
+package com.research.journal.service;
+
+import com.research.journal.tenancy.ShardRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Remembers every email and username in the users table in a Bloom filter, so registration
+ * only asks the database about the ones that might be taken. A "no" is certain and skips the
+ * query; the unique constraints still reject anything the filter let through, such as an
+ * account registered on another pod since the last rebuild.
+ *
+ * The filter is rebuilt from a scan of the table every {@code rebuild-interval-ms}, sized for
+ * twice the current count, which also bounds how far the false-positive rate drifts. Until the
+ * first build finishes every name counts as possibly taken.
+ */
+@Component
+public class RegistrationFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationFilter.class);
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final int MIN_EXPECTED = 10_000;
+
+    private final JdbcTemplate directory;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong filterBytes = new AtomicLong();
+    private volatile BloomFilter current;
+    // The filter being built, which also takes the names registered during the scan
+    private volatile BloomFilter building;
+
+    @Value("${journal.registration-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    public RegistrationFilter(ShardRegistry shardRegistry, MeterRegistry meterRegistry) {
+        this.directory = new JdbcTemplate(shardRegistry.directory());
+        this.directory.setFetchSize(1000);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("journal.registration.filter.bytes", filterBytes, AtomicLong::get)
+                .description("Memory held by the email/username Bloom filter")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${journal.registration-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        try {
+            Long users = directory.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            // Two names per user, with room for as many users again before the next rebuild
+            BloomFilter next = new BloomFilter(Math.max(MIN_EXPECTED, 4 * users), falsePositiveRate);
+            building = next;
+            directory.query("SELECT email, username FROM users", row -> {
+                next.add(emailKey(row.getString(1)));
+                next.add(usernameKey(row.getString(2)));
+            });
+            current = next;
+            filterBytes.set(next.sizeInBytes());
+            log.info("Rebuilt registration filter over {} users in {} ms", users,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild registration filter", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    public boolean mightHaveEmail(String email) {
+        return mightContain("email", emailKey(email));
+    }
+
+    public boolean mightHaveUsername(String username) {
+        return mightContain("username", usernameKey(username));
+    }
+
+    /**
+     * Records names taken by a new account, now and again once its transaction commits: a
+     * rebuild scan that started in between would not see the row, but its filter gets the
+     * second add.
+     */
+    public void add(String email, String username) {
+        addNow(emailKey(email), usernameKey(username));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(emailKey(email), usernameKey(username));
+                }
+            });
+        }
+    }
+
+    /** Counts a filter hit that the database then found free, to watch the false-positive rate. */
+    public void recordFalsePositive(String field) {
+        if (current == null) {
+            return;
+        }
+        meterRegistry.counter("journal.registration.filter", "field", field, "outcome", "false_positive").increment();
+    }
+
+    private boolean mightContain(String field, String key) {
+        BloomFilter filter = current;
+        boolean maybe = filter == null || filter.mightContain(key);
+        meterRegistry.counter("journal.registration.filter", "field", field,
+                "outcome", filter == null ? "unbuilt" : maybe ? "checked" : "skipped").increment();
+        return maybe;
+    }
+
+    private void addNow(String emailKey, String usernameKey) {
+        for (BloomFilter filter : new BloomFilter[]{current, building}) {
+            if (filter != null) {
+                filter.add(emailKey);
+                filter.add(usernameKey);
+            }
+        }
+    }
+
+    private static String emailKey(String email) {
+        return "e:" + normalize(email);
+    }
+
+    private static String usernameKey(String username) {
+        return "u:" + normalize(username);
+    }
+
+    // At least as coarse as the column collation (MySQL's default ignores case and accents, and
+    // older ones trailing spaces), so no name the database calls equal ever misses the filter
+    private static String normalize(String value) {
+        String stripped = COMBINING_MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return stripped.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+}
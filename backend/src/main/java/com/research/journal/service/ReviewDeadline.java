@@ -0,0 +1,14 @@
+package com.research.journal.service;
+
+import com.research.journal.entity.ReviewEscalation;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// A timer's payload; dueAtMillis is the review's due_at when the timer was scheduled
+record ReviewDeadline(long reviewId, long journalId, long dueAtMillis, ReviewEscalation escalation) {
+
+    // Same conversion as JDBC's for due_at, so values read either way compare equal
+    static long toMillis(LocalDateTime dueAt) {
+        return Timestamp.valueOf(dueAt).getTime();
+    }
+}
@@ -0,0 +1,235 @@
+package com.research.journal.service;
+
+import com.research.journal.dto.JournalDTO;
+import com.research.journal.entity.JournalStatus;
+import com.research.journal.entity.ReviewEscalation;
+import com.research.journal.entity.ReviewStatus;
+import com.research.journal.tenancy.JournalContext;
+import com.research.journal.tenancy.JournalDirectory;
+import com.research.journal.tenancy.ShardRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps one timer per pending review with a deadline in a {@link TimerWheel}: a reminder
+ * {@code reminder-lead-hours} before the deadline, then the overdue action at it. Fired timers
+ * go to {@link ReviewEscalationService} in batches of {@code batch-size} per journal. Every pod
+ * holds every timer; the claim rows make one of them act on each deadline.
+ *
+ * The first sync streams the pending reviews with a deadline from every shard. Later syncs read
+ * the reviews updated since the previous one, less {@code sync-overlap-ms} for clock skew between
+ * pods, so deadlines set, moved or cleared anywhere are picked up within {@code sync-interval-ms}.
+ * A timer whose review changed in between still fires, and is dropped by the escalation service.
+ */
+@Component
+public class ReviewDeadlineScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewDeadlineScheduler.class);
+
+    private static final String PENDING = "SELECT id, journal_id, status, due_at FROM reviews "
+            + "WHERE status = 'PENDING' AND due_at IS NOT NULL";
+    private static final String CHANGED = "SELECT id, journal_id, status, due_at FROM reviews WHERE updated_at >= ?";
+
+    private final ReviewEscalationService escalationService;
+    private final ShardRegistry shardRegistry;
+    private final JournalDirectory journalDirectory;
+    private final MeterRegistry meterRegistry;
+    private final TimerWheel<ReviewDeadline> wheel;
+    // The live timer of each review; a fired one stays until its batch is done
+    private final Map<Long, TimerWheel.Timer<ReviewDeadline>> timers = new HashMap<>();
+    // Start of the last sync, null until the first one finishes
+    private LocalDateTime syncedFrom;
+
+    @Value("${journal.review-deadlines.reminder-lead-hours:48}")
+    private long reminderLeadHours;
+
+    @Value("${journal.review-deadlines.batch-size:200}")
+    private int batchSize;
+
+    @Value("${journal.review-deadlines.sync-overlap-ms:60000}")
+    private long syncOverlapMs;
+
+    @Value("${journal.review-deadlines.retry-delay-ms:60000}")
+    private long retryDelayMs;
+
+    public ReviewDeadlineScheduler(ReviewEscalationService escalationService,
+                                   ShardRegistry shardRegistry,
+                                   JournalDirectory journalDirectory,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${journal.review-deadlines.tick-ms:1000}") long tickMs) {
+        this.escalationService = escalationService;
+        this.shardRegistry = shardRegistry;
+        this.journalDirectory = journalDirectory;
+        this.meterRegistry = meterRegistry;
+        this.wheel = new TimerWheel<>(tickMs, System.currentTimeMillis());
+        Gauge.builder("journal.review-deadlines.timers", this, ReviewDeadlineScheduler::scheduled)
+                .description("Review reminder and overdue timers waiting to fire")
+                .register(meterRegistry);
+    }
+
+    private synchronized int scheduled() {
+        return wheel.size();
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${journal.review-deadlines.sync-interval-ms:30000}")
+    public void sync() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.nanoTime();
+        boolean rehydrate = syncedFrom == null;
+        Object[] args = rehydrate ? new Object[0]
+                : new Object[]{Timestamp.valueOf(syncedFrom.minusNanos(TimeUnit.MILLISECONDS.toNanos(syncOverlapMs)))};
+        try {
+            for (int shard = 0; shard < shardRegistry.size(); shard++) {
+                int current = shard;
+                JdbcTemplate reviews = new JdbcTemplate(shardRegistry.shard(shard));
+                reviews.setFetchSize(1000);
+                reviews.query(rehydrate ? PENDING : CHANGED, row -> {
+                    long journalId = row.getLong(2);
+                    // Skips the copy a journal leaves behind while it moves to another shard
+                    if (shardRegistry.shardOf(journalId) == current) {
+                        update(row.getLong(1), journalId, ReviewStatus.valueOf(row.getString(3)), row.getTimestamp(4));
+                    }
+                }, args);
+            }
+            syncedFrom = startedAt;
+            if (rehydrate) {
+                log.info("Scheduled {} review deadline timers in {} ms", scheduled(),
+                        (System.nanoTime() - started) / 1_000_000);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not sync review deadlines", e);
+        }
+    }
+
+    private synchronized void update(long reviewId, long journalId, ReviewStatus status, Timestamp dueAt) {
+        TimerWheel.Timer<ReviewDeadline> existing = timers.get(reviewId);
+        if (existing != null) {
+            if (status == ReviewStatus.PENDING && dueAt != null && existing.payload().dueAtMillis() == dueAt.getTime()) {
+                return;
+            }
+            wheel.cancel(existing);
+            timers.remove(reviewId);
+        }
+        if (status != ReviewStatus.PENDING || dueAt == null) {
+            return;
+        }
+        long due = dueAt.getTime();
+        long remindAt = due - TimeUnit.HOURS.toMillis(reminderLeadHours);
+        // A reminder due while every pod was down is still sent, unless the deadline itself has passed
+        if (reminderLeadHours > 0 && System.currentTimeMillis() < due) {
+            schedule(remindAt, new ReviewDeadline(reviewId, journalId, due, ReviewEscalation.REMINDER));
+        } else {
+            schedule(due, new ReviewDeadline(reviewId, journalId, due, ReviewEscalation.OVERDUE));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${journal.review-deadlines.tick-ms:1000}")
+    public void tick() {
+        List<ReviewDeadline> fired;
+        synchronized (this) {
+            fired = wheel.advance(System.currentTimeMillis());
+        }
+        if (fired.isEmpty()) {
+            return;
+        }
+        Map<Long, Map<ReviewEscalation, List<ReviewDeadline>>> byJournal = fired.stream()
+                .collect(Collectors.groupingBy(ReviewDeadline::journalId, Collectors.groupingBy(
+                        ReviewDeadline::escalation, () -> new EnumMap<>(ReviewEscalation.class), Collectors.toList())));
+        byJournal.forEach((journalId, byEscalation) -> {
+            JournalDTO journal = journalDirectory.find(journalId);
+            byEscalation.forEach((escalation, deadlines) -> {
+                if (journal == null) {
+                    count(escalation, "skipped", deadlines.size());
+                    finish(deadlines);
+                } else if (journal.getStatus() != JournalStatus.ACTIVE) {
+                    // Moving to another shard; its writes wait until it is active again
+                    count(escalation, "deferred", deadlines.size());
+                    retry(deadlines);
+                } else {
+                    for (int from = 0; from < deadlines.size(); from += batchSize) {
+                        escalate(journalId, escalation, deadlines.subList(from, Math.min(deadlines.size(), from + batchSize)));
+                    }
+                }
+            });
+        });
+    }
+
+    private void escalate(Long journalId, ReviewEscalation escalation, List<ReviewDeadline> batch) {
+        try {
+            int claimed = JournalContext.callAs(journalId, () -> escalationService.escalate(escalation, batch));
+            count(escalation, "claimed", claimed);
+            count(escalation, "skipped", batch.size() - claimed);
+            finish(batch);
+        } catch (DataIntegrityViolationException e) {
+            // The other pod claimed one of them first, or a review was deleted meanwhile
+            if (batch.size() == 1) {
+                count(escalation, "skipped", 1);
+                finish(batch);
+                return;
+            }
+            for (ReviewDeadline deadline : batch) {
+                escalate(journalId, escalation, List.of(deadline));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not escalate {} review deadlines of journal {}, retrying in {} ms",
+                    batch.size(), journalId, retryDelayMs, e);
+            count(escalation, "failed", batch.size());
+            retry(batch);
+        }
+    }
+
+    // Moves a review past its fired timer, unless a sync has rescheduled it meanwhile
+    private synchronized void finish(List<ReviewDeadline> deadlines) {
+        for (ReviewDeadline deadline : deadlines) {
+            if (!isLive(deadline)) {
+                continue;
+            }
+            if (deadline.escalation() == ReviewEscalation.REMINDER) {
+                schedule(deadline.dueAtMillis(), new ReviewDeadline(deadline.reviewId(), deadline.journalId(),
+                        deadline.dueAtMillis(), ReviewEscalation.OVERDUE));
+            } else {
+                timers.remove(deadline.reviewId());
+            }
+        }
+    }
+
+    private synchronized void retry(List<ReviewDeadline> deadlines) {
+        long retryAt = System.currentTimeMillis() + retryDelayMs;
+        for (ReviewDeadline deadline : deadlines) {
+            if (isLive(deadline)) {
+                schedule(retryAt, deadline);
+            }
+        }
+    }
+
+    private boolean isLive(ReviewDeadline deadline) {
+        TimerWheel.Timer<ReviewDeadline> timer = timers.get(deadline.reviewId());
+        return timer != null && timer.payload() == deadline;
+    }
+
+    private void schedule(long atMillis, ReviewDeadline deadline) {
+        timers.put(deadline.reviewId(), wheel.schedule(atMillis, deadline));
+    }
+
+    private void count(ReviewEscalation escalation, String outcome, int times) {
+        if (times > 0) {
+            meterRegistry.counter("journal.review-deadlines.escalations",
+                    "escalation", escalation.name(), "outcome", outcome).increment(times);
+        }
+    }
+}
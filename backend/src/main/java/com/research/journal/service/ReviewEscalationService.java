@@ -0,0 +1,213 @@
+package com.research.journal.service;
+
+import com.research.journal.audit.AuditLog;
+import com.research.journal.entity.AuditAction;
+import com.research.journal.entity.OutboxEventType;
+import com.research.journal.entity.Review;
+import com.research.journal.entity.ReviewEscalation;
+import com.research.journal.entity.ReviewStatus;
+import com.research.journal.entity.UserRole;
+import com.research.journal.repository.ReviewRepository;
+import com.research.journal.repository.UserRepository;
+import com.research.journal.tenancy.JournalContext;
+import com.research.journal.tenancy.ShardRegistry;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the reminder and overdue actions of fired review timers, one journal's batch at a time.
+ *
+ * Every review acted on gets a row in review_escalation_claims, inserted in the transaction of
+ * the action itself. Its unique key on (review, escalation, due date) lets one pod act on a
+ * deadline: the other pod's insert waits for the first transaction, then fails if it committed
+ * and goes through if it rolled back. Reviews that are no longer pending, or whose deadline
+ * moved since the timer was scheduled, are left alone.
+ */
+@Service
+@Transactional
+@Timed(value = "journal.service", histogram = true)
+public class ReviewEscalationService {
+
+    private static final String CLAIM = "INSERT INTO review_escalation_claims "
+            + "(journal_id, review_id, escalation, due_at, claimed_by, claimed_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
+    private final OutboxService outboxService;
+    private final MeterRegistry meterRegistry;
+    private final SingleFlight singleFlight;
+    private final AuditLog auditLog;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate directory;
+    private final String claimedBy = ManagementFactory.getRuntimeMXBean().getName();
+
+    @Value("${journal.review-deadlines.overdue-action:REMIND}")
+    private OverdueAction overdueAction;
+
+    @Value("${journal.review-deadlines.default-days:14}")
+    private int defaultDeadlineDays;
+
+    public ReviewEscalationService(ReviewRepository reviewRepository,
+                                   UserRepository userRepository,
+                                   OutboxService outboxService,
+                                   MeterRegistry meterRegistry,
+                                   SingleFlight singleFlight,
+                                   AuditLog auditLog,
+                                   DataSource dataSource,
+                                   ShardRegistry shardRegistry) {
+        this.reviewRepository = reviewRepository;
+        this.userRepository = userRepository;
+        this.outboxService = outboxService;
+        this.meterRegistry = meterRegistry;
+        this.singleFlight = singleFlight;
+        this.auditLog = auditLog;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.directory = new JdbcTemplate(shardRegistry.directory());
+    }
+
+    /** Acts on the deadlines of the bound journal that still hold; returns how many of them this pod claimed. */
+    public int escalate(ReviewEscalation escalation, List<ReviewDeadline> deadlines) {
+        Map<Long, ReviewDeadline> byReview = deadlines.stream()
+                .collect(Collectors.toMap(ReviewDeadline::reviewId, Function.identity(), (first, second) -> second));
+        List<Review> due = reviewRepository.findWithPaperByIds(byReview.keySet()).stream()
+                .filter(review -> review.getStatus() == ReviewStatus.PENDING && review.getDueAt() != null
+                        && ReviewDeadline.toMillis(review.getDueAt()) == byReview.get(review.getId()).dueAtMillis())
+                .toList();
+        due = unclaimed(escalation, due);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        claim(escalation, due);
+
+        if (escalation == ReviewEscalation.REMINDER) {
+            for (Review review : due) {
+                outboxService.record(OutboxEventType.REVIEW_REMINDER, review.getReviewer().getId(), null, payload(review));
+            }
+            return due.size();
+        }
+        switch (overdueAction) {
+            case REMIND -> due.forEach(review -> outboxService.record(OutboxEventType.REVIEW_OVERDUE,
+                    review.getReviewer().getId(), UserRole.EDITOR, payload(review)));
+            case DECLINE -> due.forEach(review -> {
+                decline(review);
+                outboxService.record(OutboxEventType.REVIEW_OVERDUE, null, UserRole.EDITOR, payload(review));
+            });
+            case REASSIGN -> reassign(due);
+        }
+        return due.size();
+    }
+
+    // Drops the reviews whose deadline was already acted on, e.g. before this pod restarted
+    private List<Review> unclaimed(ReviewEscalation escalation, List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return reviews;
+        }
+        List<Object> args = new ArrayList<>(reviews.size() + 1);
+        args.add(escalation.name());
+        reviews.forEach(review -> args.add(review.getId()));
+        Set<Claim> claimed = new HashSet<>(jdbcTemplate.query("SELECT review_id, due_at FROM review_escalation_claims "
+                        + "WHERE escalation = ? AND review_id IN (" + String.join(", ", Collections.nCopies(reviews.size(), "?")) + ")",
+                (row, rowNum) -> new Claim(row.getLong(1), row.getTimestamp(2).toLocalDateTime()), args.toArray()));
+        return reviews.stream()
+                .filter(review -> !claimed.contains(new Claim(review.getId(), review.getDueAt())))
+                .toList();
+    }
+
+    private void claim(ReviewEscalation escalation, List<Review> reviews) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = reviews.stream()
+                .map(review -> new Object[]{review.getJournalId(), review.getId(), escalation.name(),
+                        Timestamp.valueOf(review.getDueAt()), claimedBy, now})
+                .toList();
+        jdbcTemplate.batchUpdate(CLAIM, rows);
+    }
+
+    private void decline(Review review) {
+        meterRegistry.counter("journal.review.status.transitions",
+                "from", ReviewStatus.PENDING.name(), "to", ReviewStatus.DECLINED.name()).increment();
+        review.setStatus(ReviewStatus.DECLINED);
+        reviewRepository.save(review);
+        singleFlight.invalidate(SingleFlight.PAPER_REVIEWS, review.getPaper().getId());
+        outboxService.record(OutboxEventType.REVIEW_STATUS_CHANGED, review.getReviewer().getId(), null,
+                Map.of("paperId", review.getPaper().getId(), "reviewId", review.getId(), "status", ReviewStatus.DECLINED));
+        auditLog.record(AuditAction.REVIEW_STATUS_CHANGED, review.getId(),
+                Map.of("from", ReviewStatus.PENDING, "to", ReviewStatus.DECLINED, "reason", "OVERDUE"));
+    }
+
+    // Hands each paper to the journal's reviewer with the fewest pending reviews who has not
+    // reviewed it and did not write it. Without one, the review stays pending and the editors are told
+    private void reassign(List<Review> overdue) {
+        List<Long> reviewers = directory.queryForList(
+                "SELECT user_id FROM journal_memberships WHERE journal_id = ? AND role = ?",
+                Long.class, JournalContext.currentJournalId(), UserRole.REVIEWER.name());
+        Map<Long, Long> pending = new HashMap<>();
+        reviewers.forEach(reviewerId -> pending.put(reviewerId, 0L));
+        for (Object[] row : reviewRepository.countByReviewerAndStatus(ReviewStatus.PENDING)) {
+            pending.computeIfPresent((Long) row[0], (reviewerId, count) -> (Long) row[1]);
+        }
+        Map<Long, Set<Long>> excluded = new HashMap<>();
+        for (Object[] row : reviewRepository.findReviewerIdsByPaperIds(
+                overdue.stream().map(review -> review.getPaper().getId()).collect(Collectors.toSet()))) {
+            excluded.computeIfAbsent((Long) row[0], paperId -> new HashSet<>()).add((Long) row[1]);
+        }
+
+        LocalDateTime dueAt = LocalDateTime.now().plusDays(defaultDeadlineDays);
+        for (Review review : overdue) {
+            Long paperId = review.getPaper().getId();
+            Long authorId = review.getPaper().getAuthor().getId();
+            Set<Long> ineligible = excluded.computeIfAbsent(paperId, id -> new HashSet<>());
+            Long replacement = pending.entrySet().stream()
+                    .filter(candidate -> !ineligible.contains(candidate.getKey()) && !candidate.getKey().equals(authorId))
+                    .min(Map.Entry.<Long, Long>comparingByValue().thenComparing(Map.Entry.<Long, Long>comparingByKey()))
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+            if (replacement == null) {
+                outboxService.record(OutboxEventType.REVIEW_OVERDUE, review.getReviewer().getId(), UserRole.EDITOR,
+                        payload(review));
+                continue;
+            }
+
+            decline(review);
+            Review assigned = reviewRepository.save(Review.builder()
+                    .paper(review.getPaper())
+                    .reviewer(userRepository.getReferenceById(replacement))
+                    .status(ReviewStatus.PENDING)
+                    .dueAt(dueAt)
+                    .build());
+            pending.merge(replacement, 1L, Long::sum);
+            ineligible.add(replacement);
+            meterRegistry.counter("journal.review.status.transitions",
+                    "from", "NONE", "to", ReviewStatus.PENDING.name()).increment();
+            outboxService.record(OutboxEventType.REVIEW_ASSIGNED, replacement, null, payload(assigned));
+            outboxService.record(OutboxEventType.REVIEW_OVERDUE, null, UserRole.EDITOR,
+                    Map.of("paperId", paperId, "reviewId", review.getId(), "dueAt", review.getDueAt(),
+                            "reassignedTo", assigned.getId()));
+            auditLog.record(AuditAction.REVIEW_ASSIGNED, assigned.getId(),
+                    Map.of("paperId", paperId, "replaces", review.getId()));
+        }
+    }
+
+    private static Map<String, Object> payload(Review review) {
+        return Map.of("paperId", review.getPaper().getId(), "reviewId", review.getId(), "dueAt", review.getDueAt());
+    }
+
+    private record Claim(long reviewId, LocalDateTime dueAt) {
+    }
+}
@@ -1,6 +1,10 @@
 package com.research.journal.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.research.journal.audit.AuditLog;
 import com.research.journal.dto.ReviewDTO;
+import com.research.journal.entity.AuditAction;
+import com.research.journal.entity.OutboxEventType;
 import com.research.journal.entity.Paper;
 import com.research.journal.entity.Review;
 import com.research.journal.entity.ReviewStatus;
@@ -8,20 +12,35 @@ import com.research.journal.entity.User;
 import com.research.journal.repository.PaperRepository;
 import com.research.journal.repository.ReviewRepository;
 import com.research.journal.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "journal.service", histogram = true)
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final PaperRepository paperRepository;
     private final UserRepository userRepository;
+    private final OutboxService outboxService;
+    private final MeterRegistry meterRegistry;
+    private final SingleFlight singleFlight;
+    private final FieldProjection fieldProjection;
+    private final AuditLog auditLog;
+
+    // Deadline given to a review when it becomes pending without one
+    @Value("${journal.review-deadlines.default-days:14}")
+    private int defaultDeadlineDays;
 
     public ReviewDTO submitReview(Long paperId, Long reviewerId, String comments,
                                   Integer overallRating, Integer technicalQualityRating,
@@ -47,51 +66,113 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        singleFlight.invalidate(SingleFlight.PAPER_REVIEWS, paperId);
+        meterRegistry.counter("journal.review.status.transitions",
+                "from", "NONE", "to", ReviewStatus.SUBMITTED.name()).increment();
+        outboxService.record(OutboxEventType.REVIEW_SUBMITTED, paper.getAuthor().getId(), null,
+                Map.of("paperId", paperId, "reviewId", savedReview.getId(), "status", savedReview.getStatus()));
+        auditLog.record(AuditAction.REVIEW_SUBMITTED, savedReview.getId(), Map.of("paperId", paperId));
         return convertToDTO(savedReview);
     }
 
+    @Transactional(readOnly = true)
     public ReviewDTO getReviewById(Long id) {
         Review review = reviewRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Review not found"));
         return convertToDTO(review);
     }
 
+    @Transactional(readOnly = true)
     public List<ReviewDTO> getReviewsByPaper(Long paperId) {
         return reviewRepository.findByPaperId(paperId).stream()
                 .map(this::convertToDTO)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<ReviewDTO> getReviewsByReviewer(Long reviewerId) {
         return reviewRepository.findByReviewerId(reviewerId).stream()
                 .map(this::convertToDTO)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<ReviewDTO> getPendingReviewsForReviewer(Long reviewerId) {
         return reviewRepository.findByReviewerIdAndStatus(reviewerId, ReviewStatus.PENDING).stream()
                 .map(this::convertToDTO)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public Map<String, Object> getReviewFields(Long id, FieldProjection.Fields fields) {
+        Map<String, Object> review = fieldProjection.findOne(fields, "WHERE e.id = :id", Map.of("id", id));
+        if (review == null) {
+            throw new RuntimeException("Review not found");
+        }
+        return review;
+    }
+
+    @Transactional(readOnly = true)
+    public void writeReviewFieldsByPaper(Long paperId, FieldProjection.Fields fields, JsonGenerator generator) throws IOException {
+        fieldProjection.writeAll(fields, "WHERE e.paper.id = :paperId", Map.of("paperId", paperId), generator);
+    }
+
+    @Transactional(readOnly = true)
+    public void writeReviewFieldsByReviewer(Long reviewerId, FieldProjection.Fields fields, JsonGenerator generator) throws IOException {
+        fieldProjection.writeAll(fields, "WHERE e.reviewer.id = :reviewerId", Map.of("reviewerId", reviewerId), generator);
+    }
+
+    @Transactional(readOnly = true)
+    public void writePendingReviewFieldsForReviewer(Long reviewerId, FieldProjection.Fields fields, JsonGenerator generator) throws IOException {
+        fieldProjection.writeAll(fields, "WHERE e.reviewer.id = :reviewerId AND e.status = :status",
+                Map.of("reviewerId", reviewerId, "status", ReviewStatus.PENDING), generator);
+    }
+
     public ReviewDTO updateReviewStatus(Long reviewId, ReviewStatus newStatus) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new RuntimeException("Review not found"));
 
+        ReviewStatus oldStatus = review.getStatus();
+        meterRegistry.counter("journal.review.status.transitions",
+                "from", oldStatus.name(), "to", newStatus.name()).increment();
         review.setStatus(newStatus);
+        if (newStatus == ReviewStatus.PENDING && review.getDueAt() == null) {
+            review.setDueAt(LocalDateTime.now().plusDays(defaultDeadlineDays));
+        }
 
         Review updatedReview = reviewRepository.save(review);
+        singleFlight.invalidate(SingleFlight.PAPER_REVIEWS, review.getPaper().getId());
+        outboxService.record(OutboxEventType.REVIEW_STATUS_CHANGED, review.getReviewer().getId(), null,
+                Map.of("paperId", review.getPaper().getId(), "reviewId", reviewId, "status", newStatus));
+        auditLog.record(AuditAction.REVIEW_STATUS_CHANGED, reviewId, Map.of("from", oldStatus, "to", newStatus));
         return convertToDTO(updatedReview);
     }
 
-    public void deleteReview(Long reviewId) {
-        if (!reviewRepository.existsById(reviewId)) {
-            throw new RuntimeException("Review not found");
+    public ReviewDTO setDeadline(Long reviewId, LocalDateTime dueAt) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new RuntimeException("Review not found"));
+        if (review.getStatus() != ReviewStatus.PENDING) {
+            throw new IllegalArgumentException("Only pending reviews have a deadline");
         }
-        reviewRepository.deleteById(reviewId);
+        LocalDateTime previous = review.getDueAt();
+        review.setDueAt(dueAt);
+
+        Review updatedReview = reviewRepository.save(review);
+        singleFlight.invalidate(SingleFlight.PAPER_REVIEWS, review.getPaper().getId());
+        auditLog.record(AuditAction.REVIEW_DEADLINE_SET, reviewId,
+                previous == null ? Map.of("to", dueAt) : Map.of("from", previous, "to", dueAt));
+        return convertToDTO(updatedReview);
+    }
+
+    public void deleteReview(Long reviewId) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new RuntimeException("Review not found"));
+        reviewRepository.delete(review);
+        singleFlight.invalidate(SingleFlight.PAPER_REVIEWS, review.getPaper().getId());
+        auditLog.record(AuditAction.REVIEW_DELETED, reviewId, Map.of("paperId", review.getPaper().getId()));
     }
 
-    private ReviewDTO convertToDTO(Review review) {
+    ReviewDTO convertToDTO(Review review) {
         return ReviewDTO.builder()
                 .id(review.getId())
                 .status(review.getStatus())
@@ -102,6 +183,7 @@ public class ReviewService {
                 .originalityRating(review.getOriginalityRating())
                 .significanceRating(review.getSignificanceRating())
                 .submittedAt(review.getSubmittedAt())
+                .dueAt(review.getDueAt())
                 .createdAt(review.getCreatedAt())
                 .updatedAt(review.getUpdatedAt())
                 .build();
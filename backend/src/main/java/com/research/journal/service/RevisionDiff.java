@@ -0,0 +1,165 @@
+package com.research.journal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Diff between two revisions of a paper. Immutable, so one instance is cached and rendered
+ * for any number of requests, as structured JSON or as a unified diff.
+ */
+public class RevisionDiff {
+
+    private final Long paperId;
+    private final Revision from;
+    private final Revision to;
+    private final String granularity;
+    private final String[] fromUnits;
+    private final String[] toUnits;
+    private final List<LineDiff.Block> blocks;
+    private final long estimatedBytes;
+
+    public record Revision(Long id, Integer revisionNumber) {
+    }
+
+    RevisionDiff(Long paperId, Revision from, Revision to, String granularity,
+                 String[] fromUnits, String[] toUnits, List<LineDiff.Block> blocks) {
+        this.paperId = paperId;
+        this.from = from;
+        this.to = to;
+        this.granularity = granularity;
+        this.fromUnits = fromUnits;
+        this.toUnits = toUnits;
+        this.blocks = blocks;
+        this.estimatedBytes = estimateBytes(fromUnits) + estimateBytes(toUnits) + 32L * blocks.size();
+    }
+
+    /** Rough heap footprint, dominated by the split units kept to render context lines. */
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    // Object, array headers and a reference per unit, plus one byte per (Latin-1) character
+    private static long estimateBytes(String[] units) {
+        long bytes = 16;
+        for (String unit : units) {
+            bytes += 48 + unit.length();
+        }
+        return bytes;
+    }
+
+    public void writeJson(JsonGenerator json, int context) throws IOException {
+        int removed = 0;
+        int added = 0;
+        for (LineDiff.Block block : blocks) {
+            removed += block.fromEnd() - block.fromStart();
+            added += block.toEnd() - block.toStart();
+        }
+        json.writeStartObject();
+        json.writeNumberField("paperId", paperId);
+        json.writeNumberField("fromRevision", from.revisionNumber());
+        json.writeNumberField("toRevision", to.revisionNumber());
+        json.writeNumberField("fromRevisionId", from.id());
+        json.writeNumberField("toRevisionId", to.id());
+        json.writeStringField("granularity", granularity);
+        json.writeNumberField("removed", removed);
+        json.writeNumberField("added", added);
+        json.writeArrayFieldStart("hunks");
+        for (Hunk hunk : hunks(context)) {
+            json.writeStartObject();
+            json.writeNumberField("fromStart", hunk.fromStart() + 1);
+            json.writeNumberField("fromCount", hunk.fromEnd() - hunk.fromStart());
+            json.writeNumberField("toStart", hunk.toStart() + 1);
+            json.writeNumberField("toCount", hunk.toEnd() - hunk.toStart());
+            json.writeArrayFieldStart("lines");
+            forEachLine(hunk, (op, text) -> {
+                json.writeStartObject();
+                json.writeStringField("op", op == ' ' ? "equal" : op == '-' ? "delete" : "insert");
+                json.writeStringField("text", text);
+                json.writeEndObject();
+            });
+            json.writeEndArray();
+            json.writeEndObject();
+            json.flush();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.flush();
+    }
+
+    public void writeUnified(OutputStream out, int context) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write("--- paper " + paperId + " revision " + from.revisionNumber() + "\n");
+        writer.write("+++ paper " + paperId + " revision " + to.revisionNumber() + "\n");
+        for (Hunk hunk : hunks(context)) {
+            writer.write("@@ -" + range(hunk.fromStart(), hunk.fromEnd()) + " +" + range(hunk.toStart(), hunk.toEnd()) + " @@\n");
+            forEachLine(hunk, (op, text) -> {
+                writer.write(op);
+                writer.write(text);
+                writer.write('\n');
+            });
+        }
+        writer.flush();
+    }
+
+    private static String range(int start, int end) {
+        int count = end - start;
+        // Unified diff convention: an empty range names the unit before it
+        return (count == 0 ? start : start + 1) + "," + count;
+    }
+
+    /** Groups blocks separated by at most 2 * context unchanged units into one hunk. */
+    private List<Hunk> hunks(int requestedContext) {
+        // Context past the longer side adds nothing, and capping it keeps 2 * context from overflowing
+        int context = Math.min(Math.max(0, requestedContext), Math.max(fromUnits.length, toUnits.length));
+        List<Hunk> hunks = new ArrayList<>();
+        int next = 0;
+        while (next < blocks.size()) {
+            int first = next;
+            int last = next++;
+            while (next < blocks.size() && blocks.get(next).fromStart() - blocks.get(last).fromEnd() <= 2 * context) {
+                last = next++;
+            }
+            LineDiff.Block head = blocks.get(first);
+            LineDiff.Block tail = blocks.get(last);
+            hunks.add(new Hunk(
+                    Math.max(0, head.fromStart() - context), Math.min(fromUnits.length, tail.fromEnd() + context),
+                    Math.max(0, head.toStart() - context), Math.min(toUnits.length, tail.toEnd() + context),
+                    first, last));
+        }
+        return hunks;
+    }
+
+    private void forEachLine(Hunk hunk, LineConsumer consumer) throws IOException {
+        int position = hunk.fromStart();
+        for (int i = hunk.firstBlock(); i <= hunk.lastBlock(); i++) {
+            LineDiff.Block block = blocks.get(i);
+            for (; position < block.fromStart(); position++) {
+                consumer.accept(' ', fromUnits[position]);
+            }
+            for (int j = block.fromStart(); j < block.fromEnd(); j++) {
+                consumer.accept('-', fromUnits[j]);
+            }
+            for (int j = block.toStart(); j < block.toEnd(); j++) {
+                consumer.accept('+', toUnits[j]);
+            }
+            position = block.fromEnd();
+        }
+        for (; position < hunk.fromEnd(); position++) {
+            consumer.accept(' ', fromUnits[position]);
+        }
+    }
+
+    private record Hunk(int fromStart, int fromEnd, int toStart, int toEnd, int firstBlock, int lastBlock) {
+    }
+
+    @FunctionalInterface
+    private interface LineConsumer {
+        void accept(char op, String text) throws IOException;
+    }
+}
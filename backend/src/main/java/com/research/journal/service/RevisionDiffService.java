@@ -0,0 +1,102 @@
+package com.research.journal.service;
+
+import com.research.journal.entity.Revision;
+import com.research.journal.repository.RevisionRepository;
+import com.research.journal.tenancy.JournalContext;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(value = "journal.service", histogram = true)
+public class RevisionDiffService {
+
+    private static final Pattern LINE_BREAK = Pattern.compile("\\R");
+    private static final Pattern SENTENCE_BREAK = Pattern.compile("(?<=[.!?])\\s+|\\R");
+
+    private final RevisionRepository revisionRepository;
+
+    @Value("${journal.revision-diff.cache-max-mb:64}")
+    private long cacheMaxMb;
+
+    // Revisions are never edited, so a diff keyed by revision ids stays valid until evicted.
+    // Least recently used first; bounded by the estimated size of the diffs, not their number,
+    // since one holds both revisions' text. Guarded by itself
+    private final Map<DiffKey, RevisionDiff> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cacheMaxBytes;
+    private long cachedBytes;
+
+    // Revision ids are only unique within a shard, so the journal is part of the key
+    private record DiffKey(Long journalId, Long fromId, Long toId, String granularity) {
+    }
+
+    @PostConstruct
+    void initCache() {
+        cacheMaxBytes = cacheMaxMb * 1024 * 1024;
+    }
+
+    public RevisionDiff getDiff(Long paperId, Integer fromNumber, Integer toNumber, String granularity) {
+        Pattern separator = switch (granularity) {
+            case "line" -> LINE_BREAK;
+            case "sentence" -> SENTENCE_BREAK;
+            default -> throw new IllegalArgumentException("Invalid granularity: " + granularity);
+        };
+        Long fromId = revisionRepository.findIdByPaperIdAndRevisionNumber(paperId, fromNumber)
+                .orElseThrow(() -> new RuntimeException("Revision not found"));
+        Long toId = revisionRepository.findIdByPaperIdAndRevisionNumber(paperId, toNumber)
+                .orElseThrow(() -> new RuntimeException("Revision not found"));
+
+        DiffKey key = new DiffKey(JournalContext.currentJournalId(), fromId, toId, granularity);
+        RevisionDiff diff;
+        synchronized (cache) {
+            diff = cache.get(key);
+        }
+        if (diff != null) {
+            return diff;
+        }
+
+        Revision from = revisionRepository.findById(fromId)
+                .orElseThrow(() -> new RuntimeException("Revision not found"));
+        Revision to = revisionRepository.findById(toId)
+                .orElseThrow(() -> new RuntimeException("Revision not found"));
+        String[] fromUnits = split(from.getContent(), separator);
+        String[] toUnits = split(to.getContent(), separator);
+        diff = new RevisionDiff(paperId,
+                new RevisionDiff.Revision(fromId, fromNumber), new RevisionDiff.Revision(toId, toNumber),
+                granularity, fromUnits, toUnits, LineDiff.diff(fromUnits, toUnits));
+        cache(key, diff);
+        return diff;
+    }
+
+    // A diff bigger than the whole cache is served but not kept
+    private void cache(DiffKey key, RevisionDiff diff) {
+        if (diff.estimatedBytes() > cacheMaxBytes) {
+            return;
+        }
+        synchronized (cache) {
+            RevisionDiff previous = cache.put(key, diff);
+            cachedBytes += diff.estimatedBytes() - (previous != null ? previous.estimatedBytes() : 0);
+            Iterator<RevisionDiff> eldest = cache.values().iterator();
+            while (cachedBytes > cacheMaxBytes) {
+                cachedBytes -= eldest.next().estimatedBytes();
+                eldest.remove();
+            }
+        }
+    }
+
+    private static String[] split(String content, Pattern separator) {
+        if (content == null || content.isEmpty()) {
+            return new String[0];
+        }
+        return separator.split(content);
+    }
+}
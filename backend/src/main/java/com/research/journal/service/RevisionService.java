@@ -1,23 +1,34 @@
 package com.research.journal.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.research.journal.audit.AuditLog;
 import com.research.journal.dto.RevisionDTO;
+import com.research.journal.entity.AuditAction;
 import com.research.journal.entity.Paper;
 import com.research.journal.entity.Revision;
 import com.research.journal.repository.PaperRepository;
 import com.research.journal.repository.RevisionRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "journal.service", histogram = true)
 public class RevisionService {
 
     private final RevisionRepository revisionRepository;
     private final PaperRepository paperRepository;
+    private final SingleFlight singleFlight;
+    private final ProcessingJobService processingJobService;
+    private final FieldProjection fieldProjection;
+    private final AuditLog auditLog;
 
     public RevisionDTO submitRevision(Long paperId, String content, String changesSummary) {
         Paper paper = paperRepository.findById(paperId)
@@ -40,35 +51,64 @@ public class RevisionService {
                 .build();
 
         Revision savedRevision = revisionRepository.save(revision);
-        return convertToDTO(savedRevision);
+        singleFlight.invalidate(SingleFlight.PAPER_REVISIONS, paperId);
+        auditLog.record(AuditAction.REVISION_SUBMITTED, savedRevision.getId(),
+                Map.of("paperId", paperId, "revisionNumber", nextRevisionNumber));
+        RevisionDTO revisionDTO = convertToDTO(savedRevision);
+        revisionDTO.setProcessingJobId(processingJobService.enqueue(paperId, savedRevision.getId()));
+        return revisionDTO;
     }
 
+    @Transactional(readOnly = true)
     public RevisionDTO getRevisionById(Long id) {
         Revision revision = revisionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Revision not found"));
         return convertToDTO(revision);
     }
 
+    @Transactional(readOnly = true)
     public List<RevisionDTO> getRevisionsByPaper(Long paperId) {
         return revisionRepository.findByPaperId(paperId).stream()
                 .map(this::convertToDTO)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<RevisionDTO> getRevisionsByPaperOrderedByVersion(Long paperId) {
         return revisionRepository.findByPaperIdOrderByRevisionNumberDesc(paperId).stream()
                 .map(this::convertToDTO)
                 .toList();
     }
 
-    public void deleteRevision(Long revisionId) {
-        if (!revisionRepository.existsById(revisionId)) {
+    @Transactional(readOnly = true)
+    public Map<String, Object> getRevisionFields(Long id, FieldProjection.Fields fields) {
+        Map<String, Object> revision = fieldProjection.findOne(fields, "WHERE e.id = :id", Map.of("id", id));
+        if (revision == null) {
             throw new RuntimeException("Revision not found");
         }
-        revisionRepository.deleteById(revisionId);
+        return revision;
+    }
+
+    @Transactional(readOnly = true)
+    public void writeRevisionFieldsByPaper(Long paperId, FieldProjection.Fields fields, JsonGenerator generator) throws IOException {
+        fieldProjection.writeAll(fields, "WHERE e.paper.id = :paperId", Map.of("paperId", paperId), generator);
+    }
+
+    @Transactional(readOnly = true)
+    public void writeRevisionFieldsByPaperOrderedByVersion(Long paperId, FieldProjection.Fields fields, JsonGenerator generator) throws IOException {
+        fieldProjection.writeAll(fields, "WHERE e.paper.id = :paperId ORDER BY e.revisionNumber DESC",
+                Map.of("paperId", paperId), generator);
+    }
+
+    public void deleteRevision(Long revisionId) {
+        Revision revision = revisionRepository.findById(revisionId)
+                .orElseThrow(() -> new RuntimeException("Revision not found"));
+        revisionRepository.delete(revision);
+        singleFlight.invalidate(SingleFlight.PAPER_REVISIONS, revision.getPaper().getId());
+        auditLog.record(AuditAction.REVISION_DELETED, revisionId, Map.of("paperId", revision.getPaper().getId()));
     }
 
-    private RevisionDTO convertToDTO(Revision revision) {
+    RevisionDTO convertToDTO(Revision revision) {
         return RevisionDTO.builder()
                 .id(revision.getId())
                 .revisionNumber(revision.getRevisionNumber())
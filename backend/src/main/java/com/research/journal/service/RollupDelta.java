@@ -0,0 +1,111 @@
+package com.research.journal.service;
+
+import com.research.journal.entity.AnalyticsRollup;
+import com.research.journal.entity.RollupGranularity;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+/**
+ * Counts and latency sketches of one bucket, accumulated in memory: changes not yet written to
+ * a rollup row, a row being rebuilt, or rows merged for a query.
+ */
+final class RollupDelta {
+
+    record Key(Long journalId, RollupGranularity granularity, LocalDateTime bucketStart) {
+    }
+
+    private long submissions;
+    private long accepted;
+    private long rejected;
+    private long reviewsSubmitted;
+    private final LatencySketch timeToAccept = LatencySketch.empty();
+    private final LatencySketch timeToReject = LatencySketch.empty();
+
+    /** The delta of the bucket of the given granularity that {@code at} falls in. */
+    static RollupDelta in(Map<Key, RollupDelta> deltas, Long journalId, RollupGranularity granularity,
+                          LocalDateTime at) {
+        LocalDateTime bucketStart = at.truncatedTo(granularity == RollupGranularity.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS);
+        return deltas.computeIfAbsent(new Key(journalId, granularity, bucketStart), key -> new RollupDelta());
+    }
+
+    void addSubmission() {
+        submissions++;
+    }
+
+    void addAcceptance(LocalDateTime submittedAt, LocalDateTime acceptedAt) {
+        accepted++;
+        timeToAccept.record(Duration.between(submittedAt, acceptedAt));
+    }
+
+    void addRejection(LocalDateTime submittedAt, LocalDateTime rejectedAt) {
+        rejected++;
+        timeToReject.record(Duration.between(submittedAt, rejectedAt));
+    }
+
+    void addReview() {
+        reviewsSubmitted++;
+    }
+
+    RollupDelta add(AnalyticsRollup row) {
+        submissions += row.getSubmissions();
+        accepted += row.getAccepted();
+        rejected += row.getRejected();
+        reviewsSubmitted += row.getReviewsSubmitted();
+        if (row.getTimeToAccept() != null) {
+            timeToAccept.merge(LatencySketch.fromBytes(row.getTimeToAccept()));
+        }
+        if (row.getTimeToReject() != null) {
+            timeToReject.merge(LatencySketch.fromBytes(row.getTimeToReject()));
+        }
+        return this;
+    }
+
+    void applyTo(AnalyticsRollup row) {
+        row.setSubmissions(row.getSubmissions() + submissions);
+        row.setAccepted(row.getAccepted() + accepted);
+        row.setRejected(row.getRejected() + rejected);
+        row.setReviewsSubmitted(row.getReviewsSubmitted() + reviewsSubmitted);
+        if (timeToAccept.count() > 0) {
+            row.setTimeToAccept(LatencySketch.fromBytes(row.getTimeToAccept()).merge(timeToAccept).toBytes());
+        }
+        if (timeToReject.count() > 0) {
+            row.setTimeToReject(LatencySketch.fromBytes(row.getTimeToReject()).merge(timeToReject).toBytes());
+        }
+    }
+
+    AnalyticsRollup toRow(Key key) {
+        AnalyticsRollup row = AnalyticsRollup.builder()
+                .journalId(key.journalId())
+                .granularity(key.granularity())
+                .bucketStart(key.bucketStart())
+                .build();
+        applyTo(row);
+        return row;
+    }
+
+    long submissions() {
+        return submissions;
+    }
+
+    long accepted() {
+        return accepted;
+    }
+
+    long rejected() {
+        return rejected;
+    }
+
+    long reviewsSubmitted() {
+        return reviewsSubmitted;
+    }
+
+    LatencySketch timeToAccept() {
+        return timeToAccept;
+    }
+
+    LatencySketch timeToReject() {
+        return timeToReject;
+    }
+}
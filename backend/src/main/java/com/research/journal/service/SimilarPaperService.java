@@ -0,0 +1,252 @@
+package com.research.journal.service;
+
+import com.research.journal.dto.SimilarPaperDTO;
+import com.research.journal.entity.Paper;
+import com.research.journal.entity.PaperStatus;
+import com.research.journal.repository.PaperRepository;
+import com.research.journal.tenancy.JournalContext;
+import com.research.journal.tenancy.ShardRegistry;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Finds a journal's papers most like a given one, by cosine similarity of TF-IDF vectors over
+ * the title and abstract. Words and adjacent word pairs are hashed into {@code dimensions}
+ * buckets, title terms counting twice.
+ *
+ * The vectors are rebuilt from every shard every {@code rebuild-interval-ms}, which also
+ * refreshes the document frequencies and drops deleted papers. In between, the INDEXING stage
+ * of the processing pipeline re-indexes papers as they are submitted and revised, once the
+ * stage's transaction commits. Until the first rebuild finishes, no paper has any matches.
+ */
+@Service
+@Timed(value = "journal.service", histogram = true)
+public class SimilarPaperService {
+
+    public static final int MAX_K = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarPaperService.class);
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "by", "for",
+            "from", "has", "in", "is", "it", "its", "of", "on", "or", "that", "the", "this", "to", "was", "we",
+            "were", "which", "with");
+
+    private final PaperRepository paperRepository;
+    private final ShardRegistry shardRegistry;
+    private final int dimensions;
+    private final int parallelism;
+    private final ExecutorService scanners;
+    private volatile Map<Long, SimilarityIndex> indexes = new ConcurrentHashMap<>();
+    // Papers indexed while a rebuild runs, replayed onto the rebuilt indexes
+    private List<Document> indexedDuringRebuild;
+
+    public SimilarPaperService(PaperRepository paperRepository,
+                               ShardRegistry shardRegistry,
+                               MeterRegistry meterRegistry,
+                               @Value("${journal.similarity.dimensions:256}") int dimensions,
+                               @Value("${journal.similarity.parallelism:4}") int parallelism) {
+        if (Integer.bitCount(dimensions) != 1) {
+            throw new IllegalArgumentException("journal.similarity.dimensions must be a power of two");
+        }
+        this.paperRepository = paperRepository;
+        this.shardRegistry = shardRegistry;
+        this.dimensions = dimensions;
+        this.parallelism = parallelism;
+        this.scanners = Executors.newFixedThreadPool(parallelism);
+        Gauge.builder("journal.similarity.papers", this,
+                        service -> service.indexes.values().stream().mapToInt(SimilarityIndex::papers).sum())
+                .description("Papers in the similarity index")
+                .register(meterRegistry);
+        Gauge.builder("journal.similarity.bytes", this,
+                        service -> service.indexes.values().stream().mapToLong(SimilarityIndex::sizeInBytes).sum())
+                .description("Off-heap memory held by the similarity vectors")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scanners.shutdownNow();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SimilarPaperDTO> findSimilar(Long paperId, int k) {
+        if (k < 1 || k > MAX_K) {
+            throw new IllegalArgumentException("k must be between 1 and " + MAX_K);
+        }
+        SimilarityIndex index = indexes.get(JournalContext.currentJournalId());
+        if (index == null) {
+            return List.of();
+        }
+        float[] query = index.vector(paperId);
+        if (query == null) {
+            Paper paper = paperRepository.findById(paperId)
+                    .orElseThrow(() -> new RuntimeException("Paper not found"));
+            query = index.weigh(termFrequencies(paper.getTitle(), paper.getAbstractText()));
+        }
+
+        // Asks for more than k, since papers deleted since the last rebuild are still in the index
+        List<SimilarityIndex.Match> matches;
+        try {
+            matches = index.topK(query, k + k / 2 + 5, paperId, scanners, parallelism);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while finding similar papers", e);
+        }
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Object[]> summaries = new HashMap<>();
+        for (Object[] row : paperRepository.findSummariesByIds(matches.stream().map(SimilarityIndex.Match::paperId).toList())) {
+            summaries.put((Long) row[0], row);
+        }
+
+        List<SimilarPaperDTO> similar = new ArrayList<>(k);
+        for (SimilarityIndex.Match match : matches) {
+            Object[] summary = summaries.get(match.paperId());
+            if (summary == null) {
+                index.remove(match.paperId());
+                continue;
+            }
+            if (similar.size() < k) {
+                similar.add(SimilarPaperDTO.builder()
+                        .paperId(match.paperId())
+                        .title((String) summary[1])
+                        .status((PaperStatus) summary[2])
+                        .submittedAt((LocalDateTime) summary[3])
+                        .score(match.score())
+                        .build());
+            }
+        }
+        return similar;
+    }
+
+    /** Re-indexes the papers once the current transaction commits, or right away outside one. */
+    public void indexAfterCommit(List<Paper> papers) {
+        List<Document> documents = papers.stream()
+                .map(paper -> new Document(paper.getJournalId(), paper.getId(), paper.getTitle(), paper.getAbstractText()))
+                .toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index(documents);
+                }
+            });
+        } else {
+            index(documents);
+        }
+    }
+
+    private synchronized void index(List<Document> documents) {
+        if (indexedDuringRebuild != null) {
+            indexedDuringRebuild.addAll(documents);
+        }
+        for (Document document : documents) {
+            indexes.computeIfAbsent(document.journalId(), id -> new SimilarityIndex(dimensions))
+                    .put(document.paperId(), termFrequencies(document.title(), document.abstractText()));
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${journal.similarity.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        synchronized (this) {
+            indexedDuringRebuild = new ArrayList<>();
+        }
+        Map<Long, SimilarityIndex> rebuilt = new ConcurrentHashMap<>();
+        try {
+            for (int shard = 0; shard < shardRegistry.size(); shard++) {
+                int current = shard;
+                JdbcTemplate papers = new JdbcTemplate(shardRegistry.shard(shard));
+                papers.setFetchSize(1000);
+                papers.query("SELECT id, journal_id, title, abstract_text FROM papers", row -> {
+                    long journalId = row.getLong(2);
+                    // Skips the copy a journal leaves behind while it moves to another shard
+                    if (shardRegistry.shardOf(journalId) == current) {
+                        rebuilt.computeIfAbsent(journalId, id -> new SimilarityIndex(dimensions))
+                                .addUnweighted(row.getLong(1), termFrequencies(row.getString(3), row.getString(4)));
+                    }
+                });
+            }
+            rebuilt.values().forEach(SimilarityIndex::finishBuild);
+            synchronized (this) {
+                indexes = rebuilt;
+                List<Document> missed = indexedDuringRebuild;
+                indexedDuringRebuild = null;
+                index(missed);
+            }
+            log.info("Rebuilt similarity index over {} papers in {} ms",
+                    rebuilt.values().stream().mapToInt(SimilarityIndex::papers).sum(),
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                indexedDuringRebuild = null;
+            }
+            log.warn("Could not rebuild similarity index", e);
+        }
+    }
+
+    float[] termFrequencies(String title, String abstractText) {
+        float[] counts = new float[dimensions];
+        addTerms(counts, title, 2);
+        addTerms(counts, abstractText, 1);
+        for (int i = 0; i < dimensions; i++) {
+            if (counts[i] > 0) {
+                counts[i] = (float) (1 + Math.log(counts[i]));
+            }
+        }
+        return counts;
+    }
+
+    private void addTerms(float[] counts, String text, int weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String previous = null;
+        for (String word : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.length() < 2 || STOP_WORDS.contains(word)) {
+                continue;
+            }
+            counts[bucket(word)] += weight;
+            if (previous != null) {
+                counts[bucket(previous + ' ' + word)] += weight;
+            }
+            previous = word;
+        }
+    }
+
+    private int bucket(String term) {
+        int hash = term.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash & (dimensions - 1);
+    }
+
+    private record Document(Long journalId, Long paperId, String title, String abstractText) {
+    }
+}
@@ -0,0 +1,306 @@
+package com.research.journal.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * TF-IDF vectors of one journal's papers in a row-major float matrix held off-heap, in chunks
+ * of {@link #ROWS_PER_CHUNK} rows. Rows are unit length, so cosine similarity is a dot product.
+ *
+ * Writers are serialized; readers never lock. A row is written before the size that covers it
+ * is published, and the chunk and id arrays only grow, so a reader sees every row below the
+ * size it read. A paper whose row is rewritten while a query scans it may score against a mix
+ * of its old and new vector for that one query.
+ */
+final class SimilarityIndex {
+
+    static final int ROWS_PER_CHUNK = 16_384;
+    private static final int MIN_ROWS_PER_TASK = 8_192;
+    private static final long REMOVED = 0;
+
+    private final int dimensions;
+    private final int[] documentFrequency;
+    private final Map<Long, Integer> rows = new ConcurrentHashMap<>();
+    private volatile FloatBuffer[] chunks = new FloatBuffer[0];
+    private volatile long[] paperIds = new long[0];
+    private volatile int size;
+    private int documents;
+
+    SimilarityIndex(int dimensions) {
+        this.dimensions = dimensions;
+        this.documentFrequency = new int[dimensions];
+    }
+
+    int papers() {
+        return rows.size();
+    }
+
+    long sizeInBytes() {
+        return (long) chunks.length * ROWS_PER_CHUNK * dimensions * Float.BYTES;
+    }
+
+    /** Adds raw term frequencies during a rebuild; {@link #finishBuild} weighs them once all are in. */
+    synchronized void addUnweighted(long paperId, float[] termFrequencies) {
+        countDocument(termFrequencies);
+        write(rows.computeIfAbsent(paperId, id -> append(id)), termFrequencies);
+    }
+
+    synchronized void finishBuild() {
+        float[] idf = inverseDocumentFrequencies();
+        float[] row = new float[dimensions];
+        for (int i = 0; i < size; i++) {
+            read(i, row);
+            write(i, normalize(weigh(row, idf)));
+        }
+    }
+
+    /** Adds a paper, or replaces its vector. Document frequencies only count new papers until the next rebuild. */
+    synchronized void put(long paperId, float[] termFrequencies) {
+        Integer row = rows.get(paperId);
+        if (row == null) {
+            countDocument(termFrequencies);
+        }
+        float[] vector = normalize(weigh(termFrequencies.clone(), inverseDocumentFrequencies()));
+        write(row != null ? row : rows.computeIfAbsent(paperId, id -> append(id)), vector);
+    }
+
+    synchronized void remove(long paperId) {
+        Integer row = rows.remove(paperId);
+        if (row != null) {
+            paperIds[row] = REMOVED;
+        }
+    }
+
+    /** The stored vector of the paper, or null if it is not indexed. */
+    float[] vector(long paperId) {
+        Integer row = rows.get(paperId);
+        if (row == null) {
+            return null;
+        }
+        float[] vector = new float[dimensions];
+        read(row, vector);
+        return vector;
+    }
+
+    /** Weighs term frequencies the way stored rows are, for a query paper that is not indexed. */
+    synchronized float[] weigh(float[] termFrequencies) {
+        return normalize(weigh(termFrequencies.clone(), inverseDocumentFrequencies()));
+    }
+
+    /**
+     * The {@code k} papers whose vectors are closest to the query, best first. Row ranges are
+     * scanned in parallel, each keeping its own bounded min-heap, and the heaps are merged.
+     */
+    List<Match> topK(float[] query, int k, long excludePaperId, ExecutorService pool, int parallelism)
+            throws InterruptedException {
+        int rowCount = size;
+        FloatBuffer[] scanned = chunks;
+        long[] ids = paperIds;
+        int tasks = Math.max(1, Math.min(parallelism, rowCount / MIN_ROWS_PER_TASK));
+        int perTask = (rowCount + tasks - 1) / tasks;
+
+        List<Future<TopK>> partials = new ArrayList<>(tasks);
+        for (int task = 1; task < tasks; task++) {
+            int from = task * perTask;
+            int to = Math.min(rowCount, from + perTask);
+            partials.add(pool.submit(() -> scan(query, k, excludePaperId, scanned, ids, from, to)));
+        }
+        TopK merged = scan(query, k, excludePaperId, scanned, ids, 0, Math.min(rowCount, perTask));
+        try {
+            for (Future<TopK> partial : partials) {
+                TopK heap = partial.get();
+                for (int i = 0; i < heap.count; i++) {
+                    merged.offer(heap.paperIds[i], heap.scores[i]);
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Similarity scan failed", e.getCause());
+        } finally {
+            partials.forEach(partial -> partial.cancel(true));
+        }
+        return merged.sorted();
+    }
+
+    private TopK scan(float[] query, int k, long excludePaperId, FloatBuffer[] scanned, long[] ids, int from, int to) {
+        TopK heap = new TopK(k);
+        for (int row = from; row < to; row++) {
+            long paperId = ids[row];
+            if (paperId == REMOVED || paperId == excludePaperId) {
+                continue;
+            }
+            float score = dot(query, scanned[row / ROWS_PER_CHUNK], (row % ROWS_PER_CHUNK) * dimensions);
+            heap.offer(paperId, score);
+        }
+        return heap;
+    }
+
+    // Four independent sums, so the multiply-adds are not one serial dependency chain
+    private static float dot(float[] query, FloatBuffer chunk, int offset) {
+        float s0 = 0;
+        float s1 = 0;
+        float s2 = 0;
+        float s3 = 0;
+        int i = 0;
+        for (; i + 3 < query.length; i += 4) {
+            s0 += query[i] * chunk.get(offset + i);
+            s1 += query[i + 1] * chunk.get(offset + i + 1);
+            s2 += query[i + 2] * chunk.get(offset + i + 2);
+            s3 += query[i + 3] * chunk.get(offset + i + 3);
+        }
+        for (; i < query.length; i++) {
+            s0 += query[i] * chunk.get(offset + i);
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private int append(long paperId) {
+        int row = size;
+        if (row / ROWS_PER_CHUNK >= chunks.length) {
+            FloatBuffer[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+            grown[chunks.length] = ByteBuffer.allocateDirect(ROWS_PER_CHUNK * dimensions * Float.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asFloatBuffer();
+            chunks = grown;
+        }
+        if (row >= paperIds.length) {
+            paperIds = Arrays.copyOf(paperIds, Math.max(ROWS_PER_CHUNK, paperIds.length * 2));
+        }
+        paperIds[row] = paperId;
+        return row;
+    }
+
+    // Publishes the row by moving size past it, after its values are written
+    private void write(int row, float[] vector) {
+        chunks[row / ROWS_PER_CHUNK].put((row % ROWS_PER_CHUNK) * dimensions, vector);
+        if (row >= size) {
+            size = row + 1;
+        }
+    }
+
+    private void read(int row, float[] into) {
+        chunks[row / ROWS_PER_CHUNK].get((row % ROWS_PER_CHUNK) * dimensions, into);
+    }
+
+    private void countDocument(float[] termFrequencies) {
+        documents++;
+        for (int i = 0; i < dimensions; i++) {
+            if (termFrequencies[i] > 0) {
+                documentFrequency[i]++;
+            }
+        }
+    }
+
+    private float[] inverseDocumentFrequencies() {
+        float[] idf = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            idf[i] = (float) (Math.log((documents + 1.0) / (documentFrequency[i] + 1.0)) + 1);
+        }
+        return idf;
+    }
+
+    private static float[] weigh(float[] termFrequencies, float[] idf) {
+        for (int i = 0; i < termFrequencies.length; i++) {
+            termFrequencies[i] *= idf[i];
+        }
+        return termFrequencies;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] *= scale;
+            }
+        }
+        return vector;
+    }
+
+    record Match(long paperId, float score) {
+    }
+
+    // Min-heap on score of the best k seen, in parallel primitive arrays
+    private static final class TopK {
+
+        private final float[] scores;
+        private final long[] paperIds;
+        private int count;
+
+        private TopK(int k) {
+            this.scores = new float[k];
+            this.paperIds = new long[k];
+        }
+
+        private void offer(long paperId, float score) {
+            if (count < scores.length) {
+                scores[count] = score;
+                paperIds[count] = paperId;
+                siftUp(count++);
+            } else if (score > scores[0]) {
+                scores[0] = score;
+                paperIds[0] = paperId;
+                siftDown(0);
+            }
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (scores[parent] <= scores[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < count && scores[left] < scores[smallest]) {
+                    smallest = left;
+                }
+                if (right < count && scores[right] < scores[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            long paperId = paperIds[a];
+            paperIds[a] = paperIds[b];
+            paperIds[b] = paperId;
+        }
+
+        private List<Match> sorted() {
+            List<Match> matches = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                matches.add(new Match(paperIds[i], scores[i]));
+            }
+            matches.sort((a, b) -> Float.compare(b.score(), a.score()));
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.research.journal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.research.journal.tenancy.JournalContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent reads of the same resource: the first caller runs the load and
+ * serializes the result to JSON once, and every caller that arrives before it finishes gets
+ * the same byte array. A finished result is then served as is for the fresh TTL, and for the
+ * stale window after that, where the first hit also starts a single background refresh.
+ * Writes drop the entry after commit.
+ *
+ * Outcomes are counted in {@code journal.singleflight.requests} (tags name, outcome).
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    public static final String PAPER = "paper";
+    public static final String PAPER_REVIEWS = "paper-reviews";
+    public static final String PAPER_REVISIONS = "paper-revisions";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<>();
+    private final ExecutorService refreshers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${journal.single-flight.fresh-ms:0}")
+    private long freshMs;
+
+    @Value("${journal.single-flight.stale-window-ms:0}")
+    private long staleWindowMs;
+
+    @PreDestroy
+    void shutdown() {
+        refreshers.shutdownNow();
+    }
+
+    public byte[] load(String name, Object id, Supplier<?> loader) {
+        Long journalId = JournalContext.currentJournalId();
+        String key = key(name, id);
+        while (true) {
+            Flight flight = flights.get(key);
+            if (flight == null) {
+                Flight own = new Flight();
+                if (flights.putIfAbsent(key, own) == null) {
+                    count(name, "load");
+                    return run(name, key, own, loader);
+                }
+                continue;
+            }
+            if (!flight.result.isDone()) {
+                count(name, "shared");
+                return await(flight);
+            }
+            long age = System.nanoTime() - flight.completedAt;
+            if (!flight.result.isCompletedExceptionally() && age < TimeUnit.MILLISECONDS.toNanos(freshMs)) {
+                count(name, "fresh");
+                return flight.result.join();
+            }
+            if (!flight.result.isCompletedExceptionally()
+                    && age < TimeUnit.MILLISECONDS.toNanos(freshMs + staleWindowMs)) {
+                count(name, "stale");
+                if (flight.refreshing.compareAndSet(false, true)) {
+                    refreshers.execute(() -> JournalContext.runAs(journalId, () -> refresh(key, flight, loader)));
+                }
+                return flight.result.join();
+            }
+            flights.remove(key, flight);
+        }
+    }
+
+    /** Drops the entry once the current transaction commits, or right away outside one. */
+    public void invalidate(String name, Object id) {
+        String key = key(name, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    flights.remove(key);
+                }
+            });
+        } else {
+            flights.remove(key);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${journal.single-flight.sweep-interval-ms:10000}")
+    public void evictExpired() {
+        long cutoff = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(freshMs + staleWindowMs);
+        flights.values().removeIf(flight -> flight.result.isDone() && flight.completedAt - cutoff <= 0);
+    }
+
+    // Scoped to the journal, so a request never shares a load made under another journal
+    private static String key(String name, Object id) {
+        return JournalContext.currentJournalId() + "/" + name + ':' + id;
+    }
+
+    private byte[] run(String name, String key, Flight flight, Supplier<?> loader) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(loader.get());
+            flight.completedAt = System.nanoTime();
+            flight.result.complete(body);
+            if (freshMs + staleWindowMs <= 0) {
+                flights.remove(key, flight);
+            }
+            return body;
+        } catch (JsonProcessingException e) {
+            flights.remove(key, flight);
+            RuntimeException failure = new RuntimeException("Failed to serialize " + name, e);
+            flight.result.completeExceptionally(failure);
+            throw failure;
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void refresh(String key, Flight stale, Supplier<?> loader) {
+        Flight fresh = new Flight();
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(loader.get());
+            fresh.completedAt = System.nanoTime();
+            fresh.result.complete(body);
+            flights.replace(key, stale, fresh);
+        } catch (Exception e) {
+            // Not found any more, or a transient failure: let the next caller load it directly
+            flights.remove(key, stale);
+        }
+    }
+
+    private byte[] await(Flight flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void count(String name, String outcome) {
+        meterRegistry.counter("journal.singleflight.requests", "name", name, "outcome", outcome).increment();
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long completedAt;
+    }
+}
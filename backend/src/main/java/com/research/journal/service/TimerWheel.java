@@ -0,0 +1,152 @@
+package com.research.journal.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timer wheel: {@link #LEVELS} wheels of 64 slots, each slot of a level spanning a
+ * whole turn of the level below. A timer goes in the lowest level whose span reaches its
+ * deadline, so scheduling is O(1) whatever the number of timers. When time reaches a slot of a
+ * higher level, its timers are re-scheduled into the levels below, and level-0 slots fire.
+ * With one-second ticks, six levels reach about two thousand years.
+ *
+ * Slots are intrusive doubly-linked lists, so a timer costs one small node and cancels in O(1).
+ * Not thread-safe on its own; callers synchronize.
+ */
+final class TimerWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 6;
+
+    private final long tickMs;
+    private final Timer<T>[][] slots;
+    private final Timer<T> overdue = sentinel();
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(long tickMs, long nowMs) {
+        this.tickMs = tickMs;
+        this.currentTick = nowMs / tickMs;
+        this.slots = new Timer[LEVELS][SLOTS];
+        for (Timer<T>[] level : slots) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                level[slot] = sentinel();
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Schedules the payload for the tick containing {@code deadlineMs}; past deadlines fire on the next advance. */
+    Timer<T> schedule(long deadlineMs, T payload) {
+        Timer<T> timer = new Timer<>(Math.max(0, deadlineMs) / tickMs, payload);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    void cancel(Timer<T> timer) {
+        if (timer.next != null) {
+            unlink(timer);
+            size--;
+        }
+    }
+
+    /** Moves time forward to {@code nowMs} and returns the payloads of every timer due by then. */
+    List<T> advance(long nowMs) {
+        List<T> due = new ArrayList<>();
+        drain(overdue, due);
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Bring down the higher-level slots that start at this tick, highest first
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (level * SLOT_BITS)) - 1)) == 0) {
+                    Timer<T> head = slots[level][slotIndex(currentTick, level)];
+                    for (Timer<T> timer = head.next; timer != head; ) {
+                        Timer<T> next = timer.next;
+                        unlink(timer);
+                        place(timer);
+                        timer = next;
+                    }
+                }
+            }
+            drain(slots[0][slotIndex(currentTick, 0)], due);
+            drain(overdue, due);
+        }
+        size -= due.size();
+        return due;
+    }
+
+    private void place(Timer<T> timer) {
+        long deadline = timer.deadlineTick;
+        if (deadline <= currentTick) {
+            link(overdue, timer);
+            return;
+        }
+        // The lowest level at which deadline and now agree on every higher digit
+        int level = (63 - Long.numberOfLeadingZeros(deadline ^ currentTick)) / SLOT_BITS;
+        if (level >= LEVELS) {
+            // Beyond the wheel's reach: park in the top slot due last, to be re-placed when it comes round
+            level = LEVELS - 1;
+            link(slots[level][slotIndex(currentTick - 1, level)], timer);
+            return;
+        }
+        link(slots[level][slotIndex(deadline, level)], timer);
+    }
+
+    private void drain(Timer<T> head, List<T> into) {
+        for (Timer<T> timer = head.next; timer != head; ) {
+            Timer<T> next = timer.next;
+            unlink(timer);
+            into.add(timer.payload);
+            timer = next;
+        }
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (level * SLOT_BITS)) & (SLOTS - 1));
+    }
+
+    private static <T> void link(Timer<T> head, Timer<T> timer) {
+        timer.prev = head.prev;
+        timer.next = head;
+        head.prev.next = timer;
+        head.prev = timer;
+    }
+
+    private static <T> void unlink(Timer<T> timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    private static <T> Timer<T> sentinel() {
+        Timer<T> head = new Timer<>(0, null);
+        head.prev = head;
+        head.next = head;
+        return head;
+    }
+
+    static final class Timer<T> {
+
+        private final long deadlineTick;
+        private final T payload;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(long deadlineTick, T payload) {
+            this.deadlineTick = deadlineTick;
+            this.payload = payload;
+        }
+
+        T payload() {
+            return payload;
+        }
+    }
+}
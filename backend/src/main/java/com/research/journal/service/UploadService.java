@@ -0,0 +1,325 @@
+package com.research.journal.service;
+
+import com.research.journal.dto.UploadSessionDTO;
+import com.research.journal.entity.StoredFile;
+import com.research.journal.entity.UploadSession;
+import com.research.journal.entity.UploadStatus;
+import com.research.journal.repository.StoredFileRepository;
+import com.research.journal.repository.UploadSessionRepository;
+import com.research.journal.tenancy.ShardRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Resumable chunked uploads. A client opens a session, PUTs chunks at the offset the server
+ * reports, and completes the session once every byte has arrived. Chunks are streamed
+ * straight from the request into the part file with {@link FileChannel#transferFrom}, so
+ * nothing larger than a socket buffer is held in memory. On completion the file is hashed
+ * and moved to its content address; a file whose hash is already stored is not kept twice.
+ *
+ * Chunk writes and completion deliberately run outside a transaction: they can take seconds
+ * and must not pin a pooled connection while they stream. The offset only moves through a
+ * conditional update, so a duplicated or reordered chunk can never advance a session twice.
+ */
+@Service
+@RequiredArgsConstructor
+public class UploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadService.class);
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+    private static final long TRANSFER_STEP = 1 << 20;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final StoredFileRepository storedFileRepository;
+    private final FileStore fileStore;
+    private final ShardRegistry shardRegistry;
+
+    @Value("${journal.uploads.max-file-size:536870912}")
+    private long maxFileSize;
+
+    @Value("${journal.uploads.max-chunk-size:8388608}")
+    private long maxChunkSize;
+
+    @Value("${journal.uploads.session-ttl-hours:24}")
+    private long sessionTtlHours;
+
+    @Transactional
+    public UploadSessionDTO startUpload(String fileName, String contentType, Long totalSize, String expectedSha256) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("File name is required");
+        }
+        String baseName = baseName(fileName);
+        if (totalSize == null || totalSize <= 0 || totalSize > maxFileSize) {
+            throw new IllegalArgumentException("File size must be between 1 and " + maxFileSize + " bytes");
+        }
+        String expected = normalizeSha256(expectedSha256);
+
+        UploadSession session = UploadSession.builder()
+                .fileName(baseName)
+                .contentType(contentType)
+                .totalSize(totalSize)
+                .receivedBytes(0L)
+                .expectedSha256(expected)
+                .status(UploadStatus.IN_PROGRESS)
+                .expiresAt(LocalDateTime.now().plusHours(sessionTtlHours))
+                .build();
+        UploadSession savedSession = uploadSessionRepository.save(session);
+        try {
+            Files.deleteIfExists(fileStore.partPath(savedSession.getId()));
+            Files.createFile(fileStore.partPath(savedSession.getId()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create upload file", e);
+        }
+        return convertToDTO(savedSession, null, false);
+    }
+
+    @Transactional(readOnly = true)
+    public UploadSessionDTO getUpload(Long id) {
+        UploadSession session = findSession(id);
+        return convertToDTO(session, session.getStoredFile(), false);
+    }
+
+    /**
+     * Appends one chunk at {@code offset}, which must equal the bytes received so far. Bytes a
+     * failed earlier attempt left past that point are overwritten and then cut off, so a client
+     * that lost a response simply asks for the offset and resends.
+     */
+    public UploadSessionDTO writeChunk(Long id, long offset, InputStream body, String chunkSha256) throws IOException {
+        UploadSession session = findSession(id);
+        checkWritable(session, offset);
+        String expected = normalizeSha256(chunkSha256);
+        long limit = Math.min(maxChunkSize, session.getTotalSize() - offset);
+
+        MessageDigest digest = FileStore.sha256();
+        try (FileChannel channel = FileChannel.open(fileStore.partPath(id), StandardOpenOption.WRITE);
+             FileLock lock = tryLock(channel)) {
+            if (lock == null) {
+                throw new IllegalStateException("Another chunk of this upload is being written");
+            }
+            // A writer that held the lock before us may have moved the offset since the read above
+            session = findSession(id);
+            checkWritable(session, offset);
+            ReadableByteChannel source = Channels.newChannel(new DigestInputStream(body, digest));
+            long written = 0;
+            long transferred;
+            // One byte past the limit is enough to tell an oversized chunk apart
+            while (written <= limit
+                    && (transferred = channel.transferFrom(source, offset + written,
+                            Math.min(TRANSFER_STEP, limit + 1 - written))) > 0) {
+                written += transferred;
+            }
+            if (written > limit) {
+                channel.truncate(offset);
+                throw new IllegalArgumentException("Chunk exceeds " + limit + " bytes");
+            }
+            if (written == 0) {
+                throw new IllegalArgumentException("Chunk is empty");
+            }
+            if (expected != null && !expected.equals(HexFormat.of().formatHex(digest.digest()))) {
+                channel.truncate(offset);
+                throw new IllegalArgumentException("Chunk checksum mismatch");
+            }
+            channel.truncate(offset + written);
+            channel.force(false);
+
+            if (uploadSessionRepository.advance(id, offset, offset + written,
+                    UploadStatus.IN_PROGRESS, LocalDateTime.now()) == 0) {
+                throw new IllegalStateException("Upload offset moved concurrently");
+            }
+            session.setReceivedBytes(offset + written);
+        }
+        return convertToDTO(session, null, false);
+    }
+
+    /**
+     * Hashes the part file and moves it to its content address. Runs under the same file lock
+     * as chunk writes, so a second completion either gets a conflict while the first runs or
+     * finds the session already completed and returns the same result.
+     */
+    public UploadSessionDTO completeUpload(Long id) throws IOException {
+        Path part = fileStore.partPath(id);
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE);
+             FileLock lock = tryLock(channel)) {
+            if (lock == null) {
+                throw new IllegalStateException("Upload is being written or completed");
+            }
+            UploadSession session = findSession(id);
+            if (session.getStatus() != UploadStatus.IN_PROGRESS) {
+                return finishedUpload(session);
+            }
+            if (!session.getReceivedBytes().equals(session.getTotalSize())) {
+                throw new IllegalStateException("Upload incomplete: " + session.getReceivedBytes()
+                        + " of " + session.getTotalSize() + " bytes received");
+            }
+
+            String sha256 = FileStore.sha256Hex(part);
+            if (session.getExpectedSha256() != null && !session.getExpectedSha256().equals(sha256)) {
+                abort(session);
+                throw new IllegalArgumentException("File checksum mismatch");
+            }
+
+            StoredFile storedFile = storedFileRepository.findBySha256(sha256).orElse(null);
+            boolean deduplicated = storedFile != null;
+            if (deduplicated) {
+                Files.deleteIfExists(part);
+            } else {
+                fileStore.promote(part, sha256);
+                try {
+                    storedFile = storedFileRepository.save(StoredFile.builder()
+                            .sha256(sha256)
+                            .size(session.getTotalSize())
+                            .contentType(session.getContentType())
+                            .build());
+                } catch (DataIntegrityViolationException e) {
+                    // Another session finished the same bytes first; both moved identical content
+                    storedFile = storedFileRepository.findBySha256(sha256)
+                            .orElseThrow(() -> new IllegalStateException("Stored file vanished", e));
+                    deduplicated = true;
+                }
+            }
+
+            session.setStatus(UploadStatus.COMPLETED);
+            session.setStoredFile(storedFile);
+            uploadSessionRepository.save(session);
+            return convertToDTO(session, storedFile, deduplicated);
+        } catch (NoSuchFileException e) {
+            // Completed and aborted sessions no longer have a part file
+            UploadSession session = findSession(id);
+            if (session.getStatus() == UploadStatus.IN_PROGRESS) {
+                throw new IllegalStateException("Upload is being completed");
+            }
+            return finishedUpload(session);
+        }
+    }
+
+    public void abortUpload(Long id) {
+        UploadSession session = findSession(id);
+        if (session.getStatus() == UploadStatus.COMPLETED) {
+            throw new IllegalStateException("Upload is already completed");
+        }
+        abort(session);
+    }
+
+    @Scheduled(fixedDelayString = "${journal.uploads.cleanup-interval-ms:3600000}")
+    public void purgeExpiredUploads() {
+        shardRegistry.forEachShard(shard -> {
+            List<UploadSession> expired = uploadSessionRepository.findByStatusAndExpiresAtBefore(
+                    UploadStatus.IN_PROGRESS, LocalDateTime.now());
+            expired.forEach(this::abort);
+            if (!expired.isEmpty()) {
+                log.debug("Aborted {} expired uploads on shard {}", expired.size(), shard);
+            }
+        });
+    }
+
+    private void abort(UploadSession session) {
+        session.setStatus(UploadStatus.ABORTED);
+        uploadSessionRepository.save(session);
+        try {
+            Files.deleteIfExists(fileStore.partPath(session.getId()));
+        } catch (IOException e) {
+            log.warn("Could not delete part file of upload {}", session.getId(), e);
+        }
+    }
+
+    private static void checkWritable(UploadSession session, long offset) {
+        if (session.getStatus() != UploadStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Upload is " + session.getStatus());
+        }
+        if (offset != session.getReceivedBytes()) {
+            throw new IllegalStateException("Expected offset " + session.getReceivedBytes());
+        }
+    }
+
+    // Completing an already completed upload is a no-op that reports the stored file again
+    private UploadSessionDTO finishedUpload(UploadSession session) {
+        if (session.getStatus() != UploadStatus.COMPLETED) {
+            throw new IllegalStateException("Upload is " + session.getStatus());
+        }
+        StoredFile storedFile = storedFileRepository.findById(session.getStoredFile().getId())
+                .orElseThrow(() -> new RuntimeException("Stored file not found"));
+        return convertToDTO(session, storedFile, false);
+    }
+
+    // Null when another writer holds the file, whether in this JVM or another process
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    private UploadSession findSession(Long id) {
+        return uploadSessionRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Upload not found"));
+    }
+
+    // Keeps only the last path segment, so a client cannot name a directory or a parent
+    private static String baseName(String fileName) {
+        Path path;
+        try {
+            path = Path.of(fileName.trim()).getFileName();
+        } catch (InvalidPathException e) {
+            throw new IllegalArgumentException("Invalid file name");
+        }
+        String name = path != null ? path.toString() : "";
+        if (name.isBlank() || name.equals(".") || name.equals("..")) {
+            throw new IllegalArgumentException("Invalid file name");
+        }
+        return name;
+    }
+
+    private static String normalizeSha256(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String sha256 = value.trim().toLowerCase(Locale.ROOT);
+        if (!SHA256.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("Checksum must be a hex SHA-256 digest");
+        }
+        return sha256;
+    }
+
+    private UploadSessionDTO convertToDTO(UploadSession session, StoredFile storedFile, boolean deduplicated) {
+        return UploadSessionDTO.builder()
+                .id(session.getId())
+                .fileName(session.getFileName())
+                .contentType(session.getContentType())
+                .totalSize(session.getTotalSize())
+                .receivedBytes(session.getReceivedBytes())
+                .expectedSha256(session.getExpectedSha256())
+                .status(session.getStatus())
+                .maxChunkSize(maxChunkSize)
+                .storedFileId(storedFile != null ? storedFile.getId() : null)
+                .sha256(storedFile != null ? storedFile.getSha256() : null)
+                .deduplicated(storedFile != null ? deduplicated : null)
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+}
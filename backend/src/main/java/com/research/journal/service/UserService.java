@@ -1,28 +1,37 @@
 package com.research.journal.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.research.journal.audit.AuditLog;
 import com.research.journal.dto.UserDTO;
+import com.research.journal.entity.AuditAction;
 import com.research.journal.entity.User;
 import com.research.journal.entity.UserRole;
 import com.research.journal.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "journal.service", histogram = true)
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final FieldProjection fieldProjection;
+    private final AuditLog auditLog;
+    private final RegistrationFilter registrationFilter;
 
     public UserDTO registerUser(String email, String password, String firstName, String lastName, String affiliation, UserRole role, String username){
-        // Check if user already exists
-        if (userRepository.findByEmail(email).isPresent()) {
-            throw new RuntimeException("User with this email already exists");
-        }
+        checkAvailable(email, username);
 
         // Create new user
      User user = User.builder()
@@ -37,10 +46,51 @@ public class UserService {
         .bio("")
         .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // Taken since the check, or on another pod the filter has not heard of yet
+            String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+            throw new RuntimeException(message.contains("uk_users_username")
+                    ? "Username is already taken" : "User with this email already exists");
+        }
+        registrationFilter.add(email, username);
         return convertToDTO(savedUser);
     }
 
+    // Names the filter has never seen are free without asking the database
+    private void checkAvailable(String email, String username) {
+        boolean checkEmail = registrationFilter.mightHaveEmail(email);
+        boolean checkUsername = registrationFilter.mightHaveUsername(username);
+        boolean emailTaken = false;
+        boolean usernameTaken = false;
+        if (checkEmail && checkUsername) {
+            for (User existing : userRepository.findByEmailOrUsername(email, username)) {
+                emailTaken |= existing.getEmail().equalsIgnoreCase(email);
+                usernameTaken |= existing.getUsername().equalsIgnoreCase(username);
+            }
+        } else if (checkEmail) {
+            emailTaken = userRepository.existsByEmail(email);
+        } else if (checkUsername) {
+            usernameTaken = userRepository.existsByUsername(username);
+        }
+
+        if (emailTaken) {
+            throw new RuntimeException("User with this email already exists");
+        }
+        if (usernameTaken) {
+            throw new RuntimeException("Username is already taken");
+        }
+        if (checkEmail) {
+            registrationFilter.recordFalsePositive("email");
+        }
+        if (checkUsername) {
+            registrationFilter.recordFalsePositive("username");
+        }
+    }
+
+    @Transactional(readOnly = true)
     public UserDTO loginUser(String email, String password) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -56,30 +106,39 @@ public class UserService {
         return convertToDTO(user);
     }
 
+    @Transactional(readOnly = true)
     public UserDTO getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
         return convertToDTO(user);
     }
 
+    @Transactional(readOnly = true)
     public UserDTO getUserByEmail(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
         return convertToDTO(user);
     }
 
+    @Transactional(readOnly = true)
     public List<UserDTO> getUsersByRole(UserRole role) {
         return userRepository.findByRole(role).stream()
                 .map(this::convertToDTO)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<UserDTO> getAllActiveUsers() {
         return userRepository.findByIsActiveTrue().stream()
                 .map(this::convertToDTO)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public void writeActiveUserFields(FieldProjection.Fields fields, JsonGenerator generator) throws IOException {
+        fieldProjection.writeAll(fields, "WHERE e.isActive = true", Map.of(), generator);
+    }
+
     public UserDTO updateUser(Long id, UserDTO userDTO) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -90,6 +149,7 @@ public class UserService {
         user.setBio(userDTO.getBio());
 
         User updatedUser = userRepository.save(user);
+        auditLog.record(AuditAction.USER_UPDATED, id, Map.of());
         return convertToDTO(updatedUser);
     }
 
@@ -98,9 +158,10 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
         user.setIsActive(false);
         userRepository.save(user);
+        auditLog.record(AuditAction.USER_DEACTIVATED, id, Map.of());
     }
 
-    private UserDTO convertToDTO(User user) {
+    UserDTO convertToDTO(User user) {
         return UserDTO.builder()
                 .id(user.getId())
                 .email(user.getEmail())
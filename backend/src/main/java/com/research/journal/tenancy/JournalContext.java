@@ -0,0 +1,76 @@
+package com.research.journal.tenancy;
+
+import java.util.function.Supplier;
+
+/**
+ * The journal the current thread works for, and the shard it is pinned to, if any.
+ *
+ * Requests bind their journal in {@link JournalFilter}: Hibernate then scopes papers, reviews
+ * and revisions to it and {@link ShardRoutingDataSource} sends its connections to the journal's
+ * shard. Threads without a journal (schedulers, workers) see every journal on the shard they
+ * are pinned to, or on shard 0 when not pinned.
+ */
+public final class JournalContext {
+
+    private static final ThreadLocal<Long> JOURNAL = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> SHARD = new ThreadLocal<>();
+
+    private JournalContext() {
+    }
+
+    public static Long currentJournalId() {
+        return JOURNAL.get();
+    }
+
+    public static Integer pinnedShard() {
+        return SHARD.get();
+    }
+
+    /** Runs the action as the given journal (or none), restoring the previous binding afterwards. */
+    public static <T> T callAs(Long journalId, Supplier<T> action) {
+        Long previous = JOURNAL.get();
+        bind(journalId);
+        try {
+            return action.get();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    public static void runAs(Long journalId, Runnable action) {
+        callAs(journalId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /** Runs the action with every connection it opens taken from the given shard. */
+    public static <T> T callOnShard(int shard, Supplier<T> action) {
+        Integer previous = SHARD.get();
+        SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                SHARD.remove();
+            } else {
+                SHARD.set(previous);
+            }
+        }
+    }
+
+    public static void runOnShard(int shard, Runnable action) {
+        callOnShard(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    static void bind(Long journalId) {
+        if (journalId == null) {
+            JOURNAL.remove();
+        } else {
+            JOURNAL.set(journalId);
+        }
+    }
+}
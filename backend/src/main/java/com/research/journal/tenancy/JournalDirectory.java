@@ -0,0 +1,94 @@
+package com.research.journal.tenancy;
+
+import com.research.journal.dto.JournalDTO;
+import com.research.journal.entity.JournalStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory copy of the journals table on shard 0: code, shard and status of every journal.
+ * Each pod reloads it on a fixed delay (and on a lookup miss), so a placement or status change
+ * reaches every pod within {@code journal.tenancy.directory-refresh-ms}; the rebalancer waits
+ * that long after each change before relying on it.
+ */
+@Component
+public class JournalDirectory {
+
+    private final JdbcTemplate directory;
+    private final ShardRegistry shardRegistry;
+    private volatile Map<Long, JournalDTO> journals;
+
+    public JournalDirectory(ShardRegistry shardRegistry) {
+        this.directory = new JdbcTemplate(shardRegistry.directory());
+        this.shardRegistry = shardRegistry;
+    }
+
+    // Not loaded on startup: the bean can be created before Flyway has built the directory
+    @Scheduled(fixedDelayString = "${journal.tenancy.directory-refresh-ms:5000}")
+    public void refresh() {
+        Map<Long, JournalDTO> loaded = new HashMap<>();
+        Map<Long, Integer> placements = new HashMap<>();
+        directory.query("SELECT id, code, name, shard, status, created_at FROM journals", row -> {
+            Timestamp createdAt = row.getTimestamp("created_at");
+            JournalDTO journal = JournalDTO.builder()
+                    .id(row.getLong("id"))
+                    .code(row.getString("code"))
+                    .name(row.getString("name"))
+                    .shard(row.getInt("shard"))
+                    .status(JournalStatus.valueOf(row.getString("status")))
+                    .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                    .build();
+            loaded.put(journal.getId(), journal);
+            placements.put(journal.getId(), journal.getShard());
+        });
+        shardRegistry.updatePlacements(placements);
+        journals = Map.copyOf(loaded);
+    }
+
+    public JournalDTO find(Long journalId) {
+        JournalDTO journal = journals().get(journalId);
+        if (journal == null) {
+            // Possibly created on another pod since the last refresh
+            refresh();
+            journal = journals.get(journalId);
+        }
+        return journal;
+    }
+
+    public JournalDTO findByCode(String code) {
+        JournalDTO journal = byCode(code);
+        if (journal == null) {
+            refresh();
+            journal = byCode(code);
+        }
+        return journal;
+    }
+
+    public List<JournalDTO> all() {
+        return journals().values().stream()
+                .sorted(Comparator.comparing(JournalDTO::getId))
+                .toList();
+    }
+
+    private JournalDTO byCode(String code) {
+        for (JournalDTO journal : journals().values()) {
+            if (journal.getCode().equals(code)) {
+                return journal;
+            }
+        }
+        return null;
+    }
+
+    private Map<Long, JournalDTO> journals() {
+        if (journals == null) {
+            refresh();
+        }
+        return journals;
+    }
+}
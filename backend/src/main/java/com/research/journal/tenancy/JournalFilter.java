@@ -0,0 +1,72 @@
+package com.research.journal.tenancy;
+
+import com.research.journal.dto.JournalDTO;
+import com.research.journal.entity.JournalStatus;
+import com.research.journal.security.RequestUserResolver;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+
+/**
+ * Binds the journal named by the bearer token (the default journal without one) to the request
+ * thread, and refuses writes with a 503 while the journal is read-only for a shard move. Auth
+ * endpoints stay unbound so accounts are created and checked in the directory on shard 0.
+ */
+public class JournalFilter extends OncePerRequestFilter {
+
+    private final RequestUserResolver requestUserResolver;
+    private final JournalDirectory journalDirectory;
+    private final Long defaultJournalId;
+
+    public JournalFilter(RequestUserResolver requestUserResolver, JournalDirectory journalDirectory,
+                         Long defaultJournalId) {
+        this.requestUserResolver = requestUserResolver;
+        this.journalDirectory = journalDirectory;
+        this.defaultJournalId = defaultJournalId;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith("/api/") || path.startsWith("/api/auth/") || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long journalId = requestUserResolver.resolveJournalId(request);
+        JournalDTO journal = journalDirectory.find(journalId != null ? journalId : defaultJournalId);
+        if (journal == null) {
+            reject(response, HttpStatus.NOT_FOUND, "Journal not found");
+            return;
+        }
+        if (journal.getStatus() == JournalStatus.READ_ONLY && !isRead(request.getMethod())) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "5");
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "Journal is read-only while it is being moved");
+            return;
+        }
+        Long previous = JournalContext.currentJournalId();
+        JournalContext.bind(journal.getId());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            JournalContext.bind(previous);
+        }
+    }
+
+    private static boolean isRead(String method) {
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(message);
+    }
+}
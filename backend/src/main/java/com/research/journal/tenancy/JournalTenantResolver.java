@@ -0,0 +1,29 @@
+package com.research.journal.tenancy;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Tenant of every Hibernate session: the journal bound to the opening thread. Sessions opened
+ * without one (scheduled jobs, queue workers, cross-journal admin reads) use the root tenant,
+ * which Hibernate does not filter.
+ */
+class JournalTenantResolver implements CurrentTenantIdentifierResolver<Long> {
+
+    static final Long ALL_JOURNALS = 0L;
+
+    @Override
+    public Long resolveCurrentTenantIdentifier() {
+        Long journalId = JournalContext.currentJournalId();
+        return journalId != null ? journalId : ALL_JOURNALS;
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+
+    @Override
+    public boolean isRoot(Long tenantId) {
+        return ALL_JOURNALS.equals(tenantId);
+    }
+}
@@ -0,0 +1,301 @@
+package com.research.journal.tenancy;
+
+import com.research.journal.dto.JournalDTO;
+import com.research.journal.entity.JournalStatus;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Moves a journal to another shard while it stays online:
+ * <ol>
+ *   <li>copy its papers, revisions, reviews, analytics rollups, attachments and audit events while
+ *       it keeps taking writes;</li>
+ *   <li>mark it read-only, wait until every pod refuses its writes, then copy what changed
+ *       during step 1 along with its processing jobs and review escalation claims;</li>
+ *   <li>point the directory at the target and make the journal writable in one update;</li>
+ *   <li>once every pod routes to the target, delete the rows left on the source.</li>
+ * </ol>
+ * Rows keep their ids (each shard allocates from its own id block), except audit events and
+ * escalation claims, which are append-only and renumbered on the target; stored files are matched by hash on the target. Writes to the journal get a 503 during steps 2 and 3 only. A job that was
+ * running on the source when the journal froze may run once more on the target.
+ */
+@Component
+public class ShardRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardRebalancer.class);
+
+    private static final String OWN_ROWS = "journal_id = ?";
+    private static final List<String> JOURNAL_TABLES = List.of("papers", "revisions", "reviews", "analytics_rollups");
+    private static final String OWN_PAPERS = "paper_id IN (SELECT id FROM papers WHERE journal_id = ?)";
+    // Rows updated this long before the bulk copy started are copied again, to cover clock skew
+    // between pods and transactions that committed after the copy read past them
+    private static final long CHANGE_MARGIN_SECONDS = 60;
+
+    private final ShardRegistry shardRegistry;
+    private final JournalDirectory journalDirectory;
+    private final JdbcTemplate directory;
+    private final Set<Long> moving = ConcurrentHashMap.newKeySet();
+    private final ExecutorService movers = Executors.newSingleThreadExecutor();
+
+    // At least the directory refresh interval plus the longest write request
+    @Value("${journal.sharding.rebalance-settle-ms:15000}")
+    private long settleMs;
+
+    @Value("${journal.sharding.rebalance-batch-size:500}")
+    private int batchSize;
+
+    public ShardRebalancer(ShardRegistry shardRegistry, JournalDirectory journalDirectory) {
+        this.shardRegistry = shardRegistry;
+        this.journalDirectory = journalDirectory;
+        this.directory = new JdbcTemplate(shardRegistry.directory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        movers.shutdownNow();
+    }
+
+    /** Validates the move and runs it in the background; progress shows in the journal's shard and status. */
+    public JournalDTO startMove(Long journalId, int targetShard) {
+        JournalDTO journal = journalDirectory.find(journalId);
+        if (journal == null) {
+            throw new RuntimeException("Journal not found");
+        }
+        if (targetShard < 0 || targetShard >= shardRegistry.size()) {
+            throw new IllegalArgumentException("Shard must be between 0 and " + (shardRegistry.size() - 1));
+        }
+        if (journal.getShard() == targetShard) {
+            throw new IllegalStateException("Journal is already on shard " + targetShard);
+        }
+        if (journal.getStatus() != JournalStatus.ACTIVE || !moving.add(journalId)) {
+            throw new IllegalStateException("Journal is already being moved");
+        }
+        int sourceShard = journal.getShard();
+        movers.execute(() -> {
+            try {
+                move(journalId, sourceShard, targetShard);
+            } catch (RuntimeException e) {
+                log.error("Moving journal {} from shard {} to {} failed", journalId, sourceShard, targetShard, e);
+            } finally {
+                moving.remove(journalId);
+            }
+        });
+        return journal;
+    }
+
+    private void move(Long journalId, int sourceShard, int targetShard) {
+        JdbcTemplate source = new JdbcTemplate(shardRegistry.shard(sourceShard));
+        JdbcTemplate target = new JdbcTemplate(shardRegistry.shard(targetShard));
+        log.info("Moving journal {} from shard {} to {}", journalId, sourceShard, targetShard);
+
+        // Leftovers of an earlier failed attempt
+        deleteJournalRows(target, journalId);
+        LocalDateTime copyStartedAt = LocalDateTime.now().minusSeconds(CHANGE_MARGIN_SECONDS);
+        boolean flipped = false;
+        try {
+            for (String table : JOURNAL_TABLES) {
+                copyAll(source, target, table, OWN_ROWS, journalId);
+            }
+            copyAttachments(source, target, journalId);
+            long auditCopiedTo = copyAppended(source, target, "audit_events", journalId, 0);
+
+            setStatus(journalId, sourceShard, JournalStatus.READ_ONLY);
+            settle();
+            for (String table : JOURNAL_TABLES) {
+                copyChanges(source, target, table, journalId, copyStartedAt);
+            }
+            copyAttachments(source, target, journalId);
+            copyAppended(source, target, "audit_events", journalId, auditCopiedTo);
+            copyAll(source, target, "processing_jobs", OWN_PAPERS, journalId);
+            // No claims are taken while the journal is read-only, and every review they point at is copied by now
+            copyAppended(source, target, "review_escalation_claims", journalId, 0);
+            deleteRemoved(source, target, journalId);
+
+            flipped = directory.update("UPDATE journals SET shard = ?, status = ?, updated_at = ? "
+                            + "WHERE id = ? AND shard = ? AND status = ?",
+                    targetShard, JournalStatus.ACTIVE.name(), LocalDateTime.now(),
+                    journalId, sourceShard, JournalStatus.READ_ONLY.name()) == 1;
+            if (!flipped) {
+                throw new IllegalStateException("Journal " + journalId + " changed while it was being moved");
+            }
+        } catch (RuntimeException e) {
+            if (!flipped) {
+                deleteJournalRows(target, journalId);
+                setStatus(journalId, sourceShard, JournalStatus.ACTIVE);
+            }
+            throw e;
+        }
+        // The target's workers own the jobs from here on
+        source.update("DELETE FROM processing_jobs WHERE " + OWN_PAPERS, journalId);
+        journalDirectory.refresh();
+        settle();
+        deleteJournalRows(source, journalId);
+        log.info("Moved journal {} from shard {} to {}", journalId, sourceShard, targetShard);
+    }
+
+    private void setStatus(Long journalId, int shard, JournalStatus status) {
+        directory.update("UPDATE journals SET status = ?, updated_at = ? WHERE id = ? AND shard = ?",
+                status.name(), LocalDateTime.now(), journalId, shard);
+        journalDirectory.refresh();
+    }
+
+    private void settle() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(settleMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for pods to see the directory change", e);
+        }
+    }
+
+    private void copyAll(JdbcTemplate source, JdbcTemplate target, String table, String selector, Long journalId) {
+        long lastId = 0;
+        List<Map<String, Object>> rows;
+        do {
+            rows = source.queryForList("SELECT * FROM " + table + " WHERE " + selector
+                    + " AND id > ? ORDER BY id LIMIT " + batchSize, journalId, lastId);
+            insert(target, table, rows);
+            if (!rows.isEmpty()) {
+                lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+            }
+        } while (rows.size() == batchSize);
+    }
+
+    // Audit events and claims are only ever appended, so the ones after the last copied id are all
+    // that is new. Returns the last source id copied
+    private long copyAppended(JdbcTemplate source, JdbcTemplate target, String table, Long journalId, long afterId) {
+        long lastId = afterId;
+        List<Map<String, Object>> rows;
+        do {
+            rows = source.queryForList("SELECT * FROM " + table + " WHERE journal_id = ? AND id > ? ORDER BY id LIMIT "
+                    + batchSize, journalId, lastId);
+            if (!rows.isEmpty()) {
+                lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+            }
+            rows.forEach(row -> row.keySet().removeIf("id"::equalsIgnoreCase));
+            insert(target, table, rows);
+        } while (rows.size() == batchSize);
+        return lastId;
+    }
+
+    // Rows inserted or updated since the bulk copy began, written over the copies on the target
+    private void copyChanges(JdbcTemplate source, JdbcTemplate target, String table, Long journalId,
+                             LocalDateTime since) {
+        List<Map<String, Object>> rows = source.queryForList("SELECT * FROM " + table
+                + " WHERE journal_id = ? AND (updated_at IS NULL OR updated_at >= ?)", journalId, since);
+        for (Map<String, Object> row : rows) {
+            List<String> columns = new ArrayList<>(row.keySet());
+            columns.removeIf("id"::equalsIgnoreCase);
+            List<Object> values = new ArrayList<>(columns.size() + 1);
+            columns.forEach(column -> values.add(row.get(column)));
+            values.add(row.get("id"));
+            int updated = target.update("UPDATE " + table + " SET "
+                    + columns.stream().map(column -> column + " = ?").collect(Collectors.joining(", "))
+                    + " WHERE id = ?", values.toArray());
+            if (updated == 0) {
+                insert(target, table, List.of(row));
+            }
+        }
+    }
+
+    // Attachments never change, so copying the missing ones is enough; files are matched by hash
+    private void copyAttachments(JdbcTemplate source, JdbcTemplate target, Long journalId) {
+        Set<Long> copied = ids(target, "paper_attachments", OWN_PAPERS, journalId);
+        List<Map<String, Object>> missing = source.queryForList(
+                        "SELECT * FROM paper_attachments WHERE " + OWN_PAPERS, journalId).stream()
+                .filter(row -> !copied.contains(((Number) row.get("id")).longValue()))
+                .toList();
+        for (Map<String, Object> row : missing) {
+            Long sourceFileId = ((Number) row.get("stored_file_id")).longValue();
+            row.put("stored_file_id", targetStoredFile(source, target, sourceFileId));
+        }
+        insert(target, "paper_attachments", missing);
+    }
+
+    private Long targetStoredFile(JdbcTemplate source, JdbcTemplate target, Long sourceFileId) {
+        Map<String, Object> file = source.queryForMap(
+                "SELECT sha256, size, content_type, created_at FROM stored_files WHERE id = ?", sourceFileId);
+        List<Long> existing = target.queryForList("SELECT id FROM stored_files WHERE sha256 = ?",
+                Long.class, file.get("sha256"));
+        if (!existing.isEmpty()) {
+            return existing.get(0);
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        target.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO stored_files (sha256, size, content_type, created_at) VALUES (?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            statement.setObject(1, file.get("sha256"));
+            statement.setObject(2, file.get("size"));
+            statement.setObject(3, file.get("content_type"));
+            statement.setObject(4, file.get("created_at"));
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    // Rows deleted on the source since they were copied
+    private void deleteRemoved(JdbcTemplate source, JdbcTemplate target, Long journalId) {
+        deleteMissing(source, target, "paper_attachments", OWN_PAPERS, journalId);
+        for (String table : List.of("analytics_rollups", "reviews", "revisions", "papers")) {
+            deleteMissing(source, target, table, OWN_ROWS, journalId);
+        }
+    }
+
+    private void deleteMissing(JdbcTemplate source, JdbcTemplate target, String table, String selector, Long journalId) {
+        Set<Long> removed = ids(target, table, selector, journalId);
+        removed.removeAll(ids(source, table, selector, journalId));
+        for (Long id : removed) {
+            target.update("DELETE FROM " + table + " WHERE id = ?", id);
+        }
+    }
+
+    private void deleteJournalRows(JdbcTemplate shard, Long journalId) {
+        shard.update("DELETE FROM paper_attachments WHERE " + OWN_PAPERS, journalId);
+        shard.update("DELETE FROM processing_jobs WHERE " + OWN_PAPERS, journalId);
+        shard.update("DELETE FROM analytics_rollups WHERE " + OWN_ROWS, journalId);
+        shard.update("DELETE FROM audit_events WHERE " + OWN_ROWS, journalId);
+        shard.update("DELETE FROM review_escalation_claims WHERE " + OWN_ROWS, journalId);
+        shard.update("DELETE FROM reviews WHERE " + OWN_ROWS, journalId);
+        shard.update("DELETE FROM revisions WHERE " + OWN_ROWS, journalId);
+        shard.update("DELETE FROM papers WHERE " + OWN_ROWS, journalId);
+    }
+
+    private static Set<Long> ids(JdbcTemplate shard, String table, String selector, Long journalId) {
+        return new HashSet<>(shard.queryForList("SELECT id FROM " + table + " WHERE " + selector, Long.class, journalId));
+    }
+
+    private static void insert(JdbcTemplate target, String table, Collection<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = new ArrayList<>(rows.iterator().next().keySet());
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            batch.add(columns.stream().map(row::get).toArray());
+        }
+        target.batchUpdate(sql, batch);
+    }
+}
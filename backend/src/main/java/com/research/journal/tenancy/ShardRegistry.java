@@ -0,0 +1,131 @@
+package com.research.journal.tenancy;
+
+import com.research.journal.config.SqlStatementCounter;
+import com.research.journal.tracing.TraceContext;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * The shards behind the application DataSource: one per configured shard database with sharding
+ * enabled, otherwise just the DataSource itself. Background work that is not tied to a journal
+ * runs once per shard through {@link #forEachShard}, and cross-journal reads fan out with
+ * {@link #gather}.
+ */
+@Component
+public class ShardRegistry {
+
+    private final ShardRoutingDataSource router;
+    private final List<DataSource> shards;
+    private final ExecutorService gatherers = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ShardRegistry(DataSource dataSource) {
+        this.router = unwrapRouter(dataSource);
+        this.shards = router != null ? router.shards() : List.of(dataSource);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        gatherers.shutdownNow();
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    /** The shard's own pool, bypassing routing; statements on it run outside any application transaction. */
+    public DataSource shard(int shard) {
+        return shards.get(shard);
+    }
+
+    public DataSource directory() {
+        return shards.get(0);
+    }
+
+    public int shardOf(Long journalId) {
+        return router != null ? router.shardOf(journalId) : 0;
+    }
+
+    /** Shard for a new journal: its code hashed over the current shard count. */
+    public int placementFor(String code) {
+        int hash = code.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return Math.floorMod(hash, shards.size());
+    }
+
+    void updatePlacements(Map<Long, Integer> placements) {
+        if (router != null) {
+            router.updatePlacements(placements);
+        }
+    }
+
+    public void forEachShard(IntConsumer action) {
+        for (int shard = 0; shard < shards.size(); shard++) {
+            int current = shard;
+            JournalContext.runOnShard(current, () -> action.accept(current));
+        }
+    }
+
+    /**
+     * Runs the query on every shard at once, each on its own virtual thread pinned to its shard
+     * and bound to no journal, and returns the results in shard order. Waits for every shard
+     * before failing, so no query outlives the caller.
+     */
+    public <T> List<T> gather(IntFunction<T> query) {
+        SqlStatementCounter.Counts counts = SqlStatementCounter.active();
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (int shard = 0; shard < shards.size(); shard++) {
+            int current = shard;
+            futures.add(gatherers.submit(TraceContext.wrap(() -> {
+                SqlStatementCounter.attach(counts);
+                try {
+                    return JournalContext.callOnShard(current, () -> query.apply(current));
+                } finally {
+                    SqlStatementCounter.detach();
+                }
+            })));
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        RuntimeException failure = null;
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                throw new RuntimeException("Interrupted while querying shards", e);
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause
+                            ? cause : new RuntimeException("Shard query failed", e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    private static ShardRoutingDataSource unwrapRouter(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ShardRoutingDataSource.class)
+                    ? dataSource.unwrap(ShardRoutingDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.research.journal.tenancy;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands out connections from the shard of the journal bound to the current thread, or from the
+ * shard the thread is pinned to. Shard 0 also holds the directory (journals, memberships and
+ * the authoritative users table) and serves threads that have neither.
+ *
+ * Placements come from {@link JournalDirectory}; a journal missing from them lives on shard 0.
+ * Must sit behind a LazyConnectionDataSourceProxy so a transaction begun before its first
+ * statement still connects to the right shard.
+ */
+public class ShardRoutingDataSource extends AbstractDataSource {
+
+    private final List<DataSource> shards;
+    private volatile Map<Long, Integer> placements = Map.of();
+
+    ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    List<DataSource> shards() {
+        return shards;
+    }
+
+    int shardOf(Long journalId) {
+        Integer shard = placements.get(journalId);
+        return shard != null && shard < shards.size() ? shard : 0;
+    }
+
+    void updatePlacements(Map<Long, Integer> placements) {
+        this.placements = Map.copyOf(placements);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return currentShard().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return currentShard().getConnection(username, password);
+    }
+
+    private DataSource currentShard() {
+        Integer pinned = JournalContext.pinnedShard();
+        if (pinned != null) {
+            return shards.get(pinned);
+        }
+        Long journalId = JournalContext.currentJournalId();
+        return shards.get(journalId == null ? 0 : shardOf(journalId));
+    }
+}
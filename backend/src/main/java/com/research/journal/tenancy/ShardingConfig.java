@@ -0,0 +1,120 @@
+package com.research.journal.tenancy;
+
+import com.research.journal.config.ClosingLazyConnectionDataSourceProxy;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Replaces the auto-configured DataSource with one pool per shard behind a
+ * {@link ShardRoutingDataSource}, and runs the Flyway migrations on every shard. Cannot be
+ * combined with read/write splitting, which replaces the same DataSource.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "journal.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    // Tables whose rows move with a journal, and the outbox they write to
+    private static final List<String> ID_BLOCK_TABLES = List.of(
+            "papers", "reviews", "revisions", "processing_jobs", "paper_attachments", "outbox_events");
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ShardingProperties sharding,
+                                 MeterRegistry meterRegistry, Environment environment) {
+        if (environment.getProperty("journal.datasource.routing.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("journal.sharding and journal.datasource.routing cannot both be enabled");
+        }
+        List<AutoCloseable> resources = new ArrayList<>();
+        List<DataSource> shards = new ArrayList<>();
+
+        HikariDataSource directory = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(directory));
+        directory.setPoolName("shard-0");
+        directory.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        shards.add(directory);
+        resources.add(directory);
+
+        for (int i = 0; i < sharding.getShards().size(); i++) {
+            ShardingProperties.Shard shard = sharding.getShards().get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("shard-" + (i + 1));
+            pool.setJdbcUrl(shard.getUrl());
+            pool.setUsername(shard.getUsername());
+            pool.setPassword(shard.getPassword());
+            pool.setMaximumPoolSize(shard.getMaximumPoolSize());
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            shards.add(pool);
+            resources.add(pool);
+        }
+        return new ClosingLazyConnectionDataSourceProxy(new ShardRoutingDataSource(shards), resources);
+    }
+
+    @Bean
+    public FlywayMigrationStrategy shardedFlywayMigration(DataSource dataSource, ShardingProperties sharding) {
+        return flyway -> {
+            // Unbound and unpinned, the application DataSource is shard 0
+            flyway.migrate();
+            List<DataSource> shards = router(dataSource).shards();
+            for (int shard = 1; shard < shards.size(); shard++) {
+                MigrateResult result = Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(shards.get(shard))
+                        .load()
+                        .migrate();
+                // Shards join with the tenancy migration, so its first run means a fresh shard
+                if (result.migrations.stream().anyMatch(migration -> "5".equals(migration.version))) {
+                    reserveIdBlock(shards.get(shard), shard * sharding.getIdBlockSize());
+                }
+            }
+        };
+    }
+
+    private static void reserveIdBlock(DataSource shard, long firstId) {
+        JdbcTemplate jdbc = new JdbcTemplate(shard);
+        boolean mysql;
+        try (Connection connection = shard.getConnection()) {
+            mysql = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot reach shard to reserve its id block", e);
+        }
+        for (String table : ID_BLOCK_TABLES) {
+            Long maxId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            if (maxId != null && maxId < firstId) {
+                jdbc.execute(mysql
+                        ? "ALTER TABLE " + table + " AUTO_INCREMENT = " + firstId
+                        : "ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + firstId);
+            }
+        }
+    }
+
+    private static ShardRoutingDataSource router(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(ShardRoutingDataSource.class);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Application DataSource is not shard-routed", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.research.journal.tenancy;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "journal.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    // Shards 1..n; shard 0 is spring.datasource, which also holds the journal directory
+    private List<Shard> shards = new ArrayList<>();
+
+    // Shard n allocates journal row ids from n * idBlockSize, so rows keep their ids when a journal moves
+    private long idBlockSize = 1_000_000_000_000L;
+
+    @Data
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
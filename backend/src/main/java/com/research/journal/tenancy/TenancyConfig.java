@@ -0,0 +1,15 @@
+package com.research.journal.tenancy;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TenancyConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer journalTenantResolverCustomizer() {
+        return properties -> properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new JournalTenantResolver());
+    }
+}
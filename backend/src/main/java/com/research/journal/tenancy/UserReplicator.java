@@ -0,0 +1,73 @@
+package com.research.journal.tenancy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a copy of the users table on every shard but 0, so the author and reviewer of a paper
+ * join locally on the journal's shard. Shard 0 stays authoritative: accounts are only created
+ * and changed through the auth endpoints, which run there. A new account is copied as soon as
+ * it is registered, and a periodic pass copies whatever changed since the previous one.
+ */
+@Component
+public class UserReplicator {
+
+    private static final String COLUMNS = "id, username, email, password, first_name, last_name, affiliation, "
+            + "role, bio, is_active, created_at, updated_at";
+    private static final String UPDATE = "UPDATE users SET username = ?, email = ?, password = ?, first_name = ?, "
+            + "last_name = ?, affiliation = ?, role = ?, bio = ?, is_active = ?, created_at = ?, updated_at = ? WHERE id = ?";
+    private static final String INSERT = "INSERT INTO users (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // Changes committed this long after their timestamp are still picked up by the next pass
+    private static final long CHANGE_MARGIN_SECONDS = 60;
+
+    private final ShardRegistry shardRegistry;
+    private volatile LocalDateTime syncedSince;
+
+    public UserReplicator(ShardRegistry shardRegistry) {
+        this.shardRegistry = shardRegistry;
+    }
+
+    public void replicate(Long userId) {
+        if (shardRegistry.size() > 1) {
+            copy(new JdbcTemplate(shardRegistry.directory())
+                    .queryForList("SELECT " + COLUMNS + " FROM users WHERE id = ?", userId));
+        }
+    }
+
+    // The first pass after startup copies every account
+    @Scheduled(fixedDelayString = "${journal.sharding.user-sync-interval-ms:60000}")
+    public void sync() {
+        if (shardRegistry.size() == 1) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now().minusSeconds(CHANGE_MARGIN_SECONDS);
+        JdbcTemplate directory = new JdbcTemplate(shardRegistry.directory());
+        copy(syncedSince == null
+                ? directory.queryForList("SELECT " + COLUMNS + " FROM users")
+                : directory.queryForList("SELECT " + COLUMNS + " FROM users WHERE created_at >= ? OR updated_at >= ?",
+                        syncedSince, syncedSince));
+        syncedSince = startedAt;
+    }
+
+    private void copy(List<Map<String, Object>> users) {
+        for (int shard = 1; shard < shardRegistry.size(); shard++) {
+            JdbcTemplate replica = new JdbcTemplate(shardRegistry.shard(shard));
+            for (Map<String, Object> user : users) {
+                Object[] values = {user.get("username"), user.get("email"), user.get("password"),
+                        user.get("first_name"), user.get("last_name"), user.get("affiliation"), user.get("role"),
+                        user.get("bio"), user.get("is_active"), user.get("created_at"), user.get("updated_at"),
+                        user.get("id")};
+                if (replica.update(UPDATE, values) == 0) {
+                    Object[] row = new Object[values.length];
+                    row[0] = values[values.length - 1];
+                    System.arraycopy(values, 0, row, 1, values.length - 1);
+                    replica.update(INSERT, row);
+                }
+            }
+        }
+    }
+}
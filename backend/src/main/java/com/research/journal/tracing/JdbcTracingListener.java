@@ -0,0 +1,63 @@
+package com.research.journal.tracing;
+
+import io.micrometer.tracing.Span;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * A span per JDBC statement (or batch) inside a recorded trace, named after its SQL verb and
+ * tagged with the statement with its literals replaced by {@code ?}, so no values reach the
+ * trace store even from statements built by concatenation.
+ */
+public class JdbcTracingListener implements QueryExecutionListener {
+
+    private static final String SPAN = JdbcTracingListener.class.getName();
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final int MAX_STATEMENT_LENGTH = 2000;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (TraceContext.recording() == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        String sql = queryInfoList.get(0).getQuery();
+        Span span = TraceContext.startChild("jdbc " + verb(sql))
+                .tag("layer", "jdbc")
+                .tag("db.statement", sanitize(sql));
+        if (execInfo.isBatch()) {
+            span.tag("db.batch.size", String.valueOf(execInfo.getBatchSize()));
+        }
+        execInfo.addCustomValue(SPAN, span);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Span span = execInfo.getCustomValue(SPAN, Span.class);
+        if (span == null) {
+            return;
+        }
+        if (execInfo.getThrowable() != null) {
+            span.error(execInfo.getThrowable());
+        }
+        span.end();
+    }
+
+    static String sanitize(String sql) {
+        String sanitized = NUMBER_LITERAL.matcher(STRING_LITERAL.matcher(sql).replaceAll("?")).replaceAll("?");
+        return sanitized.length() > MAX_STATEMENT_LENGTH ? sanitized.substring(0, MAX_STATEMENT_LENGTH) : sanitized;
+    }
+
+    private static String verb(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? "statement" : trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+}
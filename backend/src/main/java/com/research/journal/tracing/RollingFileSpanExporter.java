@@ -0,0 +1,123 @@
+package com.research.journal.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes exported spans as JSON lines when no collector is configured. The file is rolled
+ * once it passes {@code maxBytes}: {@code traces.jsonl} becomes {@code traces.jsonl.1}, and so
+ * on up to {@code maxFiles}, the oldest being deleted.
+ */
+class RollingFileSpanExporter implements SpanExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(RollingFileSpanExporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+    private final long maxBytes;
+    private final int maxFiles;
+    private BufferedWriter writer;
+    private long written;
+
+    RollingFileSpanExporter(ObjectMapper objectMapper, Path path, long maxBytes, int maxFiles) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            if (writer == null) {
+                open();
+            }
+            for (SpanData span : spans) {
+                String line = objectMapper.writeValueAsString(toMap(span)) + '\n';
+                writer.write(line);
+                written += line.length();
+            }
+            writer.flush();
+            if (written >= maxBytes) {
+                roll();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Could not write {} spans to {}", spans.size(), path, e);
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private void open() throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        written = Files.size(path);
+    }
+
+    private void roll() throws IOException {
+        writer.close();
+        writer = null;
+        Files.deleteIfExists(rolled(maxFiles));
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            if (Files.exists(rolled(i))) {
+                Files.move(rolled(i), rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(path, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path rolled(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private static Map<String, Object> toMap(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        json.put("parentSpanId", span.getParentSpanContext().isValid() ? span.getParentSpanId() : null);
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("startEpochNanos", span.getStartEpochNanos());
+        json.put("durationNanos", span.getEndEpochNanos() - span.getStartEpochNanos());
+        json.put("status", span.getStatus().getStatusCode().name());
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        json.put("attributes", attributes);
+        return json;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.debug("Could not close {}", path, e);
+            }
+            writer = null;
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -0,0 +1,156 @@
+package com.research.journal.tracing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides which head-sampled traces are worth exporting once they are complete. Finished spans
+ * are held per trace until the trace's local root ends; the whole trace is then passed on if it
+ * was slow or had an error, and otherwise only at {@code keepRate}. Traces whose root never ends
+ * here are dropped after {@code traceTimeoutMs}, and spans ending after their root was decided
+ * are dropped with them.
+ */
+class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private final SpanProcessor delegate;
+    private final long slowNanos;
+    private final double keepRate;
+    private final int maxPendingTraces;
+    private final int maxSpansPerTrace;
+    private final long traceTimeoutNanos;
+    private final ConcurrentHashMap<String, PendingTrace> pending = new ConcurrentHashMap<>();
+    private final Counter keptSlow;
+    private final Counter keptError;
+    private final Counter keptSampled;
+    private final Counter dropped;
+    private final Counter evicted;
+    private volatile long lastSweep = System.nanoTime();
+
+    TailSamplingSpanProcessor(SpanProcessor delegate, MeterRegistry meterRegistry, long slowMs, double keepRate,
+                              int maxPendingTraces, int maxSpansPerTrace, long traceTimeoutMs) {
+        this.delegate = delegate;
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(slowMs);
+        this.keepRate = keepRate;
+        this.maxPendingTraces = maxPendingTraces;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.traceTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(traceTimeoutMs);
+        this.keptSlow = decisions(meterRegistry, "kept_slow");
+        this.keptError = decisions(meterRegistry, "kept_error");
+        this.keptSampled = decisions(meterRegistry, "kept_sampled");
+        this.dropped = decisions(meterRegistry, "dropped");
+        this.evicted = decisions(meterRegistry, "evicted");
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        String traceId = span.getSpanContext().getTraceId();
+        SpanContext parent = span.getParentSpanContext();
+        if (!parent.isValid() || parent.isRemote()) {
+            PendingTrace trace = pending.remove(traceId);
+            List<ReadableSpan> spans = trace == null ? new ArrayList<>(1) : trace.spans;
+            synchronized (spans) {
+                spans.add(span);
+                decide(span, spans);
+            }
+            sweepIfDue();
+            return;
+        }
+        PendingTrace trace = pending.get(traceId);
+        if (trace == null) {
+            if (pending.size() >= maxPendingTraces) {
+                evicted.increment();
+                return;
+            }
+            trace = pending.computeIfAbsent(traceId, id -> new PendingTrace());
+        }
+        synchronized (trace.spans) {
+            if (trace.spans.size() < maxSpansPerTrace) {
+                trace.spans.add(span);
+            }
+        }
+    }
+
+    private void decide(ReadableSpan root, List<ReadableSpan> spans) {
+        Counter decision;
+        if (root.getLatencyNanos() >= slowNanos) {
+            decision = keptSlow;
+        } else if (spans.stream().anyMatch(span -> span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR)) {
+            decision = keptError;
+        } else if (ThreadLocalRandom.current().nextDouble() < keepRate) {
+            decision = keptSampled;
+        } else {
+            dropped.increment();
+            return;
+        }
+        decision.increment();
+        spans.forEach(delegate::onEnd);
+    }
+
+    private void sweepIfDue() {
+        long now = System.nanoTime();
+        if (now - lastSweep < traceTimeoutNanos) {
+            return;
+        }
+        lastSweep = now;
+        pending.entrySet().removeIf(entry -> {
+            boolean expired = now - entry.getValue().startedAt > traceTimeoutNanos;
+            if (expired) {
+                evicted.increment();
+            }
+            return expired;
+        });
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        pending.clear();
+        return delegate.shutdown();
+    }
+
+    private static Counter decisions(MeterRegistry meterRegistry, String decision) {
+        return Counter.builder("journal.tracing.traces")
+                .description("Head-sampled traces by tail-sampling decision")
+                .tag("decision", decision)
+                .register(meterRegistry);
+    }
+
+    private static final class PendingTrace {
+
+        private final long startedAt = System.nanoTime();
+        private final List<ReadableSpan> spans = new ArrayList<>();
+    }
+}
@@ -0,0 +1,66 @@
+package com.research.journal.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import java.util.concurrent.Callable;
+
+/**
+ * Static access to the tracer for code that is not a Spring bean or runs on other threads:
+ * the JDBC listener, and the executors that hand a request's work to virtual threads. Until
+ * the tracer is installed, and whenever the current trace was not head-sampled, everything
+ * here is a no-op, so untraced requests pay for one thread-local read.
+ */
+public final class TraceContext {
+
+    private static volatile Tracer tracer = Tracer.NOOP;
+
+    private TraceContext() {
+    }
+
+    static void install(Tracer installed) {
+        tracer = installed;
+    }
+
+    static Tracer tracer() {
+        return tracer;
+    }
+
+    /** The current span if its trace is being recorded, otherwise null. */
+    static Span recording() {
+        Span current = tracer.currentSpan();
+        return current == null || current.isNoop() ? null : current;
+    }
+
+    /** Starts a child of the current span, or returns null when the trace is not recorded. */
+    static Span startChild(String name) {
+        if (recording() == null) {
+            return null;
+        }
+        return tracer.nextSpan().name(name).start();
+    }
+
+    /** Runs the task under the span that is current now, on whichever thread runs it. */
+    public static Runnable wrap(Runnable task) {
+        Span parent = recording();
+        if (parent == null) {
+            return task;
+        }
+        return () -> {
+            try (Tracer.SpanInScope scope = tracer.withSpan(parent)) {
+                task.run();
+            }
+        };
+    }
+
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        Span parent = recording();
+        if (parent == null) {
+            return task;
+        }
+        return () -> {
+            try (Tracer.SpanInScope scope = tracer.withSpan(parent)) {
+                return task.call();
+            }
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.research.journal.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.util.ClassUtils;
+
+/**
+ * One span per controller, service, repository, JWT and password-hashing call, nested under
+ * the request's HTTP span. Calls outside a recorded trace go straight through.
+ */
+@Aspect
+public class TracingAspect {
+
+    public TracingAspect(Tracer tracer) {
+        TraceContext.install(tracer);
+    }
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object controller(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller");
+    }
+
+    @Around("within(@org.springframework.stereotype.Service *)")
+    public Object service(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "service");
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "repository");
+    }
+
+    @Around("within(com.research.journal.security.JwtTokenProvider) "
+            + "|| within(com.research.journal.security.TimedPasswordEncoder)")
+    public Object security(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "security");
+    }
+
+    private static Object trace(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        if (TraceContext.recording() == null) {
+            return joinPoint.proceed();
+        }
+        Span span = TraceContext.startChild(typeName(joinPoint) + "." + joinPoint.getSignature().getName())
+                .tag("layer", layer);
+        try (Tracer.SpanInScope scope = TraceContext.tracer().withSpan(span)) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    // Repository methods are mostly declared on Spring Data's interfaces, so name the repository itself
+    private static String typeName(ProceedingJoinPoint joinPoint) {
+        for (Class<?> type : joinPoint.getThis().getClass().getInterfaces()) {
+            if (type.getName().startsWith("com.research.journal.")) {
+                return type.getSimpleName();
+            }
+        }
+        return ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+    }
+}
@@ -0,0 +1,90 @@
+package com.research.journal.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.actuate.autoconfigure.tracing.SpanExporters;
+import org.springframework.boot.actuate.autoconfigure.tracing.SpanProcessors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+/**
+ * Request tracing. The HTTP span of a request is head-sampled at
+ * {@code management.tracing.sampling.probability}; only inside sampled requests do the
+ * controller, service, repository, JDBC and hashing spans get created. Finished traces then go
+ * through {@link TailSamplingSpanProcessor} to OTLP (when {@code management.otlp.tracing.endpoint}
+ * is set) and/or the rolling JSON file.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "management.tracing", name = "enabled", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    public TracingAspect tracingAspect(Tracer tracer) {
+        return new TracingAspect(tracer);
+    }
+
+    // Installs the tracer for the JDBC listener and executors before the first request
+    @Bean
+    public static LazyInitializationExcludeFilter tracingEagerInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(TracingAspect.class);
+    }
+
+    @Bean
+    public static BeanPostProcessor jdbcTracingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ProxyDataSource proxy) {
+                    proxy.getProxyConfig().getQueryListener().addListener(new JdbcTracingListener());
+                } else if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new JdbcTracingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Replaces Boot's single batch processor, so every exporter only sees the traces kept
+    @Bean
+    public SpanProcessors otelSpanProcessors(SpanExporters spanExporters, MeterRegistry meterRegistry,
+                                             @Value("${journal.tracing.tail.slow-ms:500}") long slowMs,
+                                             @Value("${journal.tracing.tail.keep-rate:0.1}") double keepRate,
+                                             @Value("${journal.tracing.tail.max-pending-traces:10000}") int maxPendingTraces,
+                                             @Value("${journal.tracing.tail.max-spans-per-trace:1000}") int maxSpansPerTrace,
+                                             @Value("${journal.tracing.tail.trace-timeout-ms:30000}") long traceTimeoutMs) {
+        SpanProcessor export = BatchSpanProcessor.builder(SpanExporter.composite(spanExporters.list())).build();
+        return SpanProcessors.of(new TailSamplingSpanProcessor(export, meterRegistry, slowMs, keepRate,
+                maxPendingTraces, maxSpansPerTrace, traceTimeoutMs));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "journal.tracing.file.enabled", havingValue = "true")
+    public SpanExporter rollingFileSpanExporter(ObjectMapper objectMapper,
+                                                @Value("${journal.tracing.file.path:${java.io.tmpdir}/journal/traces.jsonl}") Path path,
+                                                @Value("${journal.tracing.file.max-size-mb:50}") long maxSizeMb,
+                                                @Value("${journal.tracing.file.max-files:5}") int maxFiles) {
+        return new RollingFileSpanExporter(objectMapper, path, maxSizeMb * 1024 * 1024, maxFiles);
+    }
+
+    // Carries the current span into @Async methods and MVC async handlers
+    @Bean
+    public TaskDecorator tracingTaskDecorator() {
+        return TraceContext::wrap;
+    }
+}
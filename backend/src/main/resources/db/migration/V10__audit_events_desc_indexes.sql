@@ -0,0 +1,7 @@
+-- AuditEventRepository.findByEntity and findByEntityType page through a range newest first.
+-- Descending, and the queries order by the equality columns too, so H2 reads a page off the index
+-- instead of sorting the whole range; MySQL could already walk the V7 indexes backwards
+CREATE INDEX idx_audit_events_entity_desc ON audit_events (journal_id, entity_type, entity_id, occurred_at DESC, id DESC);
+CREATE INDEX idx_audit_events_type_desc ON audit_events (journal_id, entity_type, occurred_at DESC, id DESC);
+DROP INDEX idx_audit_events_journal_entity ON audit_events;
+DROP INDEX idx_audit_events_journal_type ON audit_events;
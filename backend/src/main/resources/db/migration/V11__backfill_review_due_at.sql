@@ -0,0 +1,8 @@
+-- Reviews left pending from before V8 have no deadline, so ReviewDeadlineScheduler never times them.
+-- Their clock starts now, with the configured default window (journal.review-deadlines.default-days):
+-- dating them from created_at would make most of them overdue at once. updated_at moves too, so pods
+-- still on the previous version pick the deadlines up in their next sync
+UPDATE reviews
+SET due_at = TIMESTAMPADD(DAY, ${review_default_days}, LOCALTIMESTAMP),
+    updated_at = LOCALTIMESTAMP
+WHERE status = 'PENDING' AND due_at IS NULL;
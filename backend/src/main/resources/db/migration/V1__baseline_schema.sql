@@ -0,0 +1,81 @@
+-- Baseline schema matching the JPA entities.
+-- Databases previously managed by hibernate.ddl-auto=update are baselined at this version.
+
+CREATE TABLE users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    username VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    affiliation VARCHAR(100) NOT NULL,
+    role ENUM('AUTHOR', 'EDITOR', 'REVIEWER', 'ADMIN') NOT NULL,
+    bio VARCHAR(500),
+    is_active BOOLEAN DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE papers (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    abstract_text LONGTEXT,
+    content LONGTEXT,
+    author_id BIGINT NOT NULL,
+    status ENUM('SUBMITTED', 'UNDER_REVIEW', 'REVISION_REQUESTED', 'ACCEPTED', 'REJECTED', 'PUBLISHED', 'ARCHIVED') NOT NULL,
+    plagiarism_score DOUBLE,
+    plagiarism_checked BOOLEAN DEFAULT FALSE,
+    submitted_at DATETIME(6) NOT NULL,
+    accepted_at DATETIME(6),
+    rejected_at DATETIME(6),
+    published_at DATETIME(6),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    CONSTRAINT fk_papers_author FOREIGN KEY (author_id) REFERENCES users (id)
+);
+
+CREATE TABLE reviews (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    paper_id BIGINT NOT NULL,
+    reviewer_id BIGINT NOT NULL,
+    status ENUM('PENDING', 'SUBMITTED', 'ACCEPTED', 'DECLINED') NOT NULL,
+    comments LONGTEXT,
+    overall_rating INT,
+    technical_quality_rating INT,
+    clarity_rating INT,
+    originality_rating INT,
+    significance_rating INT,
+    submitted_at DATETIME(6),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    CONSTRAINT fk_reviews_paper FOREIGN KEY (paper_id) REFERENCES papers (id),
+    CONSTRAINT fk_reviews_reviewer FOREIGN KEY (reviewer_id) REFERENCES users (id),
+    CONSTRAINT ck_reviews_overall_rating CHECK (overall_rating BETWEEN 1 AND 10),
+    CONSTRAINT ck_reviews_technical_quality_rating CHECK (technical_quality_rating BETWEEN 1 AND 10),
+    CONSTRAINT ck_reviews_clarity_rating CHECK (clarity_rating BETWEEN 1 AND 10),
+    CONSTRAINT ck_reviews_originality_rating CHECK (originality_rating BETWEEN 1 AND 10),
+    CONSTRAINT ck_reviews_significance_rating CHECK (significance_rating BETWEEN 1 AND 10)
+);
+
+CREATE TABLE revisions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    paper_id BIGINT NOT NULL,
+    revision_number INT NOT NULL,
+    content LONGTEXT,
+    changes_summary LONGTEXT,
+    submitted_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    CONSTRAINT fk_revisions_paper FOREIGN KEY (paper_id) REFERENCES papers (id)
+);
+
+CREATE TABLE outbox_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type ENUM('PAPER_STATUS_CHANGED', 'REVIEW_SUBMITTED', 'REVIEW_STATUS_CHANGED', 'REVISION_SUBMITTED') NOT NULL,
+    recipient_user_id BIGINT,
+    audience_role ENUM('AUTHOR', 'EDITOR', 'REVIEWER', 'ADMIN'),
+    payload VARCHAR(1000) NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,24 @@
+-- One index per repository access path; equality columns first, then the ORDER BY column,
+-- so both the lookup and the sort are served by the index.
+
+-- PaperRepository.findByAuthorId, findAuthorPapersOrderBySubmittedAtDesc
+CREATE INDEX idx_papers_author_submitted ON papers (author_id, submitted_at);
+-- PaperRepository.findByStatus, findByStatusOrderBySubmittedAtDesc
+CREATE INDEX idx_papers_status_submitted ON papers (status, submitted_at);
+-- PaperRepository.findAllByOrderByCreatedAtDesc
+CREATE INDEX idx_papers_created_at ON papers (created_at);
+
+-- ReviewRepository.findByPaperId, findByPaperIdAndStatus
+CREATE INDEX idx_reviews_paper_status ON reviews (paper_id, status);
+-- ReviewRepository.findByReviewerId, findByReviewerIdAndStatus
+CREATE INDEX idx_reviews_reviewer_status ON reviews (reviewer_id, status);
+
+-- RevisionRepository.findByPaperId, findByPaperIdOrderByRevisionNumberDesc; also guards revision numbering
+CREATE UNIQUE INDEX uk_revisions_paper_number ON revisions (paper_id, revision_number);
+
+-- UserRepository.findByRole, findByIsActiveTrue (findByEmail/findByUsername use the unique keys)
+CREATE INDEX idx_users_role ON users (role);
+CREATE INDEX idx_users_is_active ON users (is_active);
+
+-- OutboxEventRepository.deleteCreatedBefore (the poller reads by primary key)
+CREATE INDEX idx_outbox_events_created_at ON outbox_events (created_at);
@@ -0,0 +1,32 @@
+-- Durable queue for post-submission processing (ProcessingJobWorker)
+
+CREATE TABLE processing_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    idempotency_key VARCHAR(100) NOT NULL,
+    paper_id BIGINT NOT NULL,
+    revision_id BIGINT,
+    stage ENUM('TEXT_EXTRACTION', 'INDEXING', 'SIMILARITY_CHECK', 'NOTIFICATION') NOT NULL,
+    status ENUM('PENDING', 'RUNNING', 'SUCCEEDED', 'FAILED') NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    locked_by VARCHAR(100),
+    locked_until DATETIME(6),
+    last_error VARCHAR(1000),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    completed_at DATETIME(6),
+    CONSTRAINT uk_processing_jobs_idempotency_key UNIQUE (idempotency_key),
+    CONSTRAINT fk_processing_jobs_paper FOREIGN KEY (paper_id) REFERENCES papers (id) ON DELETE CASCADE,
+    CONSTRAINT fk_processing_jobs_revision FOREIGN KEY (revision_id) REFERENCES revisions (id) ON DELETE CASCADE
+);
+
+-- ProcessingJobRepository.findDueIds
+CREATE INDEX idx_processing_jobs_due ON processing_jobs (stage, status, next_attempt_at);
+-- ProcessingJobRepository.findByLockedBy
+CREATE INDEX idx_processing_jobs_locked_by ON processing_jobs (locked_by);
+-- ProcessingJobRepository.releaseExpiredLocks, countPendingByStage
+CREATE INDEX idx_processing_jobs_status_locked ON processing_jobs (status, locked_until);
+
+-- Submission notifications now come from the pipeline
+ALTER TABLE outbox_events MODIFY COLUMN event_type
+    ENUM('PAPER_SUBMITTED', 'PAPER_STATUS_CHANGED', 'REVIEW_SUBMITTED', 'REVIEW_STATUS_CHANGED', 'REVISION_SUBMITTED') NOT NULL;
@@ -0,0 +1,44 @@
+-- Chunked uploads into the content-addressed file store, linked to papers by reference
+
+CREATE TABLE stored_files (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    sha256 CHAR(64) NOT NULL,
+    size BIGINT NOT NULL,
+    content_type VARCHAR(100),
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_stored_files_sha256 UNIQUE (sha256)
+);
+
+CREATE TABLE upload_sessions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100),
+    total_size BIGINT NOT NULL,
+    received_bytes BIGINT NOT NULL DEFAULT 0,
+    expected_sha256 CHAR(64),
+    status ENUM('IN_PROGRESS', 'COMPLETED', 'ABORTED') NOT NULL,
+    stored_file_id BIGINT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    expires_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_upload_sessions_stored_file FOREIGN KEY (stored_file_id) REFERENCES stored_files (id)
+);
+
+-- UploadSessionRepository.findByStatusAndExpiresAtBefore
+CREATE INDEX idx_upload_sessions_status_expires ON upload_sessions (status, expires_at);
+
+CREATE TABLE paper_attachments (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    paper_id BIGINT NOT NULL,
+    revision_id BIGINT,
+    stored_file_id BIGINT NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    kind ENUM('MANUSCRIPT', 'SUPPLEMENTARY') NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_paper_attachments_paper FOREIGN KEY (paper_id) REFERENCES papers (id) ON DELETE CASCADE,
+    CONSTRAINT fk_paper_attachments_revision FOREIGN KEY (revision_id) REFERENCES revisions (id) ON DELETE CASCADE,
+    CONSTRAINT fk_paper_attachments_stored_file FOREIGN KEY (stored_file_id) REFERENCES stored_files (id)
+);
+
+-- PaperAttachmentRepository.findByPaperIdOrderByIdAsc
+CREATE INDEX idx_paper_attachments_paper ON paper_attachments (paper_id, id);
@@ -0,0 +1,44 @@
+-- Journals (tenants), user memberships and the journal discriminator on papers, reviews and revisions.
+-- With sharding enabled every shard runs these migrations, but only shard 0 (the directory)
+-- holds journals and memberships; journal_id carries no foreign key for that reason.
+
+CREATE TABLE journals (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    code VARCHAR(50) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    shard INT NOT NULL,
+    status ENUM('ACTIVE', 'READ_ONLY') NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    CONSTRAINT uk_journals_code UNIQUE (code)
+);
+
+-- Existing data belongs to the default journal
+INSERT INTO journals (id, code, name, shard, status, created_at)
+VALUES (1, 'default', 'Default Journal', 0, 'ACTIVE', CURRENT_TIMESTAMP(6));
+
+CREATE TABLE journal_memberships (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    journal_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    role ENUM('AUTHOR', 'EDITOR', 'REVIEWER', 'ADMIN') NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_journal_memberships_user_journal UNIQUE (user_id, journal_id),
+    CONSTRAINT fk_journal_memberships_journal FOREIGN KEY (journal_id) REFERENCES journals (id) ON DELETE CASCADE,
+    CONSTRAINT fk_journal_memberships_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+INSERT INTO journal_memberships (journal_id, user_id, role, created_at)
+SELECT 1, id, role, CURRENT_TIMESTAMP(6) FROM users;
+
+ALTER TABLE papers ADD COLUMN journal_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE reviews ADD COLUMN journal_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE revisions ADD COLUMN journal_id BIGINT NOT NULL DEFAULT 1;
+
+-- PaperRepository.findByStatus, findByStatusOrderBySubmittedAtDesc within a journal
+CREATE INDEX idx_papers_journal_status_submitted ON papers (journal_id, status, submitted_at);
+-- PaperRepository.findAllByOrderByCreatedAtDesc within a journal
+CREATE INDEX idx_papers_journal_created ON papers (journal_id, created_at);
+-- ShardRebalancer copies and deletes a journal's rows by journal_id
+CREATE INDEX idx_reviews_journal ON reviews (journal_id);
+CREATE INDEX idx_revisions_journal ON revisions (journal_id);
@@ -0,0 +1,21 @@
+-- Append-only audit trail of changes to papers, reviews, revisions and users, written in batches by AuditLog.
+-- occurred_at is part of the primary key so that MySQL can range-partition the table by month;
+-- AuditPartitionMaintainer does that on first start and keeps partitions ahead of time.
+
+CREATE TABLE audit_events (
+    id BIGINT AUTO_INCREMENT NOT NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    journal_id BIGINT,
+    entity_type ENUM('PAPER', 'REVIEW', 'REVISION', 'USER') NOT NULL,
+    entity_id BIGINT NOT NULL,
+    action VARCHAR(50) NOT NULL,
+    actor_user_id BIGINT,
+    actor_ip VARCHAR(45),
+    details VARCHAR(1000),
+    PRIMARY KEY (id, occurred_at)
+);
+
+-- AuditEventRepository.findByEntity
+CREATE INDEX idx_audit_events_journal_entity ON audit_events (journal_id, entity_type, entity_id, occurred_at);
+-- AuditEventRepository.findByEntityType
+CREATE INDEX idx_audit_events_journal_type ON audit_events (journal_id, entity_type, occurred_at);
@@ -0,0 +1,28 @@
+-- Review deadlines, and the claim rows that let exactly one pod run each reminder or overdue action
+-- (ReviewDeadlineScheduler). A claim commits with the action it claims, so a failed action can be retried.
+
+ALTER TABLE reviews ADD COLUMN due_at DATETIME(6);
+
+-- Startup rehydration of the timers of pending reviews
+CREATE INDEX idx_reviews_status_due ON reviews (status, due_at);
+-- Periodic pickup of deadlines set on other pods
+CREATE INDEX idx_reviews_updated ON reviews (updated_at);
+
+CREATE TABLE review_escalation_claims (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    journal_id BIGINT NOT NULL,
+    review_id BIGINT NOT NULL,
+    escalation ENUM('REMINDER', 'OVERDUE') NOT NULL,
+    due_at DATETIME(6) NOT NULL,
+    claimed_by VARCHAR(100) NOT NULL,
+    claimed_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_review_escalation_claims UNIQUE (review_id, escalation, due_at),
+    CONSTRAINT fk_review_escalation_claims_review FOREIGN KEY (review_id) REFERENCES reviews (id) ON DELETE CASCADE
+);
+
+-- ShardRebalancer copies and deletes a journal's claims by journal_id
+CREATE INDEX idx_review_escalation_claims_journal ON review_escalation_claims (journal_id);
+
+ALTER TABLE outbox_events MODIFY COLUMN event_type
+    ENUM('PAPER_SUBMITTED', 'PAPER_STATUS_CHANGED', 'REVIEW_SUBMITTED', 'REVIEW_STATUS_CHANGED', 'REVISION_SUBMITTED',
+         'REVIEW_ASSIGNED', 'REVIEW_REMINDER', 'REVIEW_OVERDUE') NOT NULL;
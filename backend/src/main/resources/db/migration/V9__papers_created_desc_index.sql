@@ -0,0 +1,5 @@
+-- PaperRepository.findRecentWithAuthor (admin listing across journals): newest papers first.
+-- Descending, so H2 reads it in ORDER BY created_at DESC order too; MySQL can scan either way.
+-- Replaces the ascending index from V2, which nothing else uses since V5's (journal_id, created_at)
+CREATE INDEX idx_papers_created_desc ON papers (created_at DESC);
+DROP INDEX idx_papers_created_at ON papers;
@@ -0,0 +1,57 @@
+package com.research.journal.config;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.function.Executable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the SQL statements a test issues through the datasource proxy {@link SqlGuardConfig}
+ * installs. Test methods take a {@link SqlStatements} parameter and wrap what they measure in
+ * {@link SqlStatements#count}; MockMvc requests run on the test thread, so every statement an
+ * endpoint issues is counted, alongside the request guard's own count and budget check.
+ */
+public class SqlStatementCountExtension implements ParameterResolver, AfterEachCallback {
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == SqlStatements.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return new SqlStatements();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlStatementCounter.detach();
+    }
+
+    public static final class SqlStatements {
+
+        private SqlStatements() {
+        }
+
+        public SqlStatementCounter.Counts count(Executable work) throws Throwable {
+            SqlStatementCounter.start();
+            try {
+                work.execute();
+            } catch (Throwable e) {
+                SqlStatementCounter.stop();
+                throw e;
+            }
+            return SqlStatementCounter.stop();
+        }
+
+        /** Fails unless the dataset of size n took as many statements as the one of size 1. */
+        public void assertSameCount(String endpoint, SqlStatementCounter.Counts one, SqlStatementCounter.Counts n) {
+            assertTrue(one.total() > 0, () -> endpoint + " issued no statements through the proxy");
+            assertEquals(one.total(), n.total(), () -> endpoint + " grows with its dataset: "
+                    + one + " at size 1, " + n + " at size N; statements at size N: " + n.statements());
+        }
+    }
+}
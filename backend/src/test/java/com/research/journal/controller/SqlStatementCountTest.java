@@ -0,0 +1,302 @@
+package com.research.journal.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.research.journal.config.SqlStatementCountExtension;
+import com.research.journal.config.SqlStatementCountExtension.SqlStatements;
+import com.research.journal.config.SqlStatementCounter;
+import com.research.journal.entity.Review;
+import com.research.journal.entity.ReviewStatus;
+import com.research.journal.repository.PaperRepository;
+import com.research.journal.repository.ReviewRepository;
+import com.research.journal.repository.UserRepository;
+import com.research.journal.tenancy.JournalContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs each endpoint over a dataset of one row and over one of {@link #N} rows (a paper's
+ * reviews or revisions, a reviewer's reviews, the journal's papers or users) and fails if they
+ * take a different number of statements (an N+1 through a lazy association). The guard runs in
+ * FAIL mode, so going over a budget fails the request too.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ExtendWith(SqlStatementCountExtension.class)
+class SqlStatementCountTest {
+
+    private static final int N = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Value("${journal.tenancy.default-journal-id}")
+    private Long journalId;
+
+    private final List<Long> reviewerIds = new ArrayList<>();
+
+    // Papers and revisions are submitted as user 1 until the controllers read the token. Reviews
+    // are saved directly, one reviewer each, so a per-review reviewer load cannot hide in the cache
+    @BeforeEach
+    void registerUsers() throws Exception {
+        register("n-plus-one", "AUTHOR");
+        for (int i = 0; i < N; i++) {
+            reviewerIds.add(register("n-plus-one-reviewer" + i, "REVIEWER"));
+        }
+    }
+
+    @Test
+    void reviewsByPaper(SqlStatements sql) throws Throwable {
+        long one = paperWith(1, 0);
+        long many = paperWith(N, 0);
+        sql.assertSameCount("ReviewController.getReviewsByPaper",
+                count(sql, "/api/reviews/paper/" + one), count(sql, "/api/reviews/paper/" + many));
+    }
+
+    @Test
+    void revisionsByPaper(SqlStatements sql) throws Throwable {
+        long one = paperWith(0, 1);
+        long many = paperWith(0, N);
+        sql.assertSameCount("RevisionController.getRevisionsByPaper",
+                count(sql, "/api/revisions/paper/" + one), count(sql, "/api/revisions/paper/" + many));
+        sql.assertSameCount("RevisionController.getRevisionsByPaperOrdered",
+                count(sql, "/api/revisions/paper/" + one + "/ordered"),
+                count(sql, "/api/revisions/paper/" + many + "/ordered"));
+    }
+
+    @Test
+    void paperDetails(SqlStatements sql) throws Throwable {
+        long one = paperWith(1, 1);
+        long many = paperWith(N, N);
+        sql.assertSameCount("PaperController.getPaperDetails",
+                count(sql, "/api/papers/" + one + "/full"), count(sql, "/api/papers/" + many + "/full"));
+    }
+
+    @Test
+    void allPapers(SqlStatements sql) throws Throwable {
+        paperWith(1, 1);
+        SqlStatementCounter.Counts before = count(sql, "/api/papers");
+        for (int i = 0; i < N; i++) {
+            paperWith(1, 1);
+        }
+        sql.assertSameCount("PaperController.getAllPapers", before, count(sql, "/api/papers"));
+    }
+
+    @Test
+    void papersByAuthorAndStatus(SqlStatements sql) throws Throwable {
+        JsonNode paper = submit("/api/papers", paperBody());
+        Long authorId = JournalContext.callAs(journalId,
+                () -> paperRepository.findById(paper.get("id").asLong()).orElseThrow().getAuthor().getId());
+        String byAuthor = "/api/papers/author/" + authorId;
+        String byStatus = "/api/papers/status/" + paper.get("status").asText();
+        SqlStatementCounter.Counts authorBefore = count(sql, byAuthor);
+        SqlStatementCounter.Counts statusBefore = count(sql, byStatus);
+        for (int i = 0; i < N; i++) {
+            paperWith(1, 1);
+        }
+        sql.assertSameCount("PaperController.getPapersByAuthor", authorBefore, count(sql, byAuthor));
+        sql.assertSameCount("PaperController.getPapersByStatus", statusBefore, count(sql, byStatus));
+    }
+
+    @Test
+    void pendingReviews(SqlStatements sql) throws Throwable {
+        long one = register("n-plus-one-pending-one", "REVIEWER");
+        long many = register("n-plus-one-pending-many", "REVIEWER");
+        review(paperWith(0, 0), one, ReviewStatus.PENDING);
+        for (int i = 0; i < N; i++) {
+            review(paperWith(0, 0), many, ReviewStatus.PENDING);
+        }
+        sql.assertSameCount("ReviewController.getPendingReviews",
+                count(sql, "/api/reviews/reviewer/" + one + "/pending"),
+                count(sql, "/api/reviews/reviewer/" + many + "/pending"));
+    }
+
+    @Test
+    void registerAndLogin(SqlStatements sql) throws Throwable {
+        SqlStatementCounter.Counts registerBefore = count(sql,
+                json(post("/api/auth/register"), registration("n-plus-one-register-first", "AUTHOR")));
+        for (int i = 0; i < N; i++) {
+            register("n-plus-one-register" + i, "AUTHOR");
+        }
+        sql.assertSameCount("AuthController.register", registerBefore, count(sql,
+                json(post("/api/auth/register"), registration("n-plus-one-register-last", "AUTHOR"))));
+
+        long one = register("n-plus-one-login-one", "REVIEWER");
+        long many = register("n-plus-one-login-many", "REVIEWER");
+        review(paperWith(0, 0), one, ReviewStatus.PENDING);
+        for (int i = 0; i < N; i++) {
+            review(paperWith(0, 0), many, ReviewStatus.PENDING);
+        }
+        sql.assertSameCount("AuthController.login",
+                count(sql, login("n-plus-one-login-one")), count(sql, login("n-plus-one-login-many")));
+    }
+
+    @Test
+    void singleResources(SqlStatements sql) throws Throwable {
+        long one = paperWith(1, 1);
+        long many = paperWith(N, N);
+        sql.assertSameCount("PaperController.getPaper",
+                count(sql, "/api/papers/" + one), count(sql, "/api/papers/" + many));
+        sql.assertSameCount("ReviewController.getReview",
+                count(sql, "/api/reviews/" + reviewIds(one).get(0)),
+                count(sql, "/api/reviews/" + reviewIds(many).get(0)));
+        sql.assertSameCount("RevisionController.getRevision",
+                count(sql, "/api/revisions/" + revision(one)), count(sql, "/api/revisions/" + revision(many)));
+    }
+
+    @Test
+    void writes(SqlStatements sql) throws Throwable {
+        SqlStatementCounter.Counts submitBefore = count(sql, json(post("/api/papers"), paperBody()));
+        for (int i = 0; i < N; i++) {
+            paperWith(0, 0);
+        }
+        sql.assertSameCount("PaperController.submitPaper",
+                submitBefore, count(sql, json(post("/api/papers"), paperBody())));
+
+        long one = paperWith(1, 1);
+        long many = paperWith(N, N);
+        sql.assertSameCount("ReviewController.submitReview",
+                count(sql, json(post("/api/reviews"), reviewBody(one))),
+                count(sql, json(post("/api/reviews"), reviewBody(many))));
+        sql.assertSameCount("RevisionController.submitRevision",
+                count(sql, json(post("/api/revisions"), revisionBody(one))),
+                count(sql, json(post("/api/revisions"), revisionBody(many))));
+        sql.assertSameCount("PaperController.updatePaperStatus",
+                count(sql, put("/api/papers/" + one + "/status").param("status", "UNDER_REVIEW")),
+                count(sql, put("/api/papers/" + many + "/status").param("status", "UNDER_REVIEW")));
+        sql.assertSameCount("PaperController.setPlagiarismScore",
+                count(sql, put("/api/papers/" + one + "/plagiarism").param("score", "12.5")),
+                count(sql, put("/api/papers/" + many + "/plagiarism").param("score", "12.5")));
+        sql.assertSameCount("ReviewController.updateReviewStatus",
+                count(sql, put("/api/reviews/" + reviewIds(one).get(0) + "/status").param("status", "ACCEPTED")),
+                count(sql, put("/api/reviews/" + reviewIds(many).get(0) + "/status").param("status", "ACCEPTED")));
+
+        long reviewerId = register("n-plus-one-deadline", "REVIEWER");
+        long pendingOne = review(paperWith(0, 0), reviewerId, ReviewStatus.PENDING);
+        long pendingMany = review(paperWith(N, 0), reviewerId, ReviewStatus.PENDING);
+        String dueAt = LocalDateTime.now().plusDays(7).withNano(0).toString();
+        sql.assertSameCount("ReviewController.setDeadline",
+                count(sql, put("/api/reviews/" + pendingOne + "/deadline").param("dueAt", dueAt)),
+                count(sql, put("/api/reviews/" + pendingMany + "/deadline").param("dueAt", dueAt)));
+    }
+
+    private SqlStatementCounter.Counts count(SqlStatements sql, String path) throws Throwable {
+        return sql.count(() -> mockMvc.perform(get(path)).andExpect(status().isOk()));
+    }
+
+    private SqlStatementCounter.Counts count(SqlStatements sql, MockHttpServletRequestBuilder request) throws Throwable {
+        return sql.count(() -> mockMvc.perform(request).andExpect(status().is2xxSuccessful()));
+    }
+
+    private long paperWith(int reviews, int revisions) throws Exception {
+        long paperId = submit("/api/papers", paperBody()).get("id").asLong();
+        for (int i = 0; i < reviews; i++) {
+            review(paperId, reviewerIds.get(i), ReviewStatus.SUBMITTED);
+        }
+        for (int i = 0; i < revisions; i++) {
+            revision(paperId);
+        }
+        return paperId;
+    }
+
+    private long review(long paperId, long reviewerId, ReviewStatus status) {
+        return JournalContext.callAs(journalId, () -> reviewRepository.save(Review.builder()
+                .paper(paperRepository.getReferenceById(paperId))
+                .reviewer(userRepository.getReferenceById(reviewerId))
+                .status(status)
+                .comments("Review by " + reviewerId)
+                .overallRating(7)
+                .submittedAt(status == ReviewStatus.PENDING ? null : LocalDateTime.now())
+                .build())).getId();
+    }
+
+    private List<Long> reviewIds(long paperId) throws Exception {
+        JsonNode reviews = objectMapper.readTree(mockMvc.perform(get("/api/reviews/paper/" + paperId))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString());
+        List<Long> ids = new ArrayList<>();
+        reviews.forEach(review -> ids.add(review.get("id").asLong()));
+        return ids;
+    }
+
+    private long revision(long paperId) throws Exception {
+        return submit("/api/revisions", revisionBody(paperId)).get("id").asLong();
+    }
+
+    private static Map<String, ?> paperBody() {
+        return Map.of(
+                "title", "Counting statements",
+                "abstractText", "Whether a listing issues one query per row.",
+                "content", "Body of the manuscript.");
+    }
+
+    private static Map<String, ?> reviewBody(long paperId) {
+        return Map.of("paperId", paperId, "comments", "Sound method.", "overallRating", 8);
+    }
+
+    private static Map<String, ?> revisionBody(long paperId) {
+        return Map.of("paperId", paperId, "content", "Revised body", "changesSummary", "Revised");
+    }
+
+    private MockHttpServletRequestBuilder login(String name) throws Exception {
+        return json(post("/api/auth/login"), Map.of("email", name + "@example.org", "password", "correct-horse-battery"));
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, Map<String, ?> body) throws Exception {
+        return request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+    }
+
+    // Registers the user unless an earlier test did
+    private long register(String name, String role) throws Exception {
+        mockMvc.perform(json(post("/api/auth/register"), registration(name, role)));
+        return userRepository.findByEmail(name + "@example.org").orElseThrow().getId();
+    }
+
+    private static Map<String, ?> registration(String name, String role) {
+        return Map.of(
+                "email", name + "@example.org",
+                "username", name,
+                "password", "correct-horse-battery",
+                "firstName", "Statement",
+                "lastName", "Counter",
+                "affiliation", "Test Institute",
+                "role", role);
+    }
+
+    private JsonNode submit(String path, Map<String, ?> body) throws Exception {
+        MvcResult result = mockMvc.perform(json(post(path), body))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,525 @@
+package com.research.journal.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.util.ReflectionUtils;
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Seeds a few thousand rows, drives every endpoint and runs every scheduled job once, recording
+ * each distinct SELECT, UPDATE and DELETE the application issues through the datasource proxy
+ * along with its first parameters. Each one is then explained against the seeded tables: the
+ * test fails when a statement reads more than {@link #MAX_ROWS} rows of a table without an index
+ * condition, or sorts that many rows instead of reading them in index order.
+ *
+ * Runs against in-memory H2, where EXPLAIN ANALYZE reports the rows each table access read. Pass
+ * {@code -Dspring.datasource.url=jdbc:mysql://localhost:3306/plancheck} (and the username,
+ * password, driver and dialect) to check a scratch MySQL database instead, judged on EXPLAIN's
+ * row estimates; it inserts rows.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "plans"})
+class QueryPlanTest {
+
+    private static final int USERS = 200;
+    private static final int PAPERS = 5_000;
+    private static final int JOURNALS = 4;
+    // A fifth of the papers: below it a scan or sort is cheap whatever the plan
+    private static final int MAX_ROWS = 1_000;
+
+    private static final String[] PAPER_STATUSES = {
+            "SUBMITTED", "UNDER_REVIEW", "REVISION_REQUESTED", "ACCEPTED", "REJECTED", "PUBLISHED", "ARCHIVED"};
+    private static final String[] REVIEW_STATUSES = {"PENDING", "SUBMITTED", "ACCEPTED", "DECLINED"};
+
+    // Methods that read everything on purpose, and why
+    private static final Map<String, String> FULL_READS = Map.of(
+            "PaperService.writeAllPapersOrderedBySubmission", "unbounded listing of the journal's papers",
+            "SimilarPaperService.rebuild", "indexes every paper of the shard once per rebuild interval");
+
+    // "/* public.idx_name: condition */" or "/* public.table.tableScan */", then the rows it read
+    private static final Pattern H2_ACCESS = Pattern.compile(
+            "/\\*\\s*(\\w+\\.[\\w.]+)\\s*(:(?:(?!\\*/).)*)?\\*/(?:(?!scanCount|/\\*\\s*\\w+\\.\\w).)*/\\* scanCount: (\\d+) \\*/", Pattern.DOTALL);
+
+    private static final Map<String, Statement> CAPTURED = new ConcurrentHashMap<>();
+    private static volatile boolean capturing = true;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private record Statement(List<String> callers, String sql, List<ParameterSetOperation> parameters) {
+
+        String caller() {
+            return callers.get(0);
+        }
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        // Installed while the context starts, so the statements of startup jobs are seen too
+        @Bean
+        static BeanPostProcessor planCapturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof ProxyDataSource proxy) {
+                        proxy.getProxyConfig().getQueryListener().addListener(new CapturingListener());
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    private static final class CapturingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (!capturing || !execInfo.isSuccess()) {
+                return;
+            }
+            for (QueryInfo queryInfo : queryInfoList) {
+                String sql = queryInfo.getQuery().strip();
+                String verb = sql.length() >= 6 ? sql.substring(0, 6).toLowerCase(Locale.ROOT) : "";
+                if (!Set.of("select", "update", "delete").contains(verb)) {
+                    continue;
+                }
+                List<String> callers = callers();
+                if (callers.isEmpty()) {
+                    continue;
+                }
+                List<ParameterSetOperation> parameters = queryInfo.getParametersList().isEmpty()
+                        ? List.of() : List.copyOf(queryInfo.getParametersList().get(0));
+                CAPTURED.putIfAbsent(callers.get(0) + "\n" + sql, new Statement(callers, sql, parameters));
+            }
+        }
+
+        // The application methods on the stack, innermost first: the repository method if there is
+        // one, then the callers below the JDBC wrappers
+        private static List<String> callers() {
+            return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).walk(frames -> {
+                List<String> callers = new ArrayList<>();
+                for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                    Class<?> type = frame.getDeclaringClass();
+                    if (Proxy.isProxyClass(type)) {
+                        for (Class<?> repository : type.getInterfaces()) {
+                            if (repository.getPackageName().equals(QueryPlanTest.class.getPackageName())) {
+                                callers.add(0, repository.getSimpleName() + "." + frame.getMethodName());
+                            }
+                        }
+                    }
+                    String name = type.getName();
+                    if (name.startsWith("com.research.journal.") && !name.contains("$$SpringCGLIB$$")
+                            && !name.startsWith("com.research.journal.config.")
+                            && !name.startsWith("com.research.journal.tracing.")
+                            && !name.contains("DataSource") && !name.startsWith(QueryPlanTest.class.getName())) {
+                        callers.add(type.getSimpleName() + "." + frame.getMethodName());
+                    }
+                }
+                return callers;
+            });
+        }
+    }
+
+    @Test
+    void repositoryQueriesUseIndexes() throws Exception {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        capturing = false;
+        long firstUser;
+        long firstPaper;
+        long firstReview;
+        try {
+            seed(jdbc);
+            firstUser = jdbc.queryForObject("SELECT MIN(id) FROM users WHERE username LIKE 'plancheck-user-%'", Long.class);
+            firstPaper = jdbc.queryForObject("SELECT MIN(id) FROM papers WHERE title LIKE 'Paper %'", Long.class);
+            firstReview = jdbc.queryForObject("SELECT MIN(id) FROM reviews", Long.class);
+        } finally {
+            capturing = true;
+        }
+        boolean mysql;
+        try (Connection connection = dataSource.getConnection()) {
+            mysql = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+        }
+        if (mysql) {
+            jdbc.execute("ANALYZE TABLE users, papers, reviews, revisions, outbox_events, processing_jobs, "
+                    + "stored_files, upload_sessions, paper_attachments, journals, journal_memberships, analytics_rollups, audit_events");
+        }
+
+        exercise(firstUser, firstPaper, firstReview);
+        runScheduledJobs();
+        capturing = false;
+
+        List<String> violations = new ArrayList<>();
+        Map<String, Statement> statements = new TreeMap<>(CAPTURED);
+        for (Statement statement : statements.values()) {
+            List<String> found = mysql ? checkMySql(statement) : checkH2(statement);
+            if (statement.callers().stream().anyMatch(FULL_READS::containsKey)) {
+                continue;
+            }
+            found.forEach(violation -> violations.add(statement.caller() + " " + violation + ":\n    " + statement.sql()));
+        }
+        assertTrue(violations.isEmpty(), () -> "Statements without a usable index:\n" + String.join("\n", violations));
+    }
+
+    // Every endpoint once, with ids the seed or earlier calls created
+    private void exercise(long firstUser, long firstPaper, long firstReview) throws Exception {
+        JsonNode author = send(post("/api/auth/register"), Map.of(
+                "email", "plan-author@example.org", "username", "plan-author", "password", "correct-horse-battery",
+                "firstName", "Plan", "lastName", "Author", "affiliation", "Test Institute", "role", "AUTHOR"));
+        long authorId = author.has("id") ? author.get("id").asLong() : author.at("/user/id").asLong();
+        String token = send(post("/api/auth/login"), Map.of(
+                "email", "plan-author@example.org", "password", "correct-horse-battery")).get("token").asText();
+        perform(get("/api/auth/validate").param("token", token));
+        perform(get("/api/journals"));
+        perform(get("/api/journals/2"));
+        long journalId = send(post("/api/journals"), Map.of("code", "plan-journal", "name", "Plan Journal")).get("id").asLong();
+        perform(post("/api/journals/" + journalId + "/members").param("userId", String.valueOf(authorId)).param("role", "AUTHOR"));
+        perform(post("/api/journals/2/members").param("userId", String.valueOf(authorId)).param("role", "AUTHOR"));
+        send(post("/api/auth/login"), Map.of(
+                "email", "plan-author@example.org", "password", "correct-horse-battery", "journal", "plancheck-2"));
+
+        long paperId = send(post("/api/papers"), Map.of("title", "Explaining plans",
+                "abstractText", "Which queries read whole tables.", "content", "Body of the manuscript.")).get("id").asLong();
+        for (String path : List.of("/api/papers/" + paperId, "/api/papers/" + paperId + "/full",
+                "/api/papers/" + paperId + "/similar", "/api/papers/author/" + firstUser, "/api/papers/status/PUBLISHED",
+                "/api/papers")) {
+            perform(get(path));
+            perform(get(path).param("fields", "id,title,status"));
+        }
+        perform(put("/api/papers/" + paperId + "/status").param("status", "UNDER_REVIEW"));
+        perform(put("/api/papers/" + paperId + "/plagiarism").param("score", "0.1"));
+
+        long reviewId = send(post("/api/reviews"), Map.of("paperId", paperId, "comments", "Sound.", "overallRating", 7))
+                .get("id").asLong();
+        long reviewer = firstUser + 5;
+        for (String path : List.of("/api/reviews/" + reviewId, "/api/reviews/paper/" + paperId,
+                "/api/reviews/reviewer/" + reviewer, "/api/reviews/reviewer/" + reviewer + "/pending")) {
+            perform(get(path));
+            perform(get(path).param("fields", "id,overallRating"));
+        }
+        // The first seeded review is pending, in journal 1
+        perform(put("/api/reviews/" + firstReview + "/deadline")
+                .param("dueAt", LocalDateTime.now().plusDays(7).truncatedTo(ChronoUnit.SECONDS).toString()));
+        perform(put("/api/reviews/" + reviewId + "/status").param("status", "ACCEPTED"));
+
+        long revisionId = 0;
+        for (int i = 1; i <= 2; i++) {
+            revisionId = send(post("/api/revisions"), Map.of("paperId", paperId, "content", "Revision " + i + "\nof the body",
+                    "changesSummary", "Revision " + i)).get("id").asLong();
+        }
+        for (String path : List.of("/api/revisions/" + revisionId, "/api/revisions/paper/" + paperId,
+                "/api/revisions/paper/" + paperId + "/ordered")) {
+            perform(get(path));
+            perform(get(path).param("fields", "id,revisionNumber"));
+        }
+        perform(get("/api/revisions/paper/" + paperId + "/diff").param("from", "1").param("to", "2"));
+
+        byte[] content = "%PDF-1.4 plan check".getBytes(StandardCharsets.UTF_8);
+        long uploadId = send(post("/api/uploads"), Map.of("fileName", "plan.pdf", "contentType", "application/pdf",
+                "totalSize", content.length)).get("id").asLong();
+        perform(put("/api/uploads/" + uploadId).param("offset", "0")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM).content(content));
+        perform(get("/api/uploads/" + uploadId));
+        perform(post("/api/uploads/" + uploadId + "/complete"));
+        long attachmentId = send(post("/api/papers/" + paperId + "/attachments"),
+                Map.of("uploadId", uploadId, "kind", "MANUSCRIPT")).get("id").asLong();
+        perform(get("/api/papers/" + paperId + "/attachments"));
+        perform(get("/api/attachments/" + attachmentId + "/content"));
+        long abandoned = send(post("/api/uploads"), Map.of("fileName", "draft.pdf", "totalSize", 1024)).get("id").asLong();
+        perform(delete("/api/uploads/" + abandoned));
+
+        perform(get("/api/jobs/1"));
+        perform(get("/api/admin/papers"));
+        perform(get("/api/admin/papers").param("status", "PUBLISHED"));
+        String from = LocalDateTime.now().minusDays(30).truncatedTo(ChronoUnit.DAYS).toString();
+        String to = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).toString();
+        perform(get("/api/analytics/series").param("from", from).param("to", to));
+        perform(get("/api/analytics/series").param("from", to).param("to", LocalDateTime.now().plusDays(1)
+                .truncatedTo(ChronoUnit.DAYS).toString()).param("interval", "HOUR"));
+        perform(get("/api/analytics/summary").param("from", from).param("to", to));
+        perform(post("/api/analytics/backfill").param("from", LocalDateTime.now().minusDays(2).truncatedTo(ChronoUnit.DAYS).toString())
+                .param("to", LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.DAYS).toString()));
+        perform(get("/api/analytics/backfill"));
+        perform(get("/api/audit").param("entityType", "PAPER").param("entityId", String.valueOf(firstPaper)));
+        perform(get("/api/audit").param("entityType", "REVIEW"));
+        perform(get("/api/debug/users"));
+        perform(get("/api/debug/users").param("fields", "id,email"));
+
+        perform(delete("/api/revisions/" + revisionId));
+        perform(delete("/api/reviews/" + reviewId));
+        perform(delete("/api/papers/" + paperId));
+    }
+
+    // The scheduled jobs also ran at startup, but against empty tables and so on other branches
+    private void runScheduledJobs() {
+        for (String name : applicationContext.getBeanDefinitionNames()) {
+            Object bean = applicationContext.getBean(name);
+            Class<?> type = AopUtils.getTargetClass(bean);
+            if (!type.getName().startsWith("com.research.journal.")) {
+                continue;
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.getParameterCount() == 0 && AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)) {
+                    ReflectionUtils.makeAccessible(method);
+                    ReflectionUtils.invokeMethod(method, bean);
+                }
+            }
+        }
+    }
+
+    private List<String> checkH2(Statement statement) throws Exception {
+        String plan = explain("EXPLAIN ANALYZE ", statement).get(0).values().iterator().next().toString();
+        List<String> violations = new ArrayList<>();
+        Matcher access = H2_ACCESS.matcher(plan);
+        long driving = -1;
+        while (access.find()) {
+            long rows = Long.parseLong(access.group(3));
+            driving = driving < 0 ? rows : driving;
+            boolean full = access.group(1).endsWith(".tableScan") || access.group(2) == null;
+            if (full && rows > MAX_ROWS) {
+                violations.add("reads " + rows + " rows through " + access.group(1));
+            }
+        }
+        if (plan.contains("\nORDER BY") && !plan.contains("/* index sorted */") && driving > MAX_ROWS) {
+            violations.add("sorts " + driving + " rows without an index");
+        }
+        return violations;
+    }
+
+    private List<String> checkMySql(Statement statement) throws Exception {
+        List<String> violations = new ArrayList<>();
+        for (Map<String, Object> row : explain("EXPLAIN ", statement)) {
+            String type = String.valueOf(row.get("type"));
+            String extra = String.valueOf(row.get("Extra"));
+            long rows = row.get("rows") == null ? 0 : ((Number) row.get("rows")).longValue();
+            if ("ALL".equals(type) && rows > MAX_ROWS) {
+                violations.add("scans about " + rows + " rows of " + row.get("table"));
+            }
+            if (extra.contains("Using filesort") && rows > MAX_ROWS) {
+                violations.add("sorts about " + rows + " rows of " + row.get("table") + " without an index");
+            }
+        }
+        return violations;
+    }
+
+    // Rolls back afterwards, as EXPLAIN ANALYZE runs the statement
+    private List<Map<String, Object>> explain(String prefix, Statement statement) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(false);
+                try (PreparedStatement explain = connection.prepareStatement(prefix + statement.sql())) {
+                    for (ParameterSetOperation parameter : statement.parameters()) {
+                        parameter.getMethod().invoke(explain, parameter.getArgs());
+                    }
+                    List<Map<String, Object>> result = new ArrayList<>();
+                    try (ResultSet rows = explain.executeQuery()) {
+                        while (rows.next()) {
+                            Map<String, Object> row = new LinkedHashMap<>();
+                            for (int i = 1; i <= rows.getMetaData().getColumnCount(); i++) {
+                                row.put(rows.getMetaData().getColumnLabel(i), rows.getObject(i));
+                            }
+                            result.add(row);
+                        }
+                    }
+                    return result;
+                } finally {
+                    connection.rollback();
+                }
+            } catch (SQLException e) {
+                // A scheduled job may hold a lock on the rows for a moment
+                if (attempt == 5) {
+                    throw e;
+                }
+                Thread.sleep(200);
+            }
+        }
+    }
+
+    private void perform(MockHttpServletRequestBuilder request) throws Exception {
+        mockMvc.perform(request.header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    private JsonNode send(MockHttpServletRequestBuilder request, Map<String, ?> body) throws Exception {
+        MvcResult result = mockMvc.perform(request.contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            String role = i % 50 == 0 ? "EDITOR" : i % 5 == 0 ? "REVIEWER" : "AUTHOR";
+            users.add(new Object[]{"plancheck-user-" + i, "plancheck-user-" + i + "@example.org", role, i % 40 != 0, now});
+        }
+        jdbc.batchUpdate("INSERT INTO users (username, email, password, first_name, last_name, affiliation, role, is_active, created_at) "
+                + "VALUES (?, ?, 'x', 'Plan', 'Check', 'Plan Check', ?, ?, ?)", users);
+        long firstUser = jdbc.queryForObject("SELECT MIN(id) FROM users WHERE username LIKE 'plancheck-user-%'", Long.class);
+
+        List<Object[]> journals = new ArrayList<>(JOURNALS - 1);
+        for (int j = 2; j <= JOURNALS; j++) {
+            journals.add(new Object[]{j, "plancheck-" + j, "Plan Check " + j, now});
+        }
+        jdbc.batchUpdate("INSERT INTO journals (id, code, name, shard, status, created_at) VALUES (?, ?, ?, 0, 'ACTIVE', ?)", journals);
+        List<Object[]> memberships = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            memberships.add(new Object[]{2 + i % (JOURNALS - 1), firstUser + i, now});
+        }
+        jdbc.batchUpdate("INSERT INTO journal_memberships (journal_id, user_id, role, created_at) VALUES (?, ?, 'AUTHOR', ?)", memberships);
+
+        List<Object[]> papers = new ArrayList<>(PAPERS);
+        for (int i = 0; i < PAPERS; i++) {
+            Timestamp at = Timestamp.valueOf(LocalDateTime.now().minusMinutes(i));
+            papers.add(new Object[]{1 + i % JOURNALS, "Paper " + i, firstUser + i % USERS,
+                    PAPER_STATUSES[i % PAPER_STATUSES.length], at, at});
+        }
+        jdbc.batchUpdate("INSERT INTO papers (journal_id, title, author_id, status, submitted_at, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", papers);
+        long firstPaper = jdbc.queryForObject("SELECT MIN(id) FROM papers WHERE title LIKE 'Paper %'", Long.class);
+
+        List<Object[]> reviews = new ArrayList<>(PAPERS * 2);
+        List<Object[]> revisions = new ArrayList<>(PAPERS * 2);
+        List<Object[]> events = new ArrayList<>(PAPERS);
+        for (int i = 0; i < PAPERS; i++) {
+            long paperId = firstPaper + i;
+            int journalId = 1 + i % JOURNALS;
+            for (int r = 0; r < 2; r++) {
+                reviews.add(new Object[]{journalId, paperId, firstUser + (i + r * 7) % USERS,
+                        REVIEW_STATUSES[(i + r) % REVIEW_STATUSES.length], now});
+                revisions.add(new Object[]{journalId, paperId, r + 1, now, now});
+            }
+            events.add(new Object[]{"PAPER_STATUS_CHANGED", firstUser + i % USERS, "{}", now});
+        }
+        jdbc.batchUpdate("INSERT INTO reviews (journal_id, paper_id, reviewer_id, status, created_at) VALUES (?, ?, ?, ?, ?)", reviews);
+        jdbc.batchUpdate("INSERT INTO revisions (journal_id, paper_id, revision_number, submitted_at, created_at) "
+                + "VALUES (?, ?, ?, ?, ?)", revisions);
+        jdbc.batchUpdate("INSERT INTO outbox_events (event_type, recipient_user_id, payload, created_at) VALUES (?, ?, ?, ?)", events);
+
+        List<Object[]> jobs = new ArrayList<>(PAPERS);
+        for (int i = 0; i < PAPERS; i++) {
+            String status = i % 50 == 0 ? "PENDING" : "SUCCEEDED";
+            jobs.add(new Object[]{"plancheck:" + (firstPaper + i), firstPaper + i, status, now, now});
+        }
+        jdbc.batchUpdate("INSERT INTO processing_jobs (idempotency_key, paper_id, stage, status, next_attempt_at, created_at) "
+                + "VALUES (?, ?, 'NOTIFICATION', ?, ?, ?)", jobs);
+
+        List<Object[]> files = new ArrayList<>(PAPERS);
+        for (int i = 0; i < PAPERS; i++) {
+            files.add(new Object[]{"%064x".formatted(i), 1024L + i, now});
+        }
+        jdbc.batchUpdate("INSERT INTO stored_files (sha256, size, content_type, created_at) VALUES (?, ?, 'application/pdf', ?)", files);
+        long firstFile = jdbc.queryForObject("SELECT MIN(id) FROM stored_files", Long.class);
+
+        List<Object[]> uploads = new ArrayList<>(PAPERS);
+        List<Object[]> attachments = new ArrayList<>(PAPERS);
+        for (int i = 0; i < PAPERS; i++) {
+            boolean open = i % 50 == 0;
+            uploads.add(new Object[]{"paper-" + i + ".pdf", 1024L + i, open ? 0L : 1024L + i,
+                    open ? "IN_PROGRESS" : "COMPLETED", open ? null : firstFile + i, now, now});
+            attachments.add(new Object[]{firstPaper + i, firstFile + i, "paper-" + i + ".pdf", now});
+        }
+        jdbc.batchUpdate("INSERT INTO upload_sessions (file_name, total_size, received_bytes, status, stored_file_id, created_at, expires_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", uploads);
+        jdbc.batchUpdate("INSERT INTO paper_attachments (paper_id, stored_file_id, file_name, kind, created_at) "
+                + "VALUES (?, ?, ?, 'MANUSCRIPT', ?)", attachments);
+
+        // A year of hour rows and day rows per journal
+        List<Object[]> rollups = new ArrayList<>(JOURNALS * 366 * 25);
+        LocalDateTime firstDay = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(365);
+        for (int j = 1; j <= JOURNALS; j++) {
+            for (int d = 0; d < 366; d++) {
+                LocalDateTime day = firstDay.plusDays(d);
+                rollups.add(new Object[]{j, "DAY", Timestamp.valueOf(day), 24, now});
+                for (int h = 0; h < 24; h++) {
+                    rollups.add(new Object[]{j, "HOUR", Timestamp.valueOf(day.plusHours(h)), 1, now});
+                }
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO analytics_rollups (journal_id, granularity, bucket_start, submissions, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?)", rollups);
+
+        // Four events per paper, one per review and revision
+        List<Object[]> audit = new ArrayList<>(PAPERS * 8);
+        for (int i = 0; i < PAPERS; i++) {
+            long paperId = firstPaper + i;
+            int journalId = 1 + i % JOURNALS;
+            Timestamp at = Timestamp.valueOf(LocalDateTime.now().minusMinutes(i));
+            audit.add(new Object[]{at, journalId, "PAPER", paperId, "PAPER_SUBMITTED", firstUser + i % USERS});
+            audit.add(new Object[]{at, journalId, "PAPER", paperId, "PAPER_PLAGIARISM_SCORED", null});
+            audit.add(new Object[]{at, journalId, "PAPER", paperId, "PAPER_STATUS_CHANGED", firstUser});
+            audit.add(new Object[]{at, journalId, "PAPER", paperId, "PAPER_STATUS_CHANGED", firstUser});
+            for (int r = 0; r < 2; r++) {
+                audit.add(new Object[]{at, journalId, "REVIEW", paperId * 2 + r, "REVIEW_SUBMITTED", firstUser + (i + r * 7) % USERS});
+                audit.add(new Object[]{at, journalId, "REVISION", paperId * 2 + r, "REVISION_SUBMITTED", firstUser + i % USERS});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO audit_events (occurred_at, journal_id, entity_type, entity_id, action, actor_user_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", audit);
+    }
+}
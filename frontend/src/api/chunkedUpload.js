@@ -0,0 +1,47 @@
+import apiClient from './apiClient';
+
+const toHex = (buffer) =>
+  Array.from(new Uint8Array(buffer), (b) => b.toString(16).padStart(2, '0')).join('');
+
+const sha256 = async (blob) => toHex(await crypto.subtle.digest('SHA-256', await blob.arrayBuffer()));
+
+// Uploads a file in chunks, resuming from the server's offset after a failed chunk
+export async function uploadFile(file, { onProgress, maxRetries = 3 } = {}) {
+  const { data: session } = await apiClient.post('/uploads', {
+    fileName: file.name,
+    contentType: file.type || 'application/octet-stream',
+    totalSize: file.size,
+  });
+
+  let offset = session.receivedBytes;
+  let failures = 0;
+  while (offset < file.size) {
+    const chunk = file.slice(offset, offset + session.maxChunkSize);
+    try {
+      const { data } = await apiClient.put(`/uploads/${session.id}`, chunk, {
+        params: { offset },
+        headers: {
+          'Content-Type': 'application/octet-stream',
+          'X-Chunk-SHA256': await sha256(chunk),
+        },
+      });
+      offset = data.receivedBytes;
+      failures = 0;
+      onProgress?.(offset / file.size);
+    } catch (err) {
+      if (++failures > maxRetries) {
+        throw err;
+      }
+      const { data } = await apiClient.get(`/uploads/${session.id}`);
+      offset = data.receivedBytes;
+    }
+  }
+
+  const { data: completed } = await apiClient.post(`/uploads/${session.id}/complete`);
+  return completed;
+}
+
+export async function attachUpload(paperId, uploadId, kind = 'MANUSCRIPT', revisionId) {
+  const { data } = await apiClient.post(`/papers/${paperId}/attachments`, { uploadId, kind, revisionId });
+  return data;
+}
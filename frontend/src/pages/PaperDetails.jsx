@@ -14,7 +14,7 @@ export default function PaperDetails() {
 
   const fetchPaper = async () => {
     try {
-      const response = await axios.get(`/api/papers/${id}`, {
+      const response = await axios.get(`/api/papers/${id}/full`, {
         headers: { Authorization: `Bearer ${localStorage.getItem('authToken')}` }
       })
       setPaper(response.data)
@@ -23,7 +23,7 @@ export default function ReviewPanel() {
 
   const fetchPaper = async () => {
     try {
-      const response = await axios.get(`/api/papers/${paperId}`, {
+      const response = await axios.get(`/api/papers/${paperId}/full`, {
         headers: { Authorization: `Bearer ${localStorage.getItem('authToken')}` }
       })
       setPaper(response.data)
@@ -1,6 +1,7 @@
 import { useState } from 'react'
 import { useNavigate, Link } from 'react-router-dom'
 import axios from 'axios'
+import { uploadFile, attachUpload } from '../api/chunkedUpload'
 
 export default function SubmitPaper() {
   const [formData, setFormData] = useState({
@@ -8,6 +9,8 @@ export default function SubmitPaper() {
     abstractText: '',
     content: ''
   })
+  const [file, setFile] = useState(null)
+  const [progress, setProgress] = useState(null)
   const [error, setError] = useState('')
   const [success, setSuccess] = useState('')
   const [loading, setLoading] = useState(false)
@@ -28,12 +31,17 @@ export default function SubmitPaper() {
           const response = await axios.post('/api/papers', formData, {
             headers: { Authorization: `Bearer ${localStorage.getItem('authToken')}` }
       })
+      if (file) {
+        const upload = await uploadFile(file, { onProgress: setProgress })
+        await attachUpload(response.data.id, upload.id)
+      }
       setSuccess('Paper submitted successfully!')
       setTimeout(() => navigate('/dashboard'), 2000)
     } catch (err) {
       setError(err.response?.data?.message || 'Failed to submit paper')
     } finally {
       setLoading(false)
+      setProgress(null)
     }
   }
 
@@ -92,6 +100,17 @@ export default function SubmitPaper() {
             />
           </div>
 
+          <div className="form-group">
+            <label htmlFor="manuscript">Manuscript File (optional)</label>
+            <input
+              id="manuscript"
+              type="file"
+              accept=".pdf,.doc,.docx,.tex,.zip"
+              onChange={(e) => setFile(e.target.files[0] || null)}
+            />
+            {progress !== null && <div>Uploading... {Math.round(progress * 100)}%</div>}
+          </div>
+
           <button type="submit" className="btn btn-primary" disabled={loading}>
             {loading ? 'Submitting...' : 'Submit Paper'}
           </button>